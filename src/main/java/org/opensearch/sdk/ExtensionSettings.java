@@ -15,9 +15,14 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.yaml.snakeyaml.Yaml;
 
@@ -48,6 +53,38 @@ import static org.opensearch.sdk.ssl.SSLConfigConstants.SSL_TRANSPORT_TRUSTSTORE
  */
 public class ExtensionSettings {
 
+    /**
+     * The default minimum size, in bytes, of a REST response body before it is compressed.
+     */
+    public static final int DEFAULT_REST_RESPONSE_COMPRESSION_THRESHOLD = 1024;
+    /**
+     * The default maximum number of pooled HTTP connections from SDKClient to OpenSearch.
+     */
+    public static final int DEFAULT_HTTP_MAX_CONNECTIONS_TOTAL = 30;
+    /**
+     * The default maximum number of pooled HTTP connections from SDKClient to each OpenSearch node.
+     */
+    public static final int DEFAULT_HTTP_MAX_CONNECTIONS_PER_ROUTE = 10;
+    /**
+     * The default minimum size, in bytes, of a request body SDKClient sends to OpenSearch before it is compressed.
+     */
+    public static final int DEFAULT_HTTP_COMPRESSION_THRESHOLD = 1024;
+
+    /**
+     * The default maximum number of searches SDKClient coalesces into one multi-search request.
+     */
+    public static final int DEFAULT_SEARCH_COALESCING_MAX_BATCH_SIZE = 32;
+
+    /**
+     * The default time in seconds SDKClient serves a cached document without revalidating it.
+     */
+    public static final long DEFAULT_DOCUMENT_CACHE_TTL_SECONDS = 60;
+
+    /**
+     * The default interval in seconds at which SDKClusterService refreshes its index mapping cache from the cluster state.
+     */
+    public static final long DEFAULT_MAPPING_CACHE_REFRESH_INTERVAL_SECONDS = 30;
+
     private String extensionName;
     private String hostAddress;
     private String hostPort;
@@ -55,6 +92,27 @@ public class ExtensionSettings {
     private String opensearchPort;
     private String routeNamePrefix;
     private Map<String, String> securitySettings;
+    private boolean restResponseCompressionEnabled = false;
+    private int restResponseCompressionThreshold = DEFAULT_REST_RESPONSE_COMPRESSION_THRESHOLD;
+    private String restRateLimits;
+    private String restRateLimitClientHeader;
+    private int httpMaxConnectionsTotal = DEFAULT_HTTP_MAX_CONNECTIONS_TOTAL;
+    private int httpMaxConnectionsPerRoute = DEFAULT_HTTP_MAX_CONNECTIONS_PER_ROUTE;
+    private long httpIdleConnectionTimeoutSeconds = 0;
+    private long httpKeepAliveSeconds = 0;
+    private long httpSniffIntervalSeconds = 0;
+    private boolean httpCompressionEnabled = false;
+    private int httpCompressionThreshold = DEFAULT_HTTP_COMPRESSION_THRESHOLD;
+    private long searchCoalescingWindowMillis = 0;
+    private int searchCoalescingMaxBatchSize = DEFAULT_SEARCH_COALESCING_MAX_BATCH_SIZE;
+    private int documentCacheMaxEntries = 0;
+    private long documentCacheTtlSeconds = DEFAULT_DOCUMENT_CACHE_TTL_SECONDS;
+    private long documentCacheStaleWhileRevalidateSeconds = 0;
+    private int requestMaxRetries = 0;
+    private double requestHedgePercentile = 0;
+    private int requestConcurrencyLimit = 0;
+    private List<String> mappingCacheIndexPatterns = Collections.emptyList();
+    private long mappingCacheRefreshIntervalSeconds = DEFAULT_MAPPING_CACHE_REFRESH_INTERVAL_SECONDS;
 
     /**
      * A set of keys for security settings related to SSL transport, keystore and truststore files, and hostname verification.
@@ -211,6 +269,342 @@ public class ExtensionSettings {
         return securitySettings;
     }
 
+    /**
+     * Returns whether REST responses sent to OpenSearch may be compressed by the extension.
+     * @return true if REST response compression is enabled.
+     */
+    public boolean isRestResponseCompressionEnabled() {
+        return restResponseCompressionEnabled;
+    }
+
+    /**
+     * Sets whether REST responses sent to OpenSearch may be compressed by the extension.
+     * @param restResponseCompressionEnabled true to enable REST response compression.
+     */
+    public void setRestResponseCompressionEnabled(boolean restResponseCompressionEnabled) {
+        this.restResponseCompressionEnabled = restResponseCompressionEnabled;
+    }
+
+    /**
+     * Returns the minimum size of a REST response body, in bytes, before it is compressed.
+     * @return The compression threshold in bytes.
+     */
+    public int getRestResponseCompressionThreshold() {
+        return restResponseCompressionThreshold;
+    }
+
+    /**
+     * Sets the minimum size of a REST response body, in bytes, before it is compressed.
+     * @param restResponseCompressionThreshold The compression threshold in bytes.
+     */
+    public void setRestResponseCompressionThreshold(int restResponseCompressionThreshold) {
+        this.restResponseCompressionThreshold = restResponseCompressionThreshold;
+    }
+
+    /**
+     * Returns the initial per-route REST rate limits, as a comma-separated list of {@code route_name=permits_per_second[:burst]}.
+     * @return The rate limits, or null if REST requests are not rate limited.
+     */
+    public String getRestRateLimits() {
+        return restRateLimits;
+    }
+
+    /**
+     * Sets the initial per-route REST rate limits, as a comma-separated list of {@code route_name=permits_per_second[:burst]}.
+     * @param restRateLimits The rate limits, or null to not rate limit REST requests.
+     */
+    public void setRestRateLimits(String restRateLimits) {
+        this.restRateLimits = restRateLimits;
+    }
+
+    /**
+     * Returns the name of the request header identifying a client for REST rate limiting.
+     * @return The header name, or null if all clients share each route's limit.
+     */
+    public String getRestRateLimitClientHeader() {
+        return restRateLimitClientHeader;
+    }
+
+    /**
+     * Sets the name of the request header identifying a client for REST rate limiting.
+     * @param restRateLimitClientHeader The header name, or null to share each route's limit across all clients.
+     */
+    public void setRestRateLimitClientHeader(String restRateLimitClientHeader) {
+        this.restRateLimitClientHeader = restRateLimitClientHeader;
+    }
+
+    /**
+     * Returns the maximum number of pooled HTTP connections from SDKClient to OpenSearch.
+     * @return The maximum total connections.
+     */
+    public int getHttpMaxConnectionsTotal() {
+        return httpMaxConnectionsTotal;
+    }
+
+    /**
+     * Sets the maximum number of pooled HTTP connections from SDKClient to OpenSearch.
+     * @param httpMaxConnectionsTotal The maximum total connections.
+     */
+    public void setHttpMaxConnectionsTotal(int httpMaxConnectionsTotal) {
+        this.httpMaxConnectionsTotal = httpMaxConnectionsTotal;
+    }
+
+    /**
+     * Returns the maximum number of pooled HTTP connections from SDKClient to each OpenSearch node.
+     * @return The maximum connections per node.
+     */
+    public int getHttpMaxConnectionsPerRoute() {
+        return httpMaxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of pooled HTTP connections from SDKClient to each OpenSearch node.
+     * @param httpMaxConnectionsPerRoute The maximum connections per node.
+     */
+    public void setHttpMaxConnectionsPerRoute(int httpMaxConnectionsPerRoute) {
+        this.httpMaxConnectionsPerRoute = httpMaxConnectionsPerRoute;
+    }
+
+    /**
+     * Returns how long a pooled HTTP connection may be idle before it is evicted.
+     * @return The idle timeout in seconds, or 0 if idle connections are not evicted.
+     */
+    public long getHttpIdleConnectionTimeoutSeconds() {
+        return httpIdleConnectionTimeoutSeconds;
+    }
+
+    /**
+     * Sets how long a pooled HTTP connection may be idle before it is evicted.
+     * @param httpIdleConnectionTimeoutSeconds The idle timeout in seconds, or 0 to not evict idle connections.
+     */
+    public void setHttpIdleConnectionTimeoutSeconds(long httpIdleConnectionTimeoutSeconds) {
+        this.httpIdleConnectionTimeoutSeconds = httpIdleConnectionTimeoutSeconds;
+    }
+
+    /**
+     * Returns how long a pooled HTTP connection is kept alive for reuse.
+     * @return The keep-alive in seconds, or 0 to use the duration indicated by OpenSearch.
+     */
+    public long getHttpKeepAliveSeconds() {
+        return httpKeepAliveSeconds;
+    }
+
+    /**
+     * Sets how long a pooled HTTP connection is kept alive for reuse.
+     * @param httpKeepAliveSeconds The keep-alive in seconds, or 0 to use the duration indicated by OpenSearch.
+     */
+    public void setHttpKeepAliveSeconds(long httpKeepAliveSeconds) {
+        this.httpKeepAliveSeconds = httpKeepAliveSeconds;
+    }
+
+    /**
+     * Returns how often SDKClient discovers the OpenSearch nodes it balances requests across.
+     * @return The sniff interval in seconds, or 0 if only the configured OpenSearch node is used.
+     */
+    public long getHttpSniffIntervalSeconds() {
+        return httpSniffIntervalSeconds;
+    }
+
+    /**
+     * Sets how often SDKClient discovers the OpenSearch nodes it balances requests across.
+     * @param httpSniffIntervalSeconds The sniff interval in seconds, or 0 to only use the configured OpenSearch node.
+     */
+    public void setHttpSniffIntervalSeconds(long httpSniffIntervalSeconds) {
+        this.httpSniffIntervalSeconds = httpSniffIntervalSeconds;
+    }
+
+    /**
+     * Returns whether SDKClient compresses request bodies and accepts compressed responses from OpenSearch.
+     * @return true if HTTP compression is enabled.
+     */
+    public boolean isHttpCompressionEnabled() {
+        return httpCompressionEnabled;
+    }
+
+    /**
+     * Sets whether SDKClient compresses request bodies and accepts compressed responses from OpenSearch.
+     * @param httpCompressionEnabled true to enable HTTP compression.
+     */
+    public void setHttpCompressionEnabled(boolean httpCompressionEnabled) {
+        this.httpCompressionEnabled = httpCompressionEnabled;
+    }
+
+    /**
+     * Returns the minimum size of a request body, in bytes, before SDKClient compresses it.
+     * @return The compression threshold in bytes.
+     */
+    public int getHttpCompressionThreshold() {
+        return httpCompressionThreshold;
+    }
+
+    /**
+     * Sets the minimum size of a request body, in bytes, before SDKClient compresses it.
+     * @param httpCompressionThreshold The compression threshold in bytes.
+     */
+    public void setHttpCompressionThreshold(int httpCompressionThreshold) {
+        this.httpCompressionThreshold = httpCompressionThreshold;
+    }
+
+    /**
+     * Returns how long SDKClient waits to coalesce concurrent searches into one multi-search request.
+     * @return The window in milliseconds, or 0 if searches are not coalesced.
+     */
+    public long getSearchCoalescingWindowMillis() {
+        return searchCoalescingWindowMillis;
+    }
+
+    /**
+     * Sets how long SDKClient waits to coalesce concurrent searches into one multi-search request.
+     * @param searchCoalescingWindowMillis The window in milliseconds, or 0 to not coalesce searches.
+     */
+    public void setSearchCoalescingWindowMillis(long searchCoalescingWindowMillis) {
+        this.searchCoalescingWindowMillis = searchCoalescingWindowMillis;
+    }
+
+    /**
+     * Returns the maximum number of searches SDKClient coalesces into one multi-search request.
+     * @return The maximum batch size.
+     */
+    public int getSearchCoalescingMaxBatchSize() {
+        return searchCoalescingMaxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of searches SDKClient coalesces into one multi-search request.
+     * @param searchCoalescingMaxBatchSize The maximum batch size.
+     */
+    public void setSearchCoalescingMaxBatchSize(int searchCoalescingMaxBatchSize) {
+        this.searchCoalescingMaxBatchSize = searchCoalescingMaxBatchSize;
+    }
+
+    /**
+     * Returns the maximum number of documents SDKClient caches from get and multi-get requests.
+     * @return The maximum number of cached documents, or 0 if documents are not cached.
+     */
+    public int getDocumentCacheMaxEntries() {
+        return documentCacheMaxEntries;
+    }
+
+    /**
+     * Sets the maximum number of documents SDKClient caches from get and multi-get requests.
+     * @param documentCacheMaxEntries The maximum number of cached documents, or 0 to not cache documents.
+     */
+    public void setDocumentCacheMaxEntries(int documentCacheMaxEntries) {
+        this.documentCacheMaxEntries = documentCacheMaxEntries;
+    }
+
+    /**
+     * Returns how long SDKClient serves a cached document without revalidating it.
+     * @return The time to live in seconds.
+     */
+    public long getDocumentCacheTtlSeconds() {
+        return documentCacheTtlSeconds;
+    }
+
+    /**
+     * Sets how long SDKClient serves a cached document without revalidating it.
+     * @param documentCacheTtlSeconds The time to live in seconds.
+     */
+    public void setDocumentCacheTtlSeconds(long documentCacheTtlSeconds) {
+        this.documentCacheTtlSeconds = documentCacheTtlSeconds;
+    }
+
+    /**
+     * Returns how long after its time to live SDKClient serves a stale cached document while revalidating it.
+     * @return The stale-while-revalidate window in seconds, or 0 if stale documents are not served.
+     */
+    public long getDocumentCacheStaleWhileRevalidateSeconds() {
+        return documentCacheStaleWhileRevalidateSeconds;
+    }
+
+    /**
+     * Sets how long after its time to live SDKClient serves a stale cached document while revalidating it.
+     * @param documentCacheStaleWhileRevalidateSeconds The stale-while-revalidate window in seconds, or 0 to not serve stale documents.
+     */
+    public void setDocumentCacheStaleWhileRevalidateSeconds(long documentCacheStaleWhileRevalidateSeconds) {
+        this.documentCacheStaleWhileRevalidateSeconds = documentCacheStaleWhileRevalidateSeconds;
+    }
+
+    /**
+     * Returns how many times SDKClient retries an idempotent request failing with a transient error.
+     * @return The maximum number of retries, or 0 if requests are not retried.
+     */
+    public int getRequestMaxRetries() {
+        return requestMaxRetries;
+    }
+
+    /**
+     * Sets how many times SDKClient retries an idempotent request failing with a transient error.
+     * @param requestMaxRetries The maximum number of retries, or 0 to not retry requests.
+     */
+    public void setRequestMaxRetries(int requestMaxRetries) {
+        this.requestMaxRetries = requestMaxRetries;
+    }
+
+    /**
+     * Returns the percentile of recent latencies after which SDKClient hedges an idempotent request by sending it again.
+     * @return The percentile, or 0 if requests are not hedged.
+     */
+    public double getRequestHedgePercentile() {
+        return requestHedgePercentile;
+    }
+
+    /**
+     * Sets the percentile of recent latencies after which SDKClient hedges an idempotent request by sending it again.
+     * @param requestHedgePercentile The percentile, e.g. 95, or 0 to not hedge requests.
+     */
+    public void setRequestHedgePercentile(double requestHedgePercentile) {
+        this.requestHedgePercentile = requestHedgePercentile;
+    }
+
+    /**
+     * Returns the maximum number of concurrent requests from SDKClient, below which the limit adapts to OpenSearch's load.
+     * @return The maximum concurrency limit, or 0 if concurrency is not limited.
+     */
+    public int getRequestConcurrencyLimit() {
+        return requestConcurrencyLimit;
+    }
+
+    /**
+     * Sets the maximum number of concurrent requests from SDKClient, below which the limit adapts to OpenSearch's load.
+     * @param requestConcurrencyLimit The maximum concurrency limit, or 0 to not limit concurrency.
+     */
+    public void setRequestConcurrencyLimit(int requestConcurrencyLimit) {
+        this.requestConcurrencyLimit = requestConcurrencyLimit;
+    }
+
+    /**
+     * Returns the patterns of the names of indices whose mappings and settings SDKClusterService prefetches and keeps cached.
+     * @return The index patterns, empty if indices are only cached when looked up.
+     */
+    public List<String> getMappingCacheIndexPatterns() {
+        return mappingCacheIndexPatterns;
+    }
+
+    /**
+     * Sets the patterns of the names of indices whose mappings and settings SDKClusterService prefetches and keeps cached.
+     * @param mappingCacheIndexPatterns The index patterns, such as {@code logs-*}.
+     */
+    public void setMappingCacheIndexPatterns(List<String> mappingCacheIndexPatterns) {
+        this.mappingCacheIndexPatterns = List.copyOf(mappingCacheIndexPatterns);
+    }
+
+    /**
+     * Returns the interval at which SDKClusterService refreshes its index mapping cache from the cluster state.
+     * @return The refresh interval in seconds, or 0 if the cache is not refreshed.
+     */
+    public long getMappingCacheRefreshIntervalSeconds() {
+        return mappingCacheRefreshIntervalSeconds;
+    }
+
+    /**
+     * Sets the interval at which SDKClusterService refreshes its index mapping cache from the cluster state.
+     * @param mappingCacheRefreshIntervalSeconds The refresh interval in seconds, or 0 to not refresh the cache.
+     */
+    public void setMappingCacheRefreshIntervalSeconds(long mappingCacheRefreshIntervalSeconds) {
+        this.mappingCacheRefreshIntervalSeconds = mappingCacheRefreshIntervalSeconds;
+    }
+
     @Override
     public String toString() {
         return "ExtensionSettings{extensionName="
@@ -258,7 +652,7 @@ public class ExtensionSettings {
             if (extensionMap.containsKey("routeNamePrefix")) {
                 routeNamePrefix = extensionMap.get("routeNamePrefix").toString();
             }
-            return new ExtensionSettings(
+            ExtensionSettings extensionSettings = new ExtensionSettings(
                 extensionMap.get("extensionName").toString(),
                 extensionMap.get("hostAddress").toString(),
                 extensionMap.get("hostPort").toString(),
@@ -267,6 +661,122 @@ public class ExtensionSettings {
                 routeNamePrefix,
                 securitySettings
             );
+
+            // Optional REST response compression settings
+            if (extensionMap.containsKey("restResponseCompression")) {
+                extensionSettings.setRestResponseCompressionEnabled(
+                    Boolean.parseBoolean(extensionMap.get("restResponseCompression").toString())
+                );
+            }
+            if (extensionMap.containsKey("restResponseCompressionThreshold")) {
+                extensionSettings.setRestResponseCompressionThreshold(
+                    Integer.parseInt(extensionMap.get("restResponseCompressionThreshold").toString())
+                );
+            }
+            // Optional REST rate limit settings, either a string or a map of route name to limit
+            Object restRateLimits = extensionMap.get("restRateLimits");
+            if (restRateLimits instanceof Map) {
+                List<String> limits = new ArrayList<>();
+                for (Map.Entry<?, ?> limit : ((Map<?, ?>) restRateLimits).entrySet()) {
+                    // YAML 1.1 reads an unquoted 100:20 as the base 60 integer 6020, so limits must be quoted strings
+                    if (!(limit.getValue() instanceof String)) {
+                        throw new IOException(
+                            "restRateLimits value of route ["
+                                + limit.getKey()
+                                + "] must be a quoted string such as \"100:20\" but was ["
+                                + limit.getValue()
+                                + "]"
+                        );
+                    }
+                    limits.add(limit.getKey() + "=" + limit.getValue());
+                }
+                extensionSettings.setRestRateLimits(String.join(",", limits));
+            } else if (restRateLimits != null) {
+                extensionSettings.setRestRateLimits(restRateLimits.toString());
+            }
+            if (extensionMap.containsKey("restRateLimitClientHeader")) {
+                extensionSettings.setRestRateLimitClientHeader(extensionMap.get("restRateLimitClientHeader").toString());
+            }
+            // Optional HTTP connection pool settings for SDKClient
+            if (extensionMap.containsKey("httpMaxConnectionsTotal")) {
+                extensionSettings.setHttpMaxConnectionsTotal(Integer.parseInt(extensionMap.get("httpMaxConnectionsTotal").toString()));
+            }
+            if (extensionMap.containsKey("httpMaxConnectionsPerRoute")) {
+                extensionSettings.setHttpMaxConnectionsPerRoute(
+                    Integer.parseInt(extensionMap.get("httpMaxConnectionsPerRoute").toString())
+                );
+            }
+            if (extensionMap.containsKey("httpIdleConnectionTimeoutSeconds")) {
+                extensionSettings.setHttpIdleConnectionTimeoutSeconds(
+                    Long.parseLong(extensionMap.get("httpIdleConnectionTimeoutSeconds").toString())
+                );
+            }
+            if (extensionMap.containsKey("httpKeepAliveSeconds")) {
+                extensionSettings.setHttpKeepAliveSeconds(Long.parseLong(extensionMap.get("httpKeepAliveSeconds").toString()));
+            }
+            if (extensionMap.containsKey("httpSniffIntervalSeconds")) {
+                extensionSettings.setHttpSniffIntervalSeconds(Long.parseLong(extensionMap.get("httpSniffIntervalSeconds").toString()));
+            }
+            // Optional HTTP compression settings for SDKClient
+            if (extensionMap.containsKey("httpCompression")) {
+                extensionSettings.setHttpCompressionEnabled(Boolean.parseBoolean(extensionMap.get("httpCompression").toString()));
+            }
+            if (extensionMap.containsKey("httpCompressionThreshold")) {
+                extensionSettings.setHttpCompressionThreshold(Integer.parseInt(extensionMap.get("httpCompressionThreshold").toString()));
+            }
+            // Optional search coalescing settings for SDKClient
+            if (extensionMap.containsKey("searchCoalescingWindowMillis")) {
+                extensionSettings.setSearchCoalescingWindowMillis(
+                    Long.parseLong(extensionMap.get("searchCoalescingWindowMillis").toString())
+                );
+            }
+            if (extensionMap.containsKey("searchCoalescingMaxBatchSize")) {
+                extensionSettings.setSearchCoalescingMaxBatchSize(
+                    Integer.parseInt(extensionMap.get("searchCoalescingMaxBatchSize").toString())
+                );
+            }
+            // Optional document cache settings for SDKClient
+            if (extensionMap.containsKey("documentCacheMaxEntries")) {
+                extensionSettings.setDocumentCacheMaxEntries(Integer.parseInt(extensionMap.get("documentCacheMaxEntries").toString()));
+            }
+            if (extensionMap.containsKey("documentCacheTtlSeconds")) {
+                extensionSettings.setDocumentCacheTtlSeconds(Long.parseLong(extensionMap.get("documentCacheTtlSeconds").toString()));
+            }
+            if (extensionMap.containsKey("documentCacheStaleWhileRevalidateSeconds")) {
+                extensionSettings.setDocumentCacheStaleWhileRevalidateSeconds(
+                    Long.parseLong(extensionMap.get("documentCacheStaleWhileRevalidateSeconds").toString())
+                );
+            }
+            // Optional request policy settings for SDKClient
+            if (extensionMap.containsKey("requestMaxRetries")) {
+                extensionSettings.setRequestMaxRetries(Integer.parseInt(extensionMap.get("requestMaxRetries").toString()));
+            }
+            if (extensionMap.containsKey("requestHedgePercentile")) {
+                extensionSettings.setRequestHedgePercentile(Double.parseDouble(extensionMap.get("requestHedgePercentile").toString()));
+            }
+            if (extensionMap.containsKey("requestConcurrencyLimit")) {
+                extensionSettings.setRequestConcurrencyLimit(Integer.parseInt(extensionMap.get("requestConcurrencyLimit").toString()));
+            }
+            // Optional index mapping cache settings for SDKClusterService, either a list or a comma-separated string of patterns
+            Object mappingCacheIndexPatterns = extensionMap.get("mappingCacheIndexPatterns");
+            if (mappingCacheIndexPatterns instanceof List) {
+                extensionSettings.setMappingCacheIndexPatterns(
+                    ((List<?>) mappingCacheIndexPatterns).stream().map(Object::toString).collect(Collectors.toList())
+                );
+            } else if (mappingCacheIndexPatterns != null) {
+                extensionSettings.setMappingCacheIndexPatterns(
+                    Arrays.stream(mappingCacheIndexPatterns.toString().split(","))
+                        .map(String::trim)
+                        .filter(pattern -> !pattern.isEmpty())
+                        .collect(Collectors.toList())
+                );
+            }
+            if (extensionMap.containsKey("mappingCacheRefreshIntervalSeconds")) {
+                extensionSettings.setMappingCacheRefreshIntervalSeconds(
+                    Long.parseLong(extensionMap.get("mappingCacheRefreshIntervalSeconds").toString())
+                );
+            }
+            return extensionSettings;
         } catch (URISyntaxException e) {
             throw new IOException("Error reading from extension.yml");
         }
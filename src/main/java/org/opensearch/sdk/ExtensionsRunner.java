@@ -28,8 +28,10 @@ import org.opensearch.extensions.DiscoveryExtensionNode;
 import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.extensions.UpdateSettingsRequest;
 import org.opensearch.extensions.action.ExtensionActionRequest;
+import org.opensearch.sdk.action.BatchedUpdateSettingsRequest;
 import org.opensearch.sdk.action.SDKActionModule;
 import org.opensearch.sdk.api.ActionExtension;
+import org.opensearch.sdk.cache.SDKCacheService;
 import org.opensearch.sdk.handlers.ExtensionActionRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsIndicesModuleNameRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsIndicesModuleRequestHandler;
@@ -39,6 +41,8 @@ import org.opensearch.sdk.handlers.UpdateSettingsRequestHandler;
 import org.opensearch.sdk.rest.BaseExtensionRestHandler;
 import org.opensearch.sdk.rest.ExtensionRestHandler;
 import org.opensearch.sdk.rest.ExtensionRestPathRegistry;
+import org.opensearch.sdk.rest.ExtensionRestRateLimiter;
+import org.opensearch.sdk.rest.ExtensionRestResponseCompressor;
 import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.RunnableTaskExecutionListener;
@@ -78,7 +82,7 @@ public class ExtensionsRunner {
     private final Extension extension;
 
     // Set when initialization is complete
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
 
     /**
      * This field is initialized by a call from {@link ExtensionsInitRequestHandler}.
@@ -127,6 +131,7 @@ public class ExtensionsRunner {
     private final SDKClient sdkClient;
     private final SDKClusterService sdkClusterService;
     private final SDKTransportService sdkTransportService;
+    private final SDKCacheService sdkCacheService = new SDKCacheService();
     private final SDKActionModule sdkActionModule;
 
     private final ExtensionsInitRequestHandler extensionsInitRequestHandler = new ExtensionsInitRequestHandler(this);
@@ -134,6 +139,7 @@ public class ExtensionsRunner {
     private final ExtensionsIndicesModuleNameRequestHandler extensionsIndicesModuleNameRequestHandler =
         new ExtensionsIndicesModuleNameRequestHandler();
     private final ExtensionsRestRequestHandler extensionsRestRequestHandler;
+    private final ExtensionRestRateLimiter restRateLimiter;
     private final ExtensionActionRequestHandler extensionsActionRequestHandler;
     private final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener;
     private final IndexNameExpressionResolver indexNameExpressionResolver;
@@ -189,8 +195,20 @@ public class ExtensionsRunner {
         this.customNamedWriteables = extension.getNamedWriteables();
         // initialize NamedXContent Registry.
         this.sdkNamedXContentRegistry = new SDKNamedXContentRegistry(this);
+        // initialize REST rate limits from the extension settings
+        this.restRateLimiter = new ExtensionRestRateLimiter(extensionSettings.getRestRateLimitClientHeader());
+        this.restRateLimiter.setLimits(extensionSettings.getRestRateLimits());
         // initialize RestRequest Handler. Must happen after instantiating SDKNamedXContentRegistry
-        this.extensionsRestRequestHandler = new ExtensionsRestRequestHandler(extensionRestPathRegistry, sdkNamedXContentRegistry);
+        this.extensionsRestRequestHandler = new ExtensionsRestRequestHandler(
+            extensionRestPathRegistry,
+            sdkNamedXContentRegistry,
+            extensionSettings.isRestResponseCompressionEnabled()
+                ? new ExtensionRestResponseCompressor(extensionSettings.getRestResponseCompressionThreshold())
+                : null,
+            restRateLimiter,
+            taskManager,
+            threadPool
+        );
         // initialize NamedWriteable Registry. Must happen after getting extension namedWriteable
         this.sdkNamedWriteableRegistry = new SDKNamedWriteableRegistry(this);
 
@@ -198,6 +216,11 @@ public class ExtensionsRunner {
         this.sdkClient = new SDKClient(extensionSettings);
         // initialize SDKClusterService. Must happen after extension field assigned
         this.sdkClusterService = new SDKClusterService(this);
+        // allow REST rate limits to be updated dynamically if the extension registered the setting
+        if (customSettings.contains(ExtensionRestRateLimiter.REST_RATE_LIMITS_SETTING)) {
+            sdkClusterService.getClusterSettings()
+                .addSettingsUpdateConsumer(ExtensionRestRateLimiter.REST_RATE_LIMITS_SETTING, restRateLimiter::setLimits);
+        }
         // initialize SDKTransportService. Must happen after extension field assigned
         this.sdkTransportService = new SDKTransportService();
 
@@ -216,6 +239,7 @@ public class ExtensionsRunner {
             b.bind(SDKClient.class).toInstance(getSdkClient());
             b.bind(SDKClusterService.class).toInstance(getSdkClusterService());
             b.bind(SDKTransportService.class).toInstance(getSdkTransportService());
+            b.bind(SDKCacheService.class).toInstance(getSdkCacheService());
         });
         // Bind the return values from create components
         modules.add(this::injectComponents);
@@ -229,7 +253,7 @@ public class ExtensionsRunner {
         // initialize SDKClient action map
         initializeSdkClient();
 
-        extensionsActionRequestHandler = new ExtensionActionRequestHandler(getSdkClient());
+        extensionsActionRequestHandler = new ExtensionActionRequestHandler(getSdkClient(), taskManager);
 
         if (extension instanceof ActionExtension) {
             // store REST handlers in the registry
@@ -421,6 +445,18 @@ public class ExtensionsRunner {
             ((request, channel, task) -> channel.sendResponse(updateSettingsRequestHandler.handleUpdateSettingsRequest(request)))
         );
 
+        // This handles several setting updates in one call, applying them in a single consumer pass
+        transportService.registerRequestHandler(
+            BatchedUpdateSettingsRequest.ACTION_NAME,
+            ThreadPool.Names.GENERIC,
+            false,
+            false,
+            BatchedUpdateSettingsRequest::new,
+            ((request, channel, task) -> channel.sendResponse(
+                updateSettingsRequestHandler.handleUpdateSettingsRequests(request.getUpdateSettingsRequests())
+            ))
+        );
+
         // This handles a remote extension request from OpenSearch or a plugin, sending an ExtensionActionResponse
         transportService.registerRequestHandler(
             ExtensionsManager.REQUEST_EXTENSION_HANDLE_TRANSPORT_ACTION,
@@ -492,6 +528,15 @@ public class ExtensionsRunner {
         return extensionRestPathRegistry;
     }
 
+    /**
+     * Returns the limiter applied to requests to named REST routes
+     *
+     * @return The ExtensionRestRateLimiter object for this instance.
+     */
+    public ExtensionRestRateLimiter getRestRateLimiter() {
+        return restRateLimiter;
+    }
+
     /**
      * Returns the update settings request handler
      *
@@ -562,6 +607,15 @@ public class ExtensionsRunner {
         return sdkTransportService;
     }
 
+    /**
+     * Returns the SDKCacheService instance associated with this class, which creates the named caches of the extension.
+     *
+     * @return The SDKCacheService instance.
+     */
+    public SDKCacheService getSdkCacheService() {
+        return sdkCacheService;
+    }
+
     /**
      * Starts an ActionListener.
      *
@@ -581,6 +635,8 @@ public class ExtensionsRunner {
     public static void run(Extension extension) throws IOException {
         logger.info("Starting extension " + extension.getExtensionSettings().getExtensionName());
         ExtensionsRunner runner = new ExtensionsRunner(extension);
+        // release the off-heap memory and memory-mapped files of the extension's caches
+        Runtime.getRuntime().addShutdownHook(new Thread(runner.getSdkCacheService()::close, "sdk-cache-shutdown"));
         // initialize the transport service
         NettyTransport nettyTransport = new NettyTransport(runner);
         runner.getSdkTransportService()
@@ -0,0 +1,332 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Settings;
+
+/**
+ * Caches the mappings and settings of indices from the cluster state, so that extensions looking up field types or index settings
+ * repeatedly read them from memory rather than requesting them from OpenSearch.
+ * <p>
+ * An index is loaded from the cluster state the first time it is looked up, or ahead of time with {@link #prefetch()} if it matches
+ * one of the configured index patterns. {@link #refresh()} fetches the cluster state again and replaces the indices whose metadata
+ * version changed, notifying the change listeners. Indices which do not exist are cached as missing until a refresh finds them.
+ * <p>
+ * Lookups of indices which are not cached read the metadata of the last fetched cluster state, so the cluster state is only fetched
+ * on the caller's thread by the first lookup after the cache is created or invalidated, rather than by every lookup of another index.
+ */
+public class IndexMappingCache {
+    private static final Logger logger = LogManager.getLogger(IndexMappingCache.class);
+
+    private static final CachedIndex MISSING = new CachedIndex(null, -1, null, null, Collections.emptyMap());
+
+    private final Supplier<ClusterState> clusterState;
+    private final String[] indexPatterns;
+    private final Map<String, CachedIndex> indices = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
+    private final Object fetchLock = new Object();
+    // The metadata of the last fetched or applied cluster state, or null if it must be fetched again
+    private volatile Metadata metadata;
+
+    /**
+     * Instantiate this cache.
+     *
+     * @param clusterState A supplier fetching the cluster state from OpenSearch, which may return null if it could not be fetched or
+     *     throw an {@link IllegalStateException} if it cannot be fetched yet.
+     * @param indexPatterns Patterns of the names of indices to prefetch and keep cached, such as {@code logs-*}.
+     */
+    public IndexMappingCache(Supplier<ClusterState> clusterState, List<String> indexPatterns) {
+        this.clusterState = clusterState;
+        this.indexPatterns = indexPatterns.toArray(new String[0]);
+    }
+
+    /**
+     * Adds a listener notified with the name of a cached index when its mapping or settings change or it is deleted.
+     *
+     * @param listener The listener.
+     */
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Gets the mapping of an index.
+     *
+     * @param index The index name.
+     * @return The mapping, or null if the index does not exist or has no mapping.
+     */
+    @Nullable
+    public MappingMetadata getMapping(String index) {
+        return get(index).mapping;
+    }
+
+    /**
+     * Gets the settings of an index.
+     *
+     * @param index The index name.
+     * @return The settings, or null if the index does not exist.
+     */
+    @Nullable
+    public Settings getIndexSettings(String index) {
+        return get(index).settings;
+    }
+
+    /**
+     * Gets the type of a field of an index.
+     *
+     * @param index The index name.
+     * @param field The full path of the field, such as {@code user.name} or the multi-field {@code title.keyword}.
+     * @return The field type, such as {@code keyword}, {@code object} or {@code nested}, or null if the field is not mapped. The type of
+     *     an alias is the type of the field it points to.
+     */
+    @Nullable
+    public String getFieldType(String index, String field) {
+        return get(index).fieldTypes.get(field);
+    }
+
+    /**
+     * Gets the types of all fields of an index.
+     *
+     * @param index The index name.
+     * @return An unmodifiable map of the full path of each field to its type, empty if the index does not exist.
+     */
+    public Map<String, String> getFieldTypes(String index) {
+        return get(index).fieldTypes;
+    }
+
+    /**
+     * Loads the indices matching the index patterns which are not cached yet.
+     */
+    public void prefetch() {
+        if (indexPatterns.length > 0) {
+            refresh();
+        }
+    }
+
+    /**
+     * Fetches the cluster state and updates the cached indices from it.
+     */
+    public void refresh() {
+        if (indices.isEmpty() && indexPatterns.length == 0) {
+            return;
+        }
+        ClusterState state = fetch();
+        if (state != null) {
+            apply(state);
+        }
+    }
+
+    /**
+     * Updates the cached indices from a cluster state. An index matching the index patterns is added, a cached index whose metadata
+     * version or uuid differs is replaced, and a cached index which no longer exists is marked missing.
+     *
+     * @param state The cluster state.
+     */
+    public void apply(ClusterState state) {
+        this.metadata = state.metadata();
+        for (IndexMetadata indexMetadata : state.metadata()) {
+            String name = indexMetadata.getIndex().getName();
+            CachedIndex cached = indices.get(name);
+            if (cached == null && !Regex.simpleMatch(indexPatterns, name)) {
+                continue;
+            }
+            if (cached == null || !cached.isCurrent(indexMetadata)) {
+                indices.put(name, CachedIndex.of(indexMetadata));
+                notifyIfChanged(name, cached);
+            }
+        }
+        for (Map.Entry<String, CachedIndex> entry : indices.entrySet()) {
+            if (entry.getValue() != MISSING && state.metadata().index(entry.getKey()) == null) {
+                indices.put(entry.getKey(), MISSING);
+                notifyIfChanged(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes an index from the cache, so that it is loaded again from a newly fetched cluster state the next time it is looked up.
+     *
+     * @param index The index name.
+     */
+    public void invalidate(String index) {
+        indices.remove(index);
+        metadata = null;
+    }
+
+    /**
+     * Removes all indices from the cache.
+     */
+    public void invalidateAll() {
+        indices.clear();
+        metadata = null;
+    }
+
+    private CachedIndex get(String index) {
+        CachedIndex cached = indices.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        Metadata current = metadata();
+        if (current == null) {
+            // Not cached, so that the index is looked up again once the cluster state can be fetched
+            return MISSING;
+        }
+        IndexMetadata indexMetadata = current.index(index);
+        cached = indexMetadata == null ? MISSING : CachedIndex.of(indexMetadata);
+        CachedIndex previous = indices.putIfAbsent(index, cached);
+        return previous == null ? cached : previous;
+    }
+
+    /**
+     * Gets the metadata of the last fetched cluster state, fetching the cluster state if it was not fetched since the cache was
+     * created or invalidated. Concurrent lookups wait for a single fetch.
+     *
+     * @return The metadata, or null if the cluster state could not be fetched.
+     */
+    @Nullable
+    private Metadata metadata() {
+        Metadata current = metadata;
+        if (current != null) {
+            return current;
+        }
+        synchronized (fetchLock) {
+            if (metadata == null) {
+                ClusterState state = fetch();
+                if (state != null) {
+                    metadata = state.metadata();
+                }
+            }
+            return metadata;
+        }
+    }
+
+    @Nullable
+    private ClusterState fetch() {
+        try {
+            return clusterState.get();
+        } catch (IllegalStateException e) {
+            // The cluster state cannot be requested before the extension is initialized
+            logger.debug("Cluster state is not available yet", e);
+            return null;
+        }
+    }
+
+    private void notifyIfChanged(String index, @Nullable CachedIndex previous) {
+        // An index loaded for the first time, or created after being looked up, is not a change
+        if (previous == null || previous == MISSING) {
+            return;
+        }
+        for (Consumer<String> listener : changeListeners) {
+            try {
+                listener.accept(index);
+            } catch (Exception e) {
+                logger.warn("Index mapping change listener failed for index [" + index + "]", e);
+            }
+        }
+    }
+
+    /**
+     * Flattens the properties of a mapping to the full path and type of each field, including multi-fields.
+     *
+     * @param prefix The path of the object holding the properties, followed by a dot, or empty at the root.
+     * @param properties The properties.
+     * @param fieldTypes The map to add field types to.
+     * @param aliases The map to add the target path of each alias to.
+     */
+    @SuppressWarnings("unchecked")
+    private static void flatten(
+        String prefix,
+        Map<String, Object> properties,
+        Map<String, String> fieldTypes,
+        Map<String, String> aliases
+    ) {
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            if (!(property.getValue() instanceof Map)) {
+                continue;
+            }
+            String path = prefix + property.getKey();
+            Map<String, Object> field = (Map<String, Object>) property.getValue();
+            Object type = field.get("type");
+            fieldTypes.put(path, type == null ? "object" : type.toString());
+            if ("alias".equals(type) && field.get("path") != null) {
+                aliases.put(path, field.get("path").toString());
+            }
+            if (field.get("properties") instanceof Map) {
+                flatten(path + ".", (Map<String, Object>) field.get("properties"), fieldTypes, aliases);
+            }
+            if (field.get("fields") instanceof Map) {
+                flatten(path + ".", (Map<String, Object>) field.get("fields"), fieldTypes, aliases);
+            }
+        }
+    }
+
+    /**
+     * The cached mapping and settings of an index.
+     */
+    private static final class CachedIndex {
+        private final String uuid;
+        private final long version;
+        private final MappingMetadata mapping;
+        private final Settings settings;
+        private final Map<String, String> fieldTypes;
+
+        private CachedIndex(String uuid, long version, MappingMetadata mapping, Settings settings, Map<String, String> fieldTypes) {
+            this.uuid = uuid;
+            this.version = version;
+            this.mapping = mapping;
+            this.settings = settings;
+            this.fieldTypes = fieldTypes;
+        }
+
+        @SuppressWarnings("unchecked")
+        static CachedIndex of(IndexMetadata indexMetadata) {
+            MappingMetadata mapping = indexMetadata.mapping();
+            Map<String, String> fieldTypes = new HashMap<>();
+            if (mapping != null && mapping.sourceAsMap().get("properties") instanceof Map) {
+                Map<String, String> aliases = new HashMap<>();
+                flatten("", (Map<String, Object>) mapping.sourceAsMap().get("properties"), fieldTypes, aliases);
+                for (Map.Entry<String, String> alias : aliases.entrySet()) {
+                    String targetType = fieldTypes.get(alias.getValue());
+                    if (targetType != null) {
+                        fieldTypes.put(alias.getKey(), targetType);
+                    }
+                }
+            }
+            return new CachedIndex(
+                indexMetadata.getIndexUUID(),
+                indexMetadata.getVersion(),
+                mapping,
+                indexMetadata.getSettings(),
+                Collections.unmodifiableMap(fieldTypes)
+            );
+        }
+
+        boolean isCurrent(IndexMetadata indexMetadata) {
+            return this != MISSING && version == indexMetadata.getVersion() && uuid.equals(indexMetadata.getIndexUUID());
+        }
+    }
+}
@@ -14,7 +14,15 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,8 +30,13 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.hc.core5.function.Factory;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
@@ -35,6 +48,7 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionResponse;
 import org.opensearch.action.ActionType;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
 import org.opensearch.action.admin.cluster.health.ClusterHealthResponse;
 import org.opensearch.action.admin.cluster.settings.ClusterUpdateSettingsRequest;
@@ -52,6 +66,10 @@ import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.DeletePitResponse;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
@@ -72,6 +90,7 @@ import org.opensearch.client.Requests;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.Request;
 import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
 import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.RestHighLevelClient;
@@ -90,8 +109,32 @@ import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.extensions.action.RemoteExtensionActionResponse;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.TaskCancelledException;
+import org.opensearch.sdk.action.RemoteExtensionAction;
+import org.opensearch.sdk.action.RemoteExtensionActionRequest;
+import org.opensearch.sdk.client.AdaptiveConcurrencyLimiter;
+import org.opensearch.sdk.client.DocumentCache;
+import org.opensearch.sdk.client.LoadAwareNodeSelector;
+import org.opensearch.sdk.client.NodesSniffer;
+import org.opensearch.sdk.client.PreparedSearch;
+import org.opensearch.sdk.client.RequestCompressionHandler;
+import org.opensearch.sdk.client.RequestPolicy;
+import org.opensearch.sdk.client.RequestPolicy.RequestClass;
+import org.opensearch.sdk.client.SDKRestHighLevelClient;
+import org.opensearch.sdk.client.SearchCoalescer;
+import org.opensearch.sdk.client.SearchHitIterator;
+import org.opensearch.sdk.client.ShardRoutingBulkSplitter;
+import org.opensearch.sdk.client.SlicedSearchScanner;
 
 import javax.net.ssl.SSLEngine;
 
@@ -99,12 +142,28 @@ import javax.net.ssl.SSLEngine;
  * This class creates SDKClient for an extension to make requests to OpenSearch
  */
 public class SDKClient implements Closeable {
+    private static final Logger logger = LogManager.getLogger(SDKClient.class);
+
     private OpenSearchClient javaClient;
-    private RestClient restClient;
+    private RestClient javaClientRestClient;
     private SDKRestClient sdkRestClient;
     private OpenSearchAsyncClient javaAsyncClient;
+    private RestClient javaAsyncClientRestClient;
     private final ExtensionSettings extensionSettings;
 
+    // Shared by all clients of the configured OpenSearch node, created lazily and closed when the last client using it is closed
+    private RestClient sharedRestClient;
+    private int sharedRestClientReferences = 0;
+    // Shared by all clients, created lazily
+    private TlsStrategy tlsStrategy;
+    private JacksonJsonpMapper jsonpMapper;
+    // Balances requests across the nodes of the shared client, which are discovered when sniffing is enabled
+    private final LoadAwareNodeSelector nodeSelector = new LoadAwareNodeSelector();
+    private final NodesSniffer nodesSniffer = new NodesSniffer();
+    private volatile Map<String, Node> sniffedNodes = Collections.emptyMap();
+    private ScheduledExecutorService sniffer;
+    private volatile boolean sniffing;
+
     /**
     * Instantiates this class with a copy of the extension settings.
     *
@@ -141,6 +200,14 @@ public class SDKClient implements Closeable {
         // Update the settings for future initialization of new clients
         this.extensionSettings.setOpensearchAddress(address);
         this.extensionSettings.setOpensearchPort(httpPort);
+        // Update the settings on the shared client used by all client flavors connecting to the configured node
+        synchronized (this) {
+            this.sniffedNodes = Collections.emptyMap();
+            if (this.sharedRestClient != null) {
+                this.sharedRestClient.setNodes(List.of(new Node(new HttpHost(address, Integer.parseInt(httpPort)))));
+            }
+            startSniffer();
+        }
         // Update the settings on the already-initialized SDKRestClient (Deprecated -- for migration use)
         if (this.sdkRestClient != null) {
             this.sdkRestClient.getRestHighLevelClient()
@@ -164,12 +231,56 @@ public class SDKClient implements Closeable {
      * @param port The port the client should connect to
      * @return An instance of the builder
      */
-    private static RestClientBuilder builder(String hostAddress, int port) {
+    private RestClientBuilder builder(String hostAddress, int port) {
         RestClientBuilder builder = RestClient.builder(new HttpHost(hostAddress, port));
         builder.setStrictDeprecationMode(true);
+        builder.setNodeSelector(nodeSelector);
+        builder.setFailureListener(new RestClient.FailureListener() {
+            @Override
+            public void onFailure(Node node) {
+                sniffOnFailure();
+            }
+        });
+        if (extensionSettings.isHttpCompressionEnabled()) {
+            // Responses compressed with gzip are decompressed by the low level client
+            builder.setDefaultHeaders(new Header[] { new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "gzip") });
+        }
         builder.setHttpClientConfigCallback(httpClientBuilder -> {
+            httpClientBuilder.addResponseInterceptorLast(nodeSelector.responseInterceptor());
+            if (extensionSettings.isHttpCompressionEnabled()) {
+                httpClientBuilder.addExecInterceptorFirst(
+                    RequestCompressionHandler.NAME,
+                    new RequestCompressionHandler(extensionSettings.getHttpCompressionThreshold())
+                );
+            }
+            final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(getTlsStrategy())
+                .setMaxConnTotal(extensionSettings.getHttpMaxConnectionsTotal())
+                .setMaxConnPerRoute(extensionSettings.getHttpMaxConnectionsPerRoute())
+                .build();
+            httpClientBuilder.setConnectionManager(connectionManager);
+            long idleTimeout = extensionSettings.getHttpIdleConnectionTimeoutSeconds();
+            if (idleTimeout > 0) {
+                httpClientBuilder.evictIdleConnections(org.apache.hc.core5.util.TimeValue.ofSeconds(idleTimeout));
+            }
+            long keepAlive = extensionSettings.getHttpKeepAliveSeconds();
+            if (keepAlive > 0) {
+                httpClientBuilder.setKeepAliveStrategy((response, context) -> org.apache.hc.core5.util.TimeValue.ofSeconds(keepAlive));
+            }
+            return httpClientBuilder;
+        });
+        return builder;
+    }
+
+    /**
+     * Gets the TLS strategy shared by all clients, creating it on first use.
+     *
+     * @return The TLS strategy.
+     */
+    private synchronized TlsStrategy getTlsStrategy() {
+        if (tlsStrategy == null) {
             try {
-                final TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                tlsStrategy = ClientTlsStrategyBuilder.create()
                     .setSslContext(SSLContextBuilder.create().loadTrustMaterial(null, (chains, authType) -> true).build())
                     // disable the certificate since our cluster currently just uses the default security
                     // configuration
@@ -182,39 +293,88 @@ public class SDKClient implements Closeable {
                         }
                     })
                     .build();
-
-                final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
-                    .setTlsStrategy(tlsStrategy)
-                    .build();
-                return httpClientBuilder.setConnectionManager(connectionManager);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
-        });
-        return builder;
+        }
+        return tlsStrategy;
     }
 
     /**
-     * Initializes an OpenSearchTransport using RestClientTransport. This is required for JavaClient and JavaAsyncClient
+     * Gets the JSON mapper shared by the Java clients, creating it on first use.
      *
-     * @param hostAddress The address of OpenSearch cluster, client can connect to
-     * @param port The port of OpenSearch cluster
-     * @return The OpenSearchTransport implementation of RestClientTransport.
+     * @return The JSON mapper.
+     */
+    private synchronized JacksonJsonpMapper getJsonpMapper() {
+        if (jsonpMapper == null) {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.registerModule(new JavaTimeModule());
+            mapper.registerModule(new GuavaModule());
+            mapper.enableDefaultTyping(ObjectMapper.DefaultTyping.OBJECT_AND_NON_CONCRETE, JsonTypeInfo.As.PROPERTY);
+            mapper.configure(MapperFeature.USE_GETTERS_AS_SETTERS, false);
+            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            jsonpMapper = new JacksonJsonpMapper(mapper);
+        }
+        return jsonpMapper;
+    }
+
+    /**
+     * Acquires a low level client for a host. Clients of the configured OpenSearch node share a single client, with its connection
+     * pool and I/O reactor. Each call must be paired with a call to {@link #releaseRestClient(RestClient)}.
+     *
+     * @param hostAddress The address the client should connect to
+     * @param port The port the client should connect to
+     * @return A low level client for the host
      */
-    private OpenSearchTransport initializeTransport(String hostAddress, int port) {
-        RestClientBuilder builder = builder(hostAddress, port);
+    private synchronized RestClient acquireRestClient(String hostAddress, int port) {
+        if (!hostAddress.equals(extensionSettings.getOpensearchAddress())
+            || !Integer.toString(port).equals(extensionSettings.getOpensearchPort())) {
+            return builder(hostAddress, port).build();
+        }
+        if (sharedRestClient == null) {
+            sharedRestClient = builder(hostAddress, port).build();
+            Map<String, Node> nodes = sniffedNodes;
+            if (!nodes.isEmpty()) {
+                sharedRestClient.setNodes(List.copyOf(nodes.values()));
+            }
+            startSniffer();
+        }
+        sharedRestClientReferences++;
+        return sharedRestClient;
+    }
 
-        restClient = builder.build();
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.registerModule(new GuavaModule());
-        mapper.enableDefaultTyping(ObjectMapper.DefaultTyping.OBJECT_AND_NON_CONCRETE, JsonTypeInfo.As.PROPERTY);
-        mapper.configure(MapperFeature.USE_GETTERS_AS_SETTERS, false);
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    /**
+     * Acquires the shared low level client only if a client of the configured OpenSearch node currently holds it, so that
+     * background work does not open a client of its own. A non-null result must be released with
+     * {@link #releaseRestClient(RestClient)}.
+     *
+     * @return The shared client, or null if it is not open.
+     */
+    @Nullable
+    private synchronized RestClient acquireOpenSharedRestClient() {
+        if (sharedRestClient == null) {
+            return null;
+        }
+        sharedRestClientReferences++;
+        return sharedRestClient;
+    }
 
-        // Create Client
-        OpenSearchTransport transport = new RestClientTransport(restClient, new JacksonJsonpMapper(mapper));
-        return transport;
+    /**
+     * Releases a low level client acquired by {@link #acquireRestClient(String, int)}, closing it if it is no longer used.
+     *
+     * @param client The client to release
+     * @throws IOException if closing the client fails
+     */
+    private synchronized void releaseRestClient(RestClient client) throws IOException {
+        if (client == sharedRestClient) {
+            if (--sharedRestClientReferences > 0) {
+                return;
+            }
+            sharedRestClient = null;
+            // Nodes discovered while no client is open would only be applied to the next one, which sniffs when created
+            stopSniffer();
+        }
+        client.close();
     }
 
     /**
@@ -235,9 +395,11 @@ public class SDKClient implements Closeable {
      * @return The SDKClient implementation of OpenSearchClient. The user is responsible for calling
      *         {@link #doCloseJavaClients()} when finished with the client
      */
-    public OpenSearchClient initializeJavaClient(String hostAddress, int port) {
-        OpenSearchTransport transport = initializeTransport(hostAddress, port);
-        javaClient = new OpenSearchClient(transport);
+    public synchronized OpenSearchClient initializeJavaClient(String hostAddress, int port) {
+        RestClient previous = javaClientRestClient;
+        javaClientRestClient = acquireRestClient(hostAddress, port);
+        javaClient = new OpenSearchClient(new RestClientTransport(javaClientRestClient, getJsonpMapper()));
+        releaseQuietly(previous);
         return javaClient;
     }
 
@@ -259,9 +421,11 @@ public class SDKClient implements Closeable {
      * @return The SDKClient implementation of OpenSearchAsyncClient. The user is responsible for calling
      *         {@link #doCloseJavaClients()} when finished with the client
      */
-    public OpenSearchAsyncClient initalizeJavaAsyncClient(String hostAddress, int port) {
-        OpenSearchTransport transport = initializeTransport(hostAddress, port);
-        javaAsyncClient = new OpenSearchAsyncClient(transport);
+    public synchronized OpenSearchAsyncClient initalizeJavaAsyncClient(String hostAddress, int port) {
+        RestClient previous = javaAsyncClientRestClient;
+        javaAsyncClientRestClient = acquireRestClient(hostAddress, port);
+        javaAsyncClient = new OpenSearchAsyncClient(new RestClientTransport(javaAsyncClientRestClient, getJsonpMapper()));
+        releaseQuietly(previous);
         return javaAsyncClient;
     }
 
@@ -300,7 +464,15 @@ public class SDKClient implements Closeable {
      */
     @Deprecated
     public SDKRestClient initializeRestClient(String hostAddress, int port) {
-        this.sdkRestClient = new SDKRestClient(this, new RestHighLevelClient(builder(hostAddress, port)));
+        RestClient client = acquireRestClient(hostAddress, port);
+        AtomicBoolean released = new AtomicBoolean();
+        // The protected constructor lets the high level client share the low level client, releasing it on close
+        RestHighLevelClient restHighLevelClient = new SDKRestHighLevelClient(client, c -> {
+            if (released.compareAndSet(false, true)) {
+                releaseRestClient(c);
+            }
+        }, Collections.emptyList());
+        this.sdkRestClient = new SDKRestClient(this, restHighLevelClient);
         return this.sdkRestClient;
     }
 
@@ -314,9 +486,157 @@ public class SDKClient implements Closeable {
      *
      * @throws IOException if closing the restClient fails
      */
-    public void doCloseJavaClients() throws IOException {
-        if (this.restClient != null) {
-            this.restClient.close();
+    public synchronized void doCloseJavaClients() throws IOException {
+        if (this.javaClientRestClient != null) {
+            releaseRestClient(this.javaClientRestClient);
+            this.javaClientRestClient = null;
+        }
+        if (this.javaAsyncClientRestClient != null) {
+            releaseRestClient(this.javaAsyncClientRestClient);
+            this.javaAsyncClientRestClient = null;
+        }
+    }
+
+    /**
+     * Discovers the nodes of the cluster which can serve client requests, and balances requests from clients of the configured
+     * OpenSearch node across them. If no such client is open, the nodes are retrieved with a temporary client and used by the
+     * clients created later.
+     *
+     * @return The discovered nodes. If none are found, the configured node continues to be used.
+     * @throws IOException if the nodes could not be retrieved.
+     */
+    public List<Node> refreshNodes() throws IOException {
+        RestClient client = acquireRestClient(
+            extensionSettings.getOpensearchAddress(),
+            Integer.parseInt(extensionSettings.getOpensearchPort())
+        );
+        try {
+            return sniff(client);
+        } finally {
+            releaseRestClient(client);
+        }
+    }
+
+    private List<Node> sniff(RestClient client) throws IOException {
+        Map<String, Node> nodes = nodesSniffer.sniff(client);
+        if (!nodes.isEmpty()) {
+            synchronized (this) {
+                this.sniffedNodes = nodes;
+                client.setNodes(List.copyOf(nodes.values()));
+            }
+        }
+        return List.copyOf(nodes.values());
+    }
+
+    /**
+     * Sends a request attached to the current {@link SDKTask}, if any, so that cancelling the task cancels the request.
+     *
+     * @param request The function sending the request with a listener, returning a cancellable for the request.
+     * @param listener A listener to be notified with a result
+     * @return The cancellable for the request.
+     */
+    private static <T> Cancellable attach(Function<ActionListener<T>, Cancellable> request, ActionListener<T> listener) {
+        SDKTask task = SDKTask.current();
+        return task == null ? request.apply(listener) : task.attach(request, listener);
+    }
+
+    /**
+     * Sends a request, preferring to send it to a node discovered by {@link #refreshNodes()}. The request is sent to the other nodes
+     * if the preferred node is unknown or overloaded, and sent again to them if it could not be sent to the preferred node.
+     *
+     * @param <T> The response type.
+     * @param nodeId The id of the preferred node, or null for no preference.
+     * @param request A function which sends the request from the calling thread using a client of the configured OpenSearch node.
+     * @param listener A listener to be notified with a result
+     * @return The cancellable for the first attempt to send the request.
+     */
+    private <T> Cancellable sendToNode(
+        @Nullable String nodeId,
+        Function<ActionListener<T>, Cancellable> request,
+        ActionListener<T> listener
+    ) {
+        Node node = nodeId == null ? null : sniffedNodes.get(nodeId);
+        if (node == null) {
+            return request.apply(listener);
+        }
+        return nodeSelector.runPreferring(node.getHost(), selected -> request.apply(new ActionListener<T>() {
+            @Override
+            public void onResponse(T response) {
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                // Only the preferred node was tried, so a request which did not reach it is sent again without a preference. A response
+                // with an error status reached the node and is not sent again.
+                if (selected.getAsBoolean() && e instanceof IOException && !(e instanceof ResponseException)) {
+                    logger.debug("Failed to send request to node [" + nodeId + "], sending it to the other nodes", e);
+                    request.apply(listener);
+                } else {
+                    listener.onFailure(e);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Starts periodically refreshing the nodes of the shared client, if enabled in the extension settings, the shared client is open
+     * and the sniffer is not already started. The sniffer is stopped when the shared client is closed.
+     */
+    private synchronized void startSniffer() {
+        long interval = extensionSettings.getHttpSniffIntervalSeconds();
+        if (interval <= 0 || sniffer != null || sharedRestClient == null) {
+            return;
+        }
+        sniffer = Executors.newSingleThreadScheduledExecutor(OpenSearchExecutors.daemonThreadFactory("sdk_client_sniffer"));
+        sniffer.scheduleWithFixedDelay(this::sniffQuietly, 0, interval, TimeUnit.SECONDS);
+    }
+
+    private synchronized void sniffOnFailure() {
+        // Failures of the sniff request itself must not schedule another sniff
+        if (sniffer != null && !sniffing) {
+            sniffer.execute(this::sniffQuietly);
+        }
+    }
+
+    /**
+     * @return Whether the nodes of the shared client are periodically refreshed.
+     */
+    synchronized boolean isSnifferRunning() {
+        return sniffer != null;
+    }
+
+    private synchronized void stopSniffer() {
+        if (sniffer != null) {
+            sniffer.shutdownNow();
+            sniffer = null;
+        }
+    }
+
+    private void sniffQuietly() {
+        // Holding a reference keeps the shared client open while it sniffs, and no client is built when none is open
+        RestClient client = acquireOpenSharedRestClient();
+        if (client == null) {
+            return;
+        }
+        sniffing = true;
+        try {
+            sniff(client);
+        } catch (Exception e) {
+            logger.debug("Failed to sniff OpenSearch nodes", e);
+        } finally {
+            sniffing = false;
+            releaseQuietly(client);
+        }
+    }
+
+    private void releaseQuietly(RestClient client) {
+        if (client != null) {
+            try {
+                releaseRestClient(client);
+            } catch (IOException e) {
+                // The replaced client is no longer reachable, so a failure to close it only leaks its connections
+            }
         }
     }
 
@@ -333,6 +653,7 @@ public class SDKClient implements Closeable {
 
     @Override
     public void close() throws IOException {
+        stopSniffer();
         doCloseJavaClients();
         doCloseHighLevelClient();
     }
@@ -350,6 +671,10 @@ public class SDKClient implements Closeable {
 
     /**
      * Executes a generic action, denoted by an {@link ActionType}.
+     * <p>
+     * An action registered by this extension is executed locally, passing the request and response objects directly without
+     * serializing them. Any other action is sent to OpenSearch to be executed by the extension which registered it, as with
+     * {@link #executeRemote(ActionType, ActionRequest, ActionListener)}.
      *
      * @param action The action type to execute.
      * @param request The action request.
@@ -368,11 +693,65 @@ public class SDKClient implements Closeable {
         @SuppressWarnings("unchecked")
         TransportAction<Request, Response> transportAction = actions.get(action);
         if (transportAction == null) {
-            throw new IllegalStateException("failed to find action [" + action + "] to execute");
+            executeRemote(action, request, listener);
+            return;
         }
         transportAction.execute(request, listener);
     }
 
+    /**
+     * Executes an action registered by another extension, denoted by an {@link ActionType}.
+     * <p>
+     * The request is serialized and sent to OpenSearch, which forwards it to the extension registering the action. The response is
+     * deserialized with the action's response reader. If the current {@link SDKTask} is cancelled before the response arrives, the
+     * listener is notified with a {@link TaskCancelledException}.
+     *
+     * @param action The action type to execute. Its class name must match the action registered by the remote extension.
+     * @param request The action request.
+     * @param listener The listener to receive the response back.
+     * @param <Request> The request type.
+     * @param <Response> The response type.
+     */
+    public final <Request extends ActionRequest, Response extends ActionResponse> void executeRemote(
+        ActionType<Response> action,
+        Request request,
+        ActionListener<Response> listener
+    ) {
+        if (actions == null) {
+            throw new IllegalStateException("SDKClient was not initialized because the Extension does not implement ActionExtension.");
+        }
+        @SuppressWarnings("unchecked")
+        TransportAction<RemoteExtensionActionRequest, RemoteExtensionActionResponse> remoteAction = actions.get(
+            RemoteExtensionAction.INSTANCE
+        );
+        if (remoteAction == null || action.getResponseReader() == null) {
+            throw new IllegalStateException("failed to find action [" + action + "] to execute");
+        }
+        // The transport request cannot be withdrawn, so cancelling the current task only stops waiting for its response
+        SDKTask task = SDKTask.current();
+        ActionListener<Response> responseListener = ActionListener.notifyOnce(task == null ? listener : task.wrap(listener));
+        Runnable removeCancellation = task == null
+            ? () -> {}
+            : task.addCancellation(
+                () -> responseListener.onFailure(
+                    new TaskCancelledException("Remote extension action [" + action.name() + "] cancelled: " + task.getReasonCancelled())
+                )
+            );
+        remoteAction.execute(new RemoteExtensionActionRequest(action, request), ActionListener.runBefore(ActionListener.wrap(r -> {
+            if (!r.isSuccess()) {
+                responseListener.onFailure(
+                    new IllegalStateException("Remote extension action [" + action.name() + "] failed: " + r.getResponseBytesAsString())
+                );
+                return;
+            }
+            Response response;
+            try (StreamInput in = StreamInput.wrap(r.getResponseBytes())) {
+                response = action.getResponseReader().read(in);
+            }
+            responseListener.onResponse(response);
+        }, responseListener::onFailure), removeCancellation::run));
+    }
+
     /**
      * Wraps an internal {@link RestHighLevelClient} using method signatures expected by {@link Client} and {@link org.opensearch.client.AdminClient} syntax, providing a drop-in replacement in existing plugins with a minimum of code changes.
      * <p>
@@ -389,6 +768,12 @@ public class SDKClient implements Closeable {
         private final SDKClient sdkClient;
         private final RestHighLevelClient restHighLevelClient;
         private RequestOptions options = RequestOptions.DEFAULT;
+        // Coalesces concurrent searches into multi-searches, if enabled in the extension settings
+        private final SearchCoalescer searchCoalescer;
+        // Caches documents read with get and multi-get, if enabled in the extension settings
+        private final DocumentCache documentCache;
+        // Retries, hedges and limits the concurrency of requests, if enabled in the extension settings
+        private final RequestPolicy requestPolicy;
 
         /**
          * Instantiate this class wrapping a {@link RestHighLevelClient}.
@@ -399,6 +784,113 @@ public class SDKClient implements Closeable {
         public SDKRestClient(SDKClient sdkClient, RestHighLevelClient restHighLevelClient) {
             this.sdkClient = sdkClient;
             this.restHighLevelClient = restHighLevelClient;
+            ExtensionSettings settings = sdkClient == null ? null : sdkClient.extensionSettings;
+            if (settings != null
+                && (settings.getRequestMaxRetries() > 0
+                    || settings.getRequestHedgePercentile() > 0
+                    || settings.getRequestConcurrencyLimit() > 0)) {
+                int concurrencyLimit = settings.getRequestConcurrencyLimit();
+                this.requestPolicy = new RequestPolicy(
+                    settings.getRequestMaxRetries(),
+                    RequestPolicy.DEFAULT_RETRY_INITIAL_DELAY,
+                    RequestPolicy.DEFAULT_RETRY_MAX_DELAY,
+                    settings.getRequestHedgePercentile(),
+                    concurrencyLimit > 0 ? () -> new AdaptiveConcurrencyLimiter(concurrencyLimit, 1, concurrencyLimit) : null
+                );
+            } else {
+                this.requestPolicy = null;
+            }
+            // Coalesced searches and cache loads are shared between callers, so are not attached to the task of any one of them
+            if (settings != null && settings.getSearchCoalescingWindowMillis() > 0) {
+                this.searchCoalescer = new SearchCoalescer(
+                    this::doSearch,
+                    (r, l) -> send(null, RequestClass.MULTI_SEARCH, true, c -> restHighLevelClient.msearchAsync(r, options, c), l),
+                    TimeValue.timeValueMillis(settings.getSearchCoalescingWindowMillis()),
+                    settings.getSearchCoalescingMaxBatchSize()
+                );
+            } else {
+                this.searchCoalescer = null;
+            }
+            if (settings != null && settings.getDocumentCacheMaxEntries() > 0) {
+                this.documentCache = new DocumentCache(
+                    (r, l) -> send(null, RequestClass.GET, true, c -> restHighLevelClient.getAsync(r, options, c), l),
+                    (r, l) -> send(null, RequestClass.GET, true, c -> restHighLevelClient.mgetAsync(r, options, c), l),
+                    settings.getDocumentCacheMaxEntries(),
+                    TimeValue.timeValueSeconds(settings.getDocumentCacheTtlSeconds()),
+                    TimeValue.timeValueSeconds(settings.getDocumentCacheStaleWhileRevalidateSeconds())
+                );
+            } else {
+                this.documentCache = null;
+            }
+        }
+
+        /**
+         * Returns the statistics of the coalescing of concurrent searches.
+         *
+         * @return The statistics, or null if searches are not coalesced.
+         */
+        public SearchCoalescer.Stats getSearchCoalescerStats() {
+            return searchCoalescer == null ? null : searchCoalescer.stats();
+        }
+
+        /**
+         * Returns the statistics of the cache of documents read with get and multi-get.
+         *
+         * @return The statistics, or null if documents are not cached.
+         */
+        public DocumentCache.Stats getDocumentCacheStats() {
+            return documentCache == null ? null : documentCache.stats();
+        }
+
+        /**
+         * Returns the statistics of the retries, hedging and concurrency limit applied to requests.
+         *
+         * @return The statistics, or null if no request policy is enabled.
+         */
+        public RequestPolicy.Stats getRequestPolicyStats() {
+            return requestPolicy == null ? null : requestPolicy.stats();
+        }
+
+        /**
+         * Sends a request through the request policy, if enabled.
+         *
+         * @param requestClass The kind of the request, whose concurrency limit and latencies it shares.
+         * @param idempotent Whether the request may be retried and hedged.
+         * @param request The consumer sending the request with a listener.
+         * @param listener A listener to be notified with a result
+         */
+        private <T> void send(
+            RequestClass requestClass,
+            boolean idempotent,
+            Function<ActionListener<T>, Cancellable> request,
+            ActionListener<T> listener
+        ) {
+            send(SDKTask.current(), requestClass, idempotent, request, listener);
+        }
+
+        /**
+         * Sends a request through the request policy, if enabled, attaching each attempt to a task.
+         *
+         * @param task The task to attach the request to, or null to not attach it.
+         * @param requestClass The kind of the request, whose concurrency limit and latencies it shares.
+         * @param idempotent Whether the request may be retried and hedged.
+         * @param request The function sending the request with a listener, returning a cancellable for the request.
+         * @param listener A listener to be notified with a result
+         */
+        private <T> void send(
+            @Nullable SDKTask task,
+            RequestClass requestClass,
+            boolean idempotent,
+            Function<ActionListener<T>, Cancellable> request,
+            ActionListener<T> listener
+        ) {
+            // Retries and hedges are sent from other threads, so the task is captured here
+            Function<ActionListener<T>, Cancellable> attempt = task == null ? request : l -> task.attach(request, l);
+            if (requestPolicy == null) {
+                attempt.apply(listener);
+            } else {
+                requestPolicy.execute(requestClass, idempotent, attempt, listener);
+            }
         }
 
         public RestHighLevelClient getRestHighLevelClient() {
@@ -463,7 +955,7 @@ public class SDKClient implements Closeable {
          * @see Requests#indexRequest(String)
          */
         public void index(IndexRequest request, ActionListener<IndexResponse> listener) {
-            restHighLevelClient.indexAsync(request, options, listener);
+            send(RequestClass.WRITE, false, l -> restHighLevelClient.indexAsync(request, options, l), invalidating(request, listener));
         }
 
         /**
@@ -474,7 +966,11 @@ public class SDKClient implements Closeable {
          * @see Requests#getRequest(String)
          */
         public void get(GetRequest request, ActionListener<GetResponse> listener) {
-            restHighLevelClient.getAsync(request, options, listener);
+            if (documentCache != null) {
+                documentCache.get(request, listener);
+                return;
+            }
+            send(RequestClass.GET, true, l -> restHighLevelClient.getAsync(request, options, l), listener);
         }
 
         /**
@@ -484,7 +980,11 @@ public class SDKClient implements Closeable {
          * @param listener A listener to be notified with a result
          */
         public void multiGet(MultiGetRequest request, ActionListener<MultiGetResponse> listener) {
-            restHighLevelClient.mgetAsync(request, options, listener);
+            if (documentCache != null) {
+                documentCache.multiGet(request, listener);
+                return;
+            }
+            send(RequestClass.GET, true, l -> restHighLevelClient.mgetAsync(request, options, l), listener);
         }
 
         /**
@@ -494,7 +994,7 @@ public class SDKClient implements Closeable {
          * @param listener A listener to be notified with a result
          */
         public void update(UpdateRequest request, ActionListener<UpdateResponse> listener) {
-            restHighLevelClient.updateAsync(request, options, listener);
+            send(RequestClass.WRITE, false, l -> restHighLevelClient.updateAsync(request, options, l), invalidating(request, listener));
         }
 
         /**
@@ -505,7 +1005,7 @@ public class SDKClient implements Closeable {
          * @see Requests#deleteRequest(String)
          */
         public void delete(DeleteRequest request, ActionListener<DeleteResponse> listener) {
-            restHighLevelClient.deleteAsync(request, options, listener);
+            send(RequestClass.WRITE, false, l -> restHighLevelClient.deleteAsync(request, options, l), invalidating(request, listener));
         }
 
         /**
@@ -516,7 +1016,29 @@ public class SDKClient implements Closeable {
          *
          */
         public void deleteByQuery(DeleteByQueryRequest request, ActionListener<BulkByScrollResponse> listener) {
-            restHighLevelClient.deleteByQueryAsync(request, options, listener);
+            if (documentCache == null) {
+                send(RequestClass.BULK, false, l -> restHighLevelClient.deleteByQueryAsync(request, options, l), listener);
+                return;
+            }
+            documentCache.invalidateAll();
+            send(
+                RequestClass.BULK,
+                false,
+                l -> restHighLevelClient.deleteByQueryAsync(request, options, l),
+                ActionListener.runBefore(listener, documentCache::invalidateAll)
+            );
+        }
+
+        /**
+         * Invalidates a document in the document cache, if enabled, both when the write is sent and when it completes, so that reads
+         * which raced with the write are not served from the cache afterwards.
+         */
+        private <T> ActionListener<T> invalidating(DocWriteRequest<?> request, ActionListener<T> listener) {
+            if (documentCache == null || request.id() == null) {
+                return listener;
+            }
+            documentCache.invalidate(request.index(), request.id(), request.routing());
+            return ActionListener.runBefore(listener, () -> documentCache.invalidate(request.index(), request.id(), request.routing()));
         }
 
         /**
@@ -527,7 +1049,103 @@ public class SDKClient implements Closeable {
          * @see Requests#searchRequest(String...)
          */
         public void search(SearchRequest request, ActionListener<SearchResponse> listener) {
-            restHighLevelClient.searchAsync(request, options, listener);
+            if (searchCoalescer != null) {
+                searchCoalescer.search(request, listener);
+            } else {
+                doSearch(request, listener);
+            }
+        }
+
+        private void doSearch(SearchRequest request, ActionListener<SearchResponse> listener) {
+            // A repeated scroll search would open another search context
+            send(RequestClass.SEARCH, request.scroll() == null, l -> restHighLevelClient.searchAsync(request, options, l), listener);
+        }
+
+        /**
+         * Prepares a search whose request body is serialized once and reused for each execution.
+         *
+         * @param template The search source, with {@link PreparedSearch#slot(String)} placeholders for its parameters
+         * @param indices The indices to search, or none to search all indices
+         * @return The prepared search, to be executed with {@link #search(PreparedSearch, Map, ActionListener)}
+         */
+        public PreparedSearch prepareSearch(SearchSourceBuilder template, String... indices) {
+            return new PreparedSearch(template, indices);
+        }
+
+        /**
+         * Executes a prepared search with a set of parameter values.
+         *
+         * @param search The prepared search
+         * @param values The parameter values by name
+         * @param listener A listener to be notified of the result, failing with an {@link IllegalArgumentException} if a
+         *        parameter has no value
+         */
+        public void search(PreparedSearch search, Map<String, ?> values, ActionListener<SearchResponse> listener) {
+            SDKRestHighLevelClient client = sdkRestHighLevelClient("Prepared searches");
+            send(RequestClass.SEARCH, true, l -> client.preparedSearchAsync(search, values, options, l), listener);
+        }
+
+        /**
+         * Search across one or more indices, parsing the response as it arrives and passing each hit to a consumer, so that the whole
+         * response and all its hits are never held in memory at once. The hits are passed on an I/O thread, so the consumer must not
+         * block.
+         *
+         * @param request The search request
+         * @param hitConsumer The consumer of each hit
+         * @param listener A listener to be notified of the rest of the response, whose hits are empty, once all hits are consumed
+         * @see SDKRestHighLevelClient#searchStreamingAsync(SearchRequest, RequestOptions, Consumer, ActionListener)
+         */
+        public void searchStreaming(SearchRequest request, Consumer<SearchHit> hitConsumer, ActionListener<SearchResponse> listener) {
+            SDKRestHighLevelClient client = sdkRestHighLevelClient("Streaming searches");
+            // Hits already passed to the consumer cannot be retracted, so the search is not retried or hedged
+            send(RequestClass.SEARCH, false, l -> client.searchStreamingAsync(request, options, hitConsumer, l), listener);
+        }
+
+        private SDKRestHighLevelClient sdkRestHighLevelClient(String feature) {
+            if (!(restHighLevelClient instanceof SDKRestHighLevelClient)) {
+                throw new IllegalStateException(feature + " require a client initialized by the SDKClient");
+            }
+            return (SDKRestHighLevelClient) restHighLevelClient;
+        }
+
+        /**
+         * Lazily iterates over all hits matching a search, using a point in time and {@code search_after}. The next page is fetched
+         * while the current page is consumed. The iterator must be closed if it is not consumed to the end.
+         *
+         * @param request The search request, whose source must define a sort with a unique tiebreaker
+         * @return An iterator over the hits
+         * @see SearchHitIterator
+         */
+        public SearchHitIterator searchIterator(SearchRequest request) {
+            return new SearchHitIterator(this, request);
+        }
+
+        /**
+         * Lazily streams all hits matching a search, using a point in time and {@code search_after}. The stream must be closed if it
+         * is not consumed to the end.
+         *
+         * @param request The search request, whose source must define a sort with a unique tiebreaker
+         * @return A stream of the hits
+         * @see SearchHitIterator
+         */
+        public Stream<SearchHit> searchStream(SearchRequest request) {
+            return searchIterator(request).stream();
+        }
+
+        /**
+         * Scans all hits matching a search in parallel, splitting a point in time into {@code slice} queries scanned concurrently.
+         *
+         * @param request The search request, whose source must define a sort with a unique tiebreaker
+         * @param parallelism The number of slices scanned concurrently
+         * @param executor The executor running the slice scans
+         * @param consumer The thread-safe consumer of hits
+         * @return The number of hits scanned
+         * @throws IOException if communicating with OpenSearch failed
+         * @see SlicedSearchScanner
+         */
+        public long slicedScan(SearchRequest request, int parallelism, Executor executor, Consumer<SearchHit> consumer)
+            throws IOException {
+            return new SlicedSearchScanner(this, executor, parallelism).scan(request, consumer);
         }
 
         /**
@@ -537,7 +1155,27 @@ public class SDKClient implements Closeable {
          * @param listener A listener to be notified with a result
          */
         public void multiSearch(MultiSearchRequest request, ActionListener<MultiSearchResponse> listener) {
-            restHighLevelClient.msearchAsync(request, options, listener);
+            send(RequestClass.MULTI_SEARCH, true, l -> restHighLevelClient.msearchAsync(request, options, l), listener);
+        }
+
+        /**
+         * Creates a point in time against one or more indices, used to page through search results with a consistent view.
+         *
+         * @param request The create point in time request
+         * @param listener A listener to be notified with a result
+         */
+        public void createPit(CreatePitRequest request, ActionListener<CreatePitResponse> listener) {
+            send(RequestClass.POINT_IN_TIME, false, l -> restHighLevelClient.createPitAsync(request, options, l), listener);
+        }
+
+        /**
+         * Deletes one or more points in time, releasing the resources held by them.
+         *
+         * @param request The delete point in time request
+         * @param listener A listener to be notified with a result
+         */
+        public void deletePit(DeletePitRequest request, ActionListener<DeletePitResponse> listener) {
+            send(RequestClass.POINT_IN_TIME, false, l -> restHighLevelClient.deletePitAsync(request, options, l), listener);
         }
 
         /**
@@ -547,7 +1185,51 @@ public class SDKClient implements Closeable {
          * @param listener A listener to be notified of a result
          */
         public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
-            restHighLevelClient.bulkAsync(request, options, listener);
+            bulk(request, (String) null, listener);
+        }
+
+        private void bulk(BulkRequest request, @Nullable String nodeId, ActionListener<BulkResponse> listener) {
+            // The node is preferred when the request is actually sent, which may be later if the concurrency limit is reached
+            Function<ActionListener<BulkResponse>, Cancellable> sendBulk = l -> sdkClient.sendToNode(
+                nodeId,
+                r -> restHighLevelClient.bulkAsync(request, options, r),
+                l
+            );
+            if (documentCache == null) {
+                send(RequestClass.BULK, false, sendBulk, listener);
+                return;
+            }
+            Runnable invalidate = () -> request.requests()
+                .stream()
+                .filter(r -> r.id() != null)
+                .forEach(r -> documentCache.invalidate(r.index(), r.id(), r.routing()));
+            invalidate.run();
+            send(RequestClass.BULK, false, sendBulk, ActionListener.runBefore(listener, invalidate::run));
+        }
+
+        /**
+         * Executes a bulk request, sending each document directly to the node holding its primary shard.
+         * <p>
+         * Documents are grouped by primary node using the cluster state and sent as one bulk request per node, skipping the forwarding
+         * step on the coordinating node. This requires nodes to have been discovered with {@link SDKClient#refreshNodes()} or the
+         * {@code httpSniffIntervalSeconds} setting; otherwise the request is sent unchanged. The response items are in the order of the
+         * original request.
+         *
+         * @param request The bulk request
+         * @param clusterState A recent cluster state, used to route documents
+         * @param listener A listener to be notified with a result
+         */
+        public void bulk(BulkRequest request, ClusterState clusterState, ActionListener<BulkResponse> listener) {
+            if (sdkClient.sniffedNodes.isEmpty()) {
+                bulk(request, listener);
+                return;
+            }
+            ShardRoutingBulkSplitter.execute(
+                request,
+                clusterState,
+                (nodeId, nodeRequest, nodeListener) -> bulk(nodeRequest, nodeId, nodeListener),
+                listener
+            );
         }
 
         /**
@@ -578,11 +1260,30 @@ public class SDKClient implements Closeable {
          * @return Cancellable instance that may be used to cancel the request
          */
         public Cancellable performRequestAsync(Request request, ResponseListener responseListener) {
-            return restHighLevelClient.getLowLevelClient().performRequestAsync(request, responseListener);
+            return attach(
+                l -> restHighLevelClient.getLowLevelClient().performRequestAsync(request, new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        l.onResponse(response);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        l.onFailure(exception);
+                    }
+                }),
+                ActionListener.wrap(responseListener::onSuccess, responseListener::onFailure)
+            );
         }
 
         @Override
         public void close() throws IOException {
+            if (searchCoalescer != null) {
+                searchCoalescer.close();
+            }
+            if (requestPolicy != null) {
+                requestPolicy.close();
+            }
             restHighLevelClient.close();
         }
     }
@@ -621,7 +1322,7 @@ public class SDKClient implements Closeable {
             ClusterUpdateSettingsRequest clusterUpdateSettingsRequest,
             ActionListener<ClusterUpdateSettingsResponse> listener
         ) {
-            return clusterClient.putSettingsAsync(clusterUpdateSettingsRequest, options, listener);
+            return attach(l -> clusterClient.putSettingsAsync(clusterUpdateSettingsRequest, options, l), listener);
         }
 
         /**
@@ -633,7 +1334,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable health(ClusterHealthRequest clusterHealthRequest, ActionListener<ClusterHealthResponse> listener) {
-            return clusterClient.healthAsync(clusterHealthRequest, options, listener);
+            return attach(l -> clusterClient.healthAsync(clusterHealthRequest, options, l), listener);
         }
 
         // TODO: Implement state()
@@ -671,7 +1372,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable create(CreateIndexRequest createIndexRequest, ActionListener<CreateIndexResponse> listener) {
-            return indicesClient.createAsync(createIndexRequest, options, listener);
+            return attach(l -> indicesClient.createAsync(createIndexRequest, options, l), listener);
         }
 
         /**
@@ -682,7 +1383,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable delete(DeleteIndexRequest deleteIndexRequest, ActionListener<AcknowledgedResponse> listener) {
-            return indicesClient.deleteAsync(deleteIndexRequest, options, listener);
+            return attach(l -> indicesClient.deleteAsync(deleteIndexRequest, options, l), listener);
         }
 
         /**
@@ -693,7 +1394,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable putSettings(UpdateSettingsRequest updateSettingsRequest, ActionListener<AcknowledgedResponse> listener) {
-            return indicesClient.putSettingsAsync(updateSettingsRequest, options, listener);
+            return attach(l -> indicesClient.putSettingsAsync(updateSettingsRequest, options, l), listener);
         }
 
         /**
@@ -704,7 +1405,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable putMapping(PutMappingRequest putMappingRequest, ActionListener<AcknowledgedResponse> listener) {
-            return this.indicesClient.putMappingAsync(putMappingRequest, options, listener);
+            return attach(l -> this.indicesClient.putMappingAsync(putMappingRequest, options, l), listener);
         }
 
         /**
@@ -715,7 +1416,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable getMapping(GetMappingsRequest getMappingsRequest, ActionListener<GetMappingsResponse> listener) {
-            return this.indicesClient.getMappingAsync(getMappingsRequest, options, listener);
+            return attach(l -> this.indicesClient.getMappingAsync(getMappingsRequest, options, l), listener);
         }
 
         /**
@@ -729,7 +1430,7 @@ public class SDKClient implements Closeable {
             GetFieldMappingsRequest getFieldMappingsRequest,
             ActionListener<GetFieldMappingsResponse> listener
         ) {
-            return this.indicesClient.getFieldMappingAsync(getFieldMappingsRequest, options, listener);
+            return attach(l -> this.indicesClient.getFieldMappingAsync(getFieldMappingsRequest, options, l), listener);
         }
 
         /**
@@ -740,7 +1441,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable rolloverIndex(RolloverRequest rolloverRequest, ActionListener<RolloverResponse> listener) {
-            return this.indicesClient.rolloverAsync(rolloverRequest, options, listener);
+            return attach(l -> this.indicesClient.rolloverAsync(rolloverRequest, options, l), listener);
         }
 
         /**
@@ -751,7 +1452,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable getAliases(GetAliasesRequest getAliasesRequest, ActionListener<GetAliasesResponse> listener) {
-            return this.indicesClient.getAliasAsync(getAliasesRequest, options, listener);
+            return attach(l -> this.indicesClient.getAliasAsync(getAliasesRequest, options, l), listener);
         }
 
         /**
@@ -762,7 +1463,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable existsAlias(GetAliasesRequest getAliasesRequest, ActionListener<Boolean> listener) {
-            return this.indicesClient.existsAliasAsync(getAliasesRequest, options, listener);
+            return attach(l -> this.indicesClient.existsAliasAsync(getAliasesRequest, options, l), listener);
         }
 
         /**
@@ -773,7 +1474,7 @@ public class SDKClient implements Closeable {
          * @return cancellable that may be used to cancel the request
          */
         public Cancellable exists(GetIndexRequest getIndexRequest, ActionListener<Boolean> listener) {
-            return this.indicesClient.existsAsync(getIndexRequest, options, listener);
+            return attach(l -> this.indicesClient.existsAsync(getIndexRequest, options, l), listener);
         }
     }
 }
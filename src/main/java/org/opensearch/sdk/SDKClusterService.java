@@ -10,10 +10,12 @@
 package org.opensearch.sdk;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.opensearch.cluster.ClusterName;
@@ -23,16 +25,26 @@ import org.opensearch.common.settings.SettingUpgrader;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.AbstractScopedSettings;
 import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.extensions.DiscoveryExtensionNode;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 /**
  * This class simulates methods normally called from OpenSearch ClusterService class.
  */
 public class SDKClusterService {
 
+    /**
+     * How long settings update consumers added after initialization wait to be sent together with consumers added after them.
+     */
+    public static final TimeValue SETTINGS_UPDATE_CONSUMER_DEBOUNCE = TimeValue.timeValueMillis(50);
+
     private final ExtensionsRunner extensionsRunner;
     private final SDKClusterSettings clusterSettings;
+    private final IndexMappingCache mappingCache;
     private ClusterName clusterName;
+    private Scheduler.Cancellable mappingCacheRefresh;
 
     /**
      * Create an instance of this object.
@@ -47,6 +59,11 @@ public class SDKClusterService {
         this.clusterSettings = new SDKClusterSettings(nodeSettings, settingsSet);
         // Set to default on initialization but updated later once connected to OpenSearch
         this.clusterName = ClusterName.DEFAULT;
+        ExtensionSettings extensionSettings = extensionsRunner.getExtension().getExtensionSettings();
+        this.mappingCache = new IndexMappingCache(
+            this::state,
+            extensionSettings == null ? Collections.emptyList() : extensionSettings.getMappingCacheIndexPatterns()
+        );
     }
 
     /**
@@ -85,10 +102,45 @@ public class SDKClusterService {
         this.clusterName = ClusterName.CLUSTER_NAME_SETTING.get(extensionsRunner.getEnvironmentSettings());
     }
 
+    /**
+     * Prefetches the index mapping cache and starts refreshing it periodically, if enabled in the extension settings.
+     * <p>
+     * This method should be called from ExtensionsRunner after initialization, when the cluster state can be requested.
+     */
+    public synchronized void startMappingCache() {
+        if (mappingCacheRefresh != null) {
+            return;
+        }
+        ExtensionSettings extensionSettings = extensionsRunner.getExtension().getExtensionSettings();
+        long refreshIntervalSeconds = extensionSettings == null
+            ? ExtensionSettings.DEFAULT_MAPPING_CACHE_REFRESH_INTERVAL_SECONDS
+            : extensionSettings.getMappingCacheRefreshIntervalSeconds();
+        ThreadPool threadPool = extensionsRunner.getThreadPool();
+        // Requesting the cluster state blocks, so the initial prefetch does not hold up initialization
+        threadPool.generic().execute(mappingCache::prefetch);
+        if (refreshIntervalSeconds > 0) {
+            mappingCacheRefresh = threadPool.scheduleWithFixedDelay(
+                mappingCache::refresh,
+                TimeValue.timeValueSeconds(refreshIntervalSeconds),
+                ThreadPool.Names.GENERIC
+            );
+        }
+    }
+
     public SDKClusterSettings getClusterSettings() {
         return clusterSettings;
     }
 
+    /**
+     * Gets the cache of index mappings and settings, which extensions should use rather than requesting mappings from OpenSearch
+     * when validating documents or building queries.
+     *
+     * @return The index mapping cache.
+     */
+    public IndexMappingCache getMappingCache() {
+        return mappingCache;
+    }
+
     public ClusterName getClusterName() {
         return clusterName;
     }
@@ -103,6 +155,11 @@ public class SDKClusterService {
          */
         private final Map<Setting<?>, Consumer<?>> pendingSettingsUpdateConsumers = new ConcurrentHashMap<>();
 
+        /**
+         * Whether a request sending the pending updates is scheduled
+         */
+        private final AtomicBoolean sendScheduled = new AtomicBoolean();
+
         /**
          * Instantiate a new ClusterSettings instance.
          *
@@ -130,14 +187,23 @@ public class SDKClusterService {
 
         /**
          * Add a single settings update consumer to OpenSearch. Before initialization the update will be stored in a pending state.
+         * <p>
+         * After initialization, consumers added within {@link SDKClusterService#SETTINGS_UPDATE_CONSUMER_DEBOUNCE} of each other are
+         * sent to OpenSearch together in a single request.
          *
          * @param <T> The Type of the setting.
          * @param setting The setting for which to consume updates.
          * @param settingsUpdateConsumer The consumer of the updates.
          */
-        public synchronized <T> void addSettingsUpdateConsumer(Setting<T> setting, Consumer<T> settingsUpdateConsumer) {
+        public <T> void addSettingsUpdateConsumer(Setting<T> setting, Consumer<T> settingsUpdateConsumer) {
             pendingSettingsUpdateConsumers.put(setting, settingsUpdateConsumer);
-            sendPendingSettingsUpdateConsumers();
+            if (extensionsRunner.isInitialized() && sendScheduled.compareAndSet(false, true)) {
+                extensionsRunner.getThreadPool().schedule(() -> {
+                    // Cleared before sending, so that consumers added meanwhile schedule another request
+                    sendScheduled.set(false);
+                    sendPendingSettingsUpdateConsumers();
+                }, SETTINGS_UPDATE_CONSUMER_DEBOUNCE, ThreadPool.Names.GENERIC);
+            }
         }
 
         /**
@@ -148,13 +214,15 @@ public class SDKClusterService {
         public synchronized void sendPendingSettingsUpdateConsumers() {
             // Do nothing until ExtensionsRunner initialized
             if (extensionsRunner.isInitialized() && !pendingSettingsUpdateConsumers.isEmpty()) {
+                // Only the consumers sent are removed, as others may be added or replaced concurrently
+                Map<Setting<?>, Consumer<?>> settingsUpdateConsumers = new HashMap<>(pendingSettingsUpdateConsumers);
+                settingsUpdateConsumers.forEach((setting, consumer) -> pendingSettingsUpdateConsumers.remove(setting, consumer));
                 extensionsRunner.getSdkTransportService()
                     .sendAddSettingsUpdateConsumerRequest(
-                        pendingSettingsUpdateConsumers,
+                        settingsUpdateConsumers,
                         extensionsRunner.getUpdateSettingsRequestHandler(),
                         extensionsRunner.getExtensionNode()
                     );
-                pendingSettingsUpdateConsumers.clear();
             }
         }
     }
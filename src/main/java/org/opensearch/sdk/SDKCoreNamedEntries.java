@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.cluster.ClusterModule;
+import org.opensearch.common.network.NetworkModule;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.search.SearchModule;
+
+/**
+ * Computes the core OpenSearch entries of {@link SDKNamedWriteableRegistry} and {@link SDKNamedXContentRegistry} once and shares them
+ * between both registries, so that building or updating a registry only merges the extension's custom entries.
+ * <p>
+ * The network, indices and cluster entries do not depend on settings and are computed once. The search entries come from a
+ * {@link SearchModule}, which registers thousands of parsers and readers and reads a few search settings, so they are computed from
+ * one module shared by both registries and only computed again if those settings change.
+ */
+final class SDKCoreNamedEntries {
+
+    /**
+     * Prefixes of the settings which may change the entries registered by {@link SearchModule}.
+     */
+    private static final String[] SEARCH_SETTING_PREFIXES = { "search.", "indices.query.", "opensearch.experimental." };
+
+    private static final AtomicInteger searchModuleBuilds = new AtomicInteger();
+    private static SearchEntries searchEntries;
+
+    private SDKCoreNamedEntries() {}
+
+    /**
+     * Gets the core NamedWriteable entries.
+     *
+     * @param settings The environment settings.
+     * @return An unmodifiable list of the entries.
+     */
+    static List<NamedWriteableRegistry.Entry> namedWriteables(Settings settings) {
+        return searchEntries(settings).namedWriteables;
+    }
+
+    /**
+     * Gets the core NamedXContent entries.
+     *
+     * @param settings The environment settings.
+     * @return An unmodifiable list of the entries.
+     */
+    static List<NamedXContentRegistry.Entry> namedXContents(Settings settings) {
+        return searchEntries(settings).namedXContents;
+    }
+
+    /**
+     * Gets the settings which {@link SearchModule} may read, so that registries built from settings which only differ in other
+     * settings share the same entries.
+     *
+     * @param settings The environment settings.
+     * @return The search settings.
+     */
+    static Settings searchSettings(Settings settings) {
+        return settings.filter(key -> {
+            for (String prefix : SEARCH_SETTING_PREFIXES) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * @return The number of times the search entries were computed, which is once per distinct search settings in use.
+     */
+    static int searchModuleBuilds() {
+        return searchModuleBuilds.get();
+    }
+
+    private static synchronized SearchEntries searchEntries(Settings settings) {
+        Settings searchSettings = searchSettings(settings);
+        if (searchEntries == null || !searchEntries.searchSettings.equals(searchSettings)) {
+            searchEntries = new SearchEntries(searchSettings);
+        }
+        return searchEntries;
+    }
+
+    /**
+     * The core entries, with the search entries computed from one {@link SearchModule}.
+     */
+    private static final class SearchEntries {
+        private final Settings searchSettings;
+        private final List<NamedWriteableRegistry.Entry> namedWriteables;
+        private final List<NamedXContentRegistry.Entry> namedXContents;
+
+        SearchEntries(Settings searchSettings) {
+            searchModuleBuilds.incrementAndGet();
+            SearchModule searchModule = new SearchModule(searchSettings, Collections.emptyList());
+            List<NamedWriteableRegistry.Entry> writeables = new ArrayList<>(BaseEntries.NAMED_WRITEABLES);
+            writeables.addAll(searchModule.getNamedWriteables());
+            List<NamedXContentRegistry.Entry> xContents = new ArrayList<>(BaseEntries.NAMED_X_CONTENTS);
+            xContents.addAll(searchModule.getNamedXContents());
+            this.searchSettings = searchSettings;
+            this.namedWriteables = Collections.unmodifiableList(writeables);
+            this.namedXContents = Collections.unmodifiableList(xContents);
+        }
+    }
+
+    /**
+     * The entries which do not depend on settings, computed when first used.
+     */
+    private static final class BaseEntries {
+        private static final List<NamedWriteableRegistry.Entry> NAMED_WRITEABLES;
+        private static final List<NamedXContentRegistry.Entry> NAMED_X_CONTENTS;
+
+        static {
+            List<NamedWriteableRegistry.Entry> writeables = new ArrayList<>(NetworkModule.getNamedWriteables());
+            writeables.addAll(new IndicesModule(Collections.emptyList()).getNamedWriteables());
+            writeables.addAll(ClusterModule.getNamedWriteables());
+            NAMED_WRITEABLES = Collections.unmodifiableList(writeables);
+
+            List<NamedXContentRegistry.Entry> xContents = new ArrayList<>(NetworkModule.getNamedXContents());
+            xContents.addAll(IndicesModule.getNamedXContents());
+            xContents.addAll(ClusterModule.getNamedXWriteables());
+            NAMED_X_CONTENTS = Collections.unmodifiableList(xContents);
+        }
+    }
+}
@@ -9,26 +9,21 @@
 
 package org.opensearch.sdk;
 
-import org.opensearch.cluster.ClusterModule;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry.Entry;
-import org.opensearch.common.network.NetworkModule;
 import org.opensearch.common.settings.Settings;
-import org.opensearch.indices.IndicesModule;
-import org.opensearch.search.SearchModule;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.Objects;
 
 /**
  * Combines Extension NamedWriteable with core OpenSearch NamedWriteable
  */
 public class SDKNamedWriteableRegistry {
     private NamedWriteableRegistry namedWriteableRegistry;
+    private Settings searchSettings;
+    private List<Entry> customEntries;
 
     /**
      * Creates and populates a NamedWriteableRegistry with the NamedWriteableRegistry entries for this extension and locally defined content.
@@ -47,20 +42,23 @@ public class SDKNamedWriteableRegistry {
      * @param runner The ExtensionsRunner instance.
      */
     public void updateNamedWriteableRegistry(ExtensionsRunner runner) {
-        this.namedWriteableRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedWriteables());
+        Settings searchSettings = SDKCoreNamedEntries.searchSettings(runner.getEnvironmentSettings());
+        // The core entries only change with the search settings, so the registry is kept unless they or the custom entries changed
+        if (!searchSettings.equals(this.searchSettings) || !Objects.equals(runner.getCustomNamedWriteables(), this.customEntries)) {
+            this.namedWriteableRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedWriteables());
+        }
     }
 
     private NamedWriteableRegistry createRegistry(Settings settings, List<Entry> extensionNamedWriteable) {
-        Stream<Entry> extensionContent = extensionNamedWriteable == null ? Stream.empty() : extensionNamedWriteable.stream();
-        return new NamedWriteableRegistry(
-            Stream.of(
-                extensionContent,
-                NetworkModule.getNamedWriteables().stream(),
-                new IndicesModule(Collections.emptyList()).getNamedWriteables().stream(),
-                new SearchModule(settings, Collections.emptyList()).getNamedWriteables().stream(),
-                ClusterModule.getNamedWriteables().stream()
-            ).flatMap(Function.identity()).collect(toList())
-        );
+        List<Entry> coreEntries = SDKCoreNamedEntries.namedWriteables(settings);
+        List<Entry> entries = new ArrayList<>(coreEntries.size() + (extensionNamedWriteable == null ? 0 : extensionNamedWriteable.size()));
+        if (extensionNamedWriteable != null) {
+            entries.addAll(extensionNamedWriteable);
+        }
+        entries.addAll(coreEntries);
+        this.searchSettings = SDKCoreNamedEntries.searchSettings(settings);
+        this.customEntries = extensionNamedWriteable == null ? null : List.copyOf(extensionNamedWriteable);
+        return new NamedWriteableRegistry(entries);
     }
 
     /**
@@ -74,5 +72,7 @@ public class SDKNamedWriteableRegistry {
 
     public void setNamedWriteableRegistry(NamedWriteableRegistry namedWriteableRegistry) {
         this.namedWriteableRegistry = namedWriteableRegistry;
+        // The next update rebuilds the registry
+        this.searchSettings = null;
     }
 }
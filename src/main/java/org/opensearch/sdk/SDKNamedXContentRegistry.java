@@ -9,21 +9,14 @@
 
 package org.opensearch.sdk;
 
-import static java.util.stream.Collectors.toList;
-
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.Objects;
 
-import org.opensearch.cluster.ClusterModule;
-import org.opensearch.common.network.NetworkModule;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.core.xcontent.NamedXContentRegistry.Entry;
-import org.opensearch.indices.IndicesModule;
-import org.opensearch.search.SearchModule;
 
 /**
  * Combines Extension NamedXContent with core OpenSearch NamedXContent
@@ -39,6 +32,8 @@ public class SDKNamedXContentRegistry {
     public static final SDKNamedXContentRegistry EMPTY = new SDKNamedXContentRegistry();
 
     private NamedXContentRegistry namedXContentRegistry;
+    private Settings searchSettings;
+    private List<Entry> customEntries;
 
     /**
      * Creates an empty registry.
@@ -64,20 +59,23 @@ public class SDKNamedXContentRegistry {
      * @param runner The ExtensionsRunner instance.
      */
     public void updateNamedXContentRegistry(ExtensionsRunner runner) {
-        this.namedXContentRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedXContent());
+        Settings searchSettings = SDKCoreNamedEntries.searchSettings(runner.getEnvironmentSettings());
+        // The core entries only change with the search settings, so the registry is kept unless they or the custom entries changed
+        if (!searchSettings.equals(this.searchSettings) || !Objects.equals(runner.getCustomNamedXContent(), this.customEntries)) {
+            this.namedXContentRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedXContent());
+        }
     }
 
     private NamedXContentRegistry createRegistry(Settings settings, List<Entry> extensionNamedXContent) {
-        Stream<Entry> extensionContent = extensionNamedXContent == null ? Stream.empty() : extensionNamedXContent.stream();
-        return new NamedXContentRegistry(
-            Stream.of(
-                extensionContent,
-                NetworkModule.getNamedXContents().stream(),
-                IndicesModule.getNamedXContents().stream(),
-                new SearchModule(settings, Collections.emptyList()).getNamedXContents().stream(),
-                ClusterModule.getNamedXWriteables().stream()
-            ).flatMap(Function.identity()).collect(toList())
-        );
+        List<Entry> coreEntries = SDKCoreNamedEntries.namedXContents(settings);
+        List<Entry> entries = new ArrayList<>(coreEntries.size() + (extensionNamedXContent == null ? 0 : extensionNamedXContent.size()));
+        if (extensionNamedXContent != null) {
+            entries.addAll(extensionNamedXContent);
+        }
+        entries.addAll(coreEntries);
+        this.searchSettings = SDKCoreNamedEntries.searchSettings(settings);
+        this.customEntries = extensionNamedXContent == null ? null : List.copyOf(extensionNamedXContent);
+        return new NamedXContentRegistry(entries);
     }
 
     /**
@@ -96,5 +94,7 @@ public class SDKNamedXContentRegistry {
      */
     public void setRegistry(NamedXContentRegistry namedXContentRegistry) {
         this.namedXContentRegistry = namedXContentRegistry;
+        // The next update rebuilds the registry
+        this.searchSettings = null;
     }
 }
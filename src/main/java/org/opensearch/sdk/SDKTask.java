@@ -0,0 +1,205 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.client.Cancellable;
+import org.opensearch.common.Nullable;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+
+/**
+ * A cancellable task registered for a request OpenSearch sends to the extension, such as a REST request or an action request.
+ * <p>
+ * While the request is handled, the task is the current task of the handling thread. Calls made with the {@link SDKClient} and its
+ * clients from that thread are attached to the task, as are calls made from the listeners notified of their results, so that
+ * cancelling the task with {@link TaskManager#cancel(CancellableTask, String, Runnable)} cancels any of these calls still in flight,
+ * releasing their connections and the threads waiting on them.
+ */
+public class SDKTask extends CancellableTask {
+    private static final Logger logger = LogManager.getLogger(SDKTask.class);
+
+    private static final ThreadLocal<SDKTask> CURRENT = new ThreadLocal<>();
+
+    private final Set<Runnable> cancellations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Instantiate this task. Tasks are usually created and registered with {@link #register(TaskManager, String, String, String)}.
+     *
+     * @param id The task id.
+     * @param type The task type.
+     * @param action The action the task is executing.
+     * @param description The task description.
+     * @param parentTaskId The parent task id.
+     * @param headers The task headers.
+     */
+    public SDKTask(long id, String type, String action, String description, TaskId parentTaskId, Map<String, String> headers) {
+        super(id, type, action, description, parentTaskId, headers);
+    }
+
+    /**
+     * Creates a task and registers it with a task manager. The task must be unregistered when the request completes.
+     *
+     * @param taskManager The task manager.
+     * @param type The task type.
+     * @param action The action the task is executing.
+     * @param description The task description.
+     * @return The registered task.
+     */
+    public static SDKTask register(TaskManager taskManager, String type, String action, String description) {
+        return (SDKTask) taskManager.register(type, action, new TaskAwareRequest() {
+            @Override
+            public void setParentTask(TaskId taskId) {}
+
+            @Override
+            public TaskId getParentTask() {
+                return TaskId.EMPTY_TASK_ID;
+            }
+
+            @Override
+            public SDKTask createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new SDKTask(id, type, action, description, parentTaskId, headers);
+            }
+        });
+    }
+
+    /**
+     * Gets the current task of the calling thread.
+     *
+     * @return The task of the request being handled by the calling thread, or null if there is none.
+     */
+    @Nullable
+    public static SDKTask current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes this task the current task of the calling thread, until the returned scope is closed.
+     *
+     * @return A scope restoring the previous current task when closed.
+     */
+    public Scope enter() {
+        SDKTask previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return true;
+    }
+
+    /**
+     * Adds an action to run if this task is cancelled. If the task is already cancelled, the action runs immediately.
+     *
+     * @param cancellation The action cancelling an outbound call.
+     * @return A runnable removing the action, to be run when the call completes.
+     */
+    public Runnable addCancellation(Runnable cancellation) {
+        cancellations.add(cancellation);
+        // The task may have been cancelled before the action was added
+        if (isCancelled() && cancellations.remove(cancellation)) {
+            cancellation.run();
+        }
+        return () -> cancellations.remove(cancellation);
+    }
+
+    /**
+     * Sends an outbound call attached to this task. The call is cancelled if the task is cancelled before it completes, and the
+     * listener is notified with this task as the current task, so that calls made from the listener are attached too.
+     *
+     * @param request The function sending the call with a listener, returning a cancellable for the call.
+     * @param listener A listener to be notified with a result
+     * @param <T> The response type.
+     * @return The cancellable for the call.
+     */
+    public <T> Cancellable attach(Function<ActionListener<T>, Cancellable> request, ActionListener<T> listener) {
+        AtomicReference<Cancellable> cancellable = new AtomicReference<>();
+        Runnable remove = addCancellation(() -> {
+            Cancellable sent = cancellable.get();
+            if (sent != null) {
+                sent.cancel();
+            }
+        });
+        Cancellable sent = request.apply(ActionListener.runBefore(wrap(listener), remove::run));
+        cancellable.set(sent);
+        // The task may have been cancelled while the call was being sent
+        if (isCancelled()) {
+            sent.cancel();
+        }
+        return sent;
+    }
+
+    /**
+     * Wraps a listener so that it is notified with this task as the current task.
+     *
+     * @param listener The listener to wrap.
+     * @param <T> The response type.
+     * @return The wrapped listener.
+     */
+    public <T> ActionListener<T> wrap(ActionListener<T> listener) {
+        return new ActionListener<T>() {
+            @Override
+            public void onResponse(T response) {
+                try (Scope scope = enter()) {
+                    listener.onResponse(response);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try (Scope scope = enter()) {
+                    listener.onFailure(e);
+                }
+            }
+        };
+    }
+
+    @Override
+    protected void onCancelled() {
+        for (Runnable cancellation : cancellations) {
+            if (cancellations.remove(cancellation)) {
+                try {
+                    cancellation.run();
+                } catch (Exception e) {
+                    logger.warn("Failed to cancel a call of task [" + getId() + "]", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A scope in which a task is the current task of a thread.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        /**
+         * Restores the previous current task of the thread.
+         */
+        @Override
+        void close();
+    }
+}
@@ -15,6 +15,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -26,6 +29,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.extensions.AcknowledgedResponse;
 import org.opensearch.extensions.AddSettingsUpdateConsumerRequest;
 import org.opensearch.extensions.DiscoveryExtensionNode;
 import org.opensearch.extensions.ExtensionRequest;
@@ -66,8 +70,9 @@ public class SDKTransportService {
      * Requests that OpenSearch register the Transport Actions for this extension.
      *
      * @param actions The map of registered actions from {@link SDKActionModule#getActions()}
+     * @return A future completed when OpenSearch acknowledges the request, or exceptionally if it fails.
      */
-    public void sendRegisterTransportActionsRequest(Map<String, ActionHandler<?, ?>> actions) {
+    public CompletableFuture<AcknowledgedResponse> sendRegisterTransportActionsRequest(Map<String, ActionHandler<?, ?>> actions) {
         logger.info("Sending Register Transport Actions request to OpenSearch");
         Set<String> actionNameSet = actions.values()
             .stream()
@@ -84,7 +89,9 @@ public class SDKTransportService {
             );
         } catch (Exception e) {
             logger.error("Failed to send Register Transport Actions request to OpenSearch", e);
+            return CompletableFuture.failedFuture(e);
         }
+        return registerTransportActionsResponseHandler.getResponseFuture();
     }
 
     /**
@@ -128,8 +135,9 @@ public class SDKTransportService {
      * Requests that OpenSearch register the REST Actions for this extension.
      *
      * @param extensionRestPathRegistry The routes and classes which handle the REST requests
+     * @return A future completed when OpenSearch acknowledges the request, or exceptionally if it fails.
      */
-    public void sendRegisterRestActionsRequest(ExtensionRestPathRegistry extensionRestPathRegistry) {
+    public CompletableFuture<AcknowledgedResponse> sendRegisterRestActionsRequest(ExtensionRestPathRegistry extensionRestPathRegistry) {
         List<String> extensionRestPaths = extensionRestPathRegistry.getRegisteredPaths();
         List<String> extensionDeprecatedRestPaths = extensionRestPathRegistry.getRegisteredDeprecatedPaths();
         logger.info(
@@ -148,15 +156,18 @@ public class SDKTransportService {
             );
         } catch (Exception e) {
             logger.error("Failed to send Register REST Actions request to OpenSearch", e);
+            return CompletableFuture.failedFuture(e);
         }
+        return registerActionsResponseHandler.getResponseFuture();
     }
 
     /**
      * Requests that OpenSearch register the custom settings for this extension.
      *
      * @param customSettings A list of custom settings
+     * @return A future completed when OpenSearch acknowledges the request, or exceptionally if it fails.
      */
-    public void sendRegisterCustomSettingsRequest(List<Setting<?>> customSettings) {
+    public CompletableFuture<AcknowledgedResponse> sendRegisterCustomSettingsRequest(List<Setting<?>> customSettings) {
         logger.info("Sending Settings request to OpenSearch");
         AcknowledgedResponseHandler registerCustomSettingsResponseHandler = new AcknowledgedResponseHandler();
         try {
@@ -168,7 +179,9 @@ public class SDKTransportService {
             );
         } catch (Exception e) {
             logger.error("Failed to send Register Settings request to OpenSearch", e);
+            return CompletableFuture.failedFuture(e);
         }
+        return registerCustomSettingsResponseHandler.getResponseFuture();
     }
 
     private void sendGenericRequestWithExceptionHandling(
@@ -191,7 +204,8 @@ public class SDKTransportService {
      */
 
     public ClusterState sendClusterStateRequest() {
-        logger.info("Sending Cluster State request to OpenSearch");
+        // The cluster state is requested periodically to refresh the index mapping cache
+        logger.debug("Sending Cluster State request to OpenSearch");
         ClusterStateResponseHandler clusterStateResponseHandler = new ClusterStateResponseHandler();
         try {
             transportService.sendRequest(
@@ -251,11 +265,11 @@ public class SDKTransportService {
     }
 
     /**
-     * Requests the environment settings from OpenSearch. The result will be handled by a {@link EnvironmentSettingsResponseHandler}.
+     * Requests the environment settings from OpenSearch without waiting for the response.
      *
-     * @return A Setting object from the OpenSearch Node environment
+     * @return A future completed with the environment settings of OpenSearch, or exceptionally if the request fails.
      */
-    public Settings sendEnvironmentSettingsRequest() {
+    public CompletableFuture<Settings> sendEnvironmentSettingsRequestAsync() {
         logger.info("Sending Environment Settings request to OpenSearch");
         EnvironmentSettingsResponseHandler environmentSettingsResponseHandler = new EnvironmentSettingsResponseHandler();
         try {
@@ -265,16 +279,31 @@ public class SDKTransportService {
                 new ExtensionRequest(ExtensionRequestProto.RequestType.REQUEST_EXTENSION_ENVIRONMENT_SETTINGS),
                 environmentSettingsResponseHandler
             );
-            // Wait on environment settings response
-            environmentSettingsResponseHandler.awaitResponse();
-        } catch (TimeoutException e) {
-            logger.error("Failed to receive Environment Settings response from OpenSearch", e);
         } catch (Exception e) {
             logger.error("Failed to send Environment Settings request to OpenSearch", e);
+            return CompletableFuture.failedFuture(e);
         }
+        return environmentSettingsResponseHandler.getEnvironmentSettingsFuture();
+    }
 
-        // At this point, response handler has read in the environment settings
-        return environmentSettingsResponseHandler.getEnvironmentSettings();
+    /**
+     * Requests the environment settings from OpenSearch and waits for the response. The result will be handled by a
+     * {@link EnvironmentSettingsResponseHandler}.
+     *
+     * @return A Setting object from the OpenSearch Node environment, empty if the request failed or timed out
+     */
+    public Settings sendEnvironmentSettingsRequest() {
+        CompletableFuture<Settings> environmentSettings = sendEnvironmentSettingsRequestAsync();
+        try {
+            // Wait on environment settings response
+            return environmentSettings.orTimeout(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for Environment Settings response from OpenSearch", e);
+        } catch (ExecutionException e) {
+            logger.error("Failed to receive Environment Settings response from OpenSearch", e.getCause());
+        }
+        return Settings.EMPTY;
     }
 
     /**
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.extensions.UpdateSettingsRequest;
+import org.opensearch.transport.TransportRequest;
+
+/**
+ * A request carrying several setting updates, applied by the extension in one pass rather than with one transport call per setting.
+ */
+public class BatchedUpdateSettingsRequest extends TransportRequest {
+    /**
+     * The transport action name on which extensions handle batched setting updates.
+     */
+    public static final String ACTION_NAME = "internal:extensions/updatesettings/batch";
+
+    private final List<UpdateSettingsRequest> updateSettingsRequests;
+
+    /**
+     * Instantiate this request.
+     *
+     * @param updateSettingsRequests The setting updates, each holding a setting and its new value.
+     */
+    public BatchedUpdateSettingsRequest(List<UpdateSettingsRequest> updateSettingsRequests) {
+        this.updateSettingsRequests = List.copyOf(updateSettingsRequests);
+    }
+
+    /**
+     * BatchedUpdateSettingsRequest constructor from {@link StreamInput}.
+     *
+     * @param in bytes stream input used to de-serialize the message.
+     * @throws IOException when message de-serialization fails.
+     */
+    public BatchedUpdateSettingsRequest(StreamInput in) throws IOException {
+        super(in);
+        this.updateSettingsRequests = in.readList(UpdateSettingsRequest::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(updateSettingsRequests);
+    }
+
+    public List<UpdateSettingsRequest> getUpdateSettingsRequests() {
+        return updateSettingsRequests;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchedUpdateSettingsRequest{updateSettingsRequests=" + updateSettingsRequests + "}";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        BatchedUpdateSettingsRequest that = (BatchedUpdateSettingsRequest) obj;
+        return Objects.equals(updateSettingsRequests, that.updateSettingsRequests);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(updateSettingsRequests);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.cache;
+
+/**
+ * A count-min sketch estimating how often keys were accessed recently, using four 4-bit counters per key.
+ * <p>
+ * Counters saturate at 15 and are all halved once the number of increments reaches ten times the cache size, so that the estimates
+ * favor recent accesses. This is the admission filter of the TinyLFU policy, and is not thread-safe.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    /**
+     * Instantiate this sketch.
+     *
+     * @param maximumSize The expected maximum number of entries in the cache.
+     */
+    FrequencySketch(long maximumSize) {
+        int tableSize = Integer.highestOneBit((int) Math.min(Math.max(maximumSize, 16), 1 << 30) - 1) << 1;
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = (int) Math.min(10L * tableSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Estimates how often a key was accessed recently.
+     *
+     * @param key The key.
+     * @return The estimated frequency, from 0 to 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = Integer.MAX_VALUE;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            int offset = counterOffset(hash, depth);
+            frequency = Math.min(frequency, (int) ((table[indexOf(hash, depth)] >>> offset) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access to a key.
+     *
+     * @param key The key.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            int index = indexOf(hash, depth);
+            int offset = counterOffset(hash, depth);
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * @return The number of table entries, each holding sixteen counters.
+     */
+    int tableSize() {
+        return table.length;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size /= 2;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private static int counterOffset(int hash, int depth) {
+        // Each depth selects one of the sixteen 4-bit counters of its table entry from a different part of the hash
+        return ((hash >>> (depth << 3)) & 0xf) << 2;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.Nullable;
+
+/**
+ * Stores serialized values outside of the Java heap, in direct byte buffers or a memory-mapped file, so that they add no work to
+ * garbage collection.
+ * <p>
+ * The capacity is split into segments which are written in turn, like a ring. When the segment to be written next is still in use, it
+ * is reclaimed and the values it holds are evicted, so the oldest values are evicted first. Values replaced or removed keep using
+ * space until their segment is reclaimed. Keys and the locations of their values stay on the heap. This class is not thread-safe.
+ */
+final class OffHeapStore<K> implements Closeable {
+
+    /**
+     * The maximum size of a segment, and so of a value.
+     */
+    static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private final int segmentSize;
+    private final ByteBuffer[] segments;
+    private final List<List<K>> segmentKeys;
+    private final Map<K, Location> locations = new HashMap<>();
+    private final FileChannel channel;
+    private final Path file;
+
+    private int writeSegment = 0;
+    private int writePosition = 0;
+    private long usedBytes = 0;
+    private long evictions = 0;
+
+    /**
+     * Instantiate this store.
+     *
+     * @param capacityBytes The maximum number of bytes of values.
+     * @param file The file to map the values to, or null to store them in direct byte buffers. The file is deleted when the store is
+     *     closed.
+     * @throws IOException if the file could not be opened.
+     */
+    OffHeapStore(long capacityBytes, @Nullable Path file) throws IOException {
+        if (capacityBytes <= 0) {
+            throw new IllegalArgumentException("Off-heap capacity must be positive but was [" + capacityBytes + "]");
+        }
+        // At least two segments, so that reclaiming a segment does not evict every value
+        int segmentCount = (int) Math.max(2, (capacityBytes + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE);
+        this.segmentSize = (int) Math.min(MAX_SEGMENT_SIZE, capacityBytes / segmentCount);
+        this.segments = new ByteBuffer[segmentCount];
+        this.segmentKeys = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segmentKeys.add(new ArrayList<>());
+        }
+        this.file = file;
+        this.channel = file == null
+            ? null
+            : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Stores a value, replacing any value stored for the key.
+     *
+     * @param key The key.
+     * @param value The serialized value.
+     * @param expiresAtNanos The time at which the value expires.
+     * @return Whether the value was stored, which it is not if it is larger than a segment.
+     * @throws IOException if the memory-mapped file could not be extended.
+     */
+    boolean put(K key, byte[] value, long expiresAtNanos) throws IOException {
+        remove(key);
+        if (value.length > segmentSize) {
+            return false;
+        }
+        if (writePosition + value.length > segmentSize) {
+            writeSegment = (writeSegment + 1) % segments.length;
+            writePosition = 0;
+            reclaim(writeSegment);
+        }
+        ByteBuffer segment = segment(writeSegment).duplicate();
+        segment.position(writePosition);
+        segment.put(value);
+        locations.put(key, new Location(writeSegment, writePosition, value.length, expiresAtNanos));
+        segmentKeys.get(writeSegment).add(key);
+        writePosition += value.length;
+        usedBytes += value.length;
+        return true;
+    }
+
+    /**
+     * Reads and removes a value, so that it can be promoted to the heap.
+     *
+     * @param key The key.
+     * @param nowNanos The current time, values expired by which are removed rather than returned.
+     * @return The serialized value with its expiry, or null if no unexpired value is stored for the key.
+     */
+    @Nullable
+    Value take(K key, long nowNanos) {
+        Location location = locations.remove(key);
+        if (location == null) {
+            return null;
+        }
+        usedBytes -= location.length;
+        if (SDKCache.isExpired(location.expiresAtNanos, nowNanos)) {
+            return null;
+        }
+        byte[] value = new byte[location.length];
+        ByteBuffer segment = segments[location.segment].duplicate();
+        segment.position(location.offset);
+        segment.get(value);
+        return new Value(value, location.expiresAtNanos);
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param key The key.
+     */
+    void remove(K key) {
+        Location location = locations.remove(key);
+        if (location != null) {
+            usedBytes -= location.length;
+        }
+    }
+
+    /**
+     * Removes all values.
+     */
+    void clear() {
+        locations.clear();
+        segmentKeys.forEach(List::clear);
+        usedBytes = 0;
+    }
+
+    /**
+     * @return The number of stored values.
+     */
+    int count() {
+        return locations.size();
+    }
+
+    /**
+     * @return The number of bytes of stored values.
+     */
+    long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * @return The number of values evicted to reuse their segment.
+     */
+    long evictions() {
+        return evictions;
+    }
+
+    @Override
+    public void close() throws IOException {
+        clear();
+        if (channel != null) {
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void reclaim(int segment) {
+        List<K> keys = segmentKeys.get(segment);
+        for (K key : keys) {
+            Location location = locations.get(key);
+            // The key may have been removed, or stored again in another segment
+            if (location != null && location.segment == segment) {
+                locations.remove(key);
+                usedBytes -= location.length;
+                evictions++;
+            }
+        }
+        keys.clear();
+    }
+
+    private ByteBuffer segment(int segment) throws IOException {
+        // Segments are allocated when first written, so that unused capacity takes no memory
+        if (segments[segment] == null) {
+            segments[segment] = channel == null
+                ? ByteBuffer.allocateDirect(segmentSize)
+                : channel.map(FileChannel.MapMode.READ_WRITE, (long) segment * segmentSize, segmentSize);
+        }
+        return segments[segment];
+    }
+
+    /**
+     * A value taken from the store.
+     */
+    static final class Value {
+        private final byte[] bytes;
+        private final long expiresAtNanos;
+
+        Value(byte[] bytes, long expiresAtNanos) {
+            this.bytes = bytes;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        /**
+         * @return The serialized value.
+         */
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return The time at which the value expires, as set when it was first written to the cache.
+         */
+        long getExpiresAtNanos() {
+            return expiresAtNanos;
+        }
+    }
+
+    private static final class Location {
+        private final int segment;
+        private final int offset;
+        private final int length;
+        private final long expiresAtNanos;
+
+        Location(int segment, int offset, int length, long expiresAtNanos) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
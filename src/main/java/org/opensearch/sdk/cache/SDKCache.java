@@ -0,0 +1,663 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * A bounded cache with a heap tier evicting entries with the W-TinyLFU policy, and an optional off-heap tier holding the entries
+ * evicted from the heap tier in serialized form.
+ * <p>
+ * New entries enter a small window, sized at 1% of the heap tier, which evicts its least recently used entries into the main space. An
+ * entry leaving the window is only admitted into a full main space if it was accessed more often recently than the main space's
+ * eviction victim, as estimated by a {@link FrequencySketch}, so that one-off entries do not evict frequently used ones. The main space
+ * is split into a probation segment and a protected segment, holding 80% of the main space, which entries are promoted to when
+ * accessed again.
+ * <p>
+ * With an off-heap tier, entries evicted from the heap tier are serialized with {@link Writeable#writeTo} into direct byte buffers or a
+ * memory-mapped file, and read back with the cache's {@link Writeable.Reader} and promoted to the heap tier when accessed again. This
+ * allows a working set much larger than the heap tier without adding to garbage collection pauses.
+ * <p>
+ * Entries may expire a fixed time after they were written, which moving between tiers does not extend. Instances are created with
+ * {@link SDKCacheService#builder(String)} and are thread-safe.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class SDKCache<K, V> implements Closeable {
+    private static final Logger logger = LogManager.getLogger(SDKCache.class);
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+    /**
+     * The number of entries the frequency sketch of a cache limited only by weight is sized for, as weights such as sizes in bytes say
+     * little about the number of entries. This sketch takes 2MB of heap.
+     */
+    static final long WEIGHTED_SKETCH_ENTRIES = 1 << 18;
+
+    private final String name;
+    private final long maximumEntries;
+    private final long maximumWeight;
+    private final ToLongBiFunction<K, V> weigher;
+    private final long expireAfterWriteNanos;
+    private final Writeable.Reader<V> reader;
+    private final LongSupplier nanoTime;
+    private final Consumer<SDKCache<K, V>> onClose;
+
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final FrequencySketch sketch;
+    private final Map<K, Node<K, V>> nodes = new HashMap<>();
+    // Keys taken from the off-heap tier whose values are being read back, mapped to a token which writes of the key remove
+    private final Map<K, Object> promotions = new HashMap<>();
+    // Access-ordered queues, iterating from the least recently used entry
+    private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight = 0;
+    private long probationWeight = 0;
+    private long protectedWeight = 0;
+    private final OffHeapStore<K> offHeap;
+
+    private long hits = 0;
+    private long offHeapHits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long expirations = 0;
+
+    SDKCache(Builder<K, V> builder, Consumer<SDKCache<K, V>> onClose) throws IOException {
+        if (builder.maximumEntries <= 0 && builder.maximumWeight <= 0) {
+            throw new IllegalArgumentException("Cache [" + builder.name + "] requires a maximum number of entries or a maximum weight");
+        }
+        if (builder.offHeapBytes > 0 && builder.reader == null) {
+            throw new IllegalArgumentException("Cache [" + builder.name + "] requires a value reader to store values off-heap");
+        }
+        this.name = builder.name;
+        this.maximumEntries = builder.maximumEntries > 0 ? builder.maximumEntries : Long.MAX_VALUE;
+        this.maximumWeight = builder.maximumWeight > 0 ? builder.maximumWeight : Long.MAX_VALUE;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null ? NO_EXPIRY : builder.expireAfterWrite.nanos();
+        this.reader = builder.reader;
+        this.nanoTime = builder.nanoTime;
+        this.onClose = onClose;
+        // The policy is sized by weight, or by entries if the weight is not limited
+        long capacity = builder.maximumWeight > 0 ? builder.maximumWeight : builder.maximumEntries;
+        this.windowMaximum = Math.max(1, (long) (capacity * WINDOW_RATIO));
+        this.protectedMaximum = (long) ((capacity - windowMaximum) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch(
+            builder.maximumEntries > 0 ? builder.maximumEntries : Math.min(builder.maximumWeight, WEIGHTED_SKETCH_ENTRIES)
+        );
+        this.offHeap = builder.offHeapBytes > 0 ? new OffHeapStore<>(builder.offHeapBytes, builder.offHeapFile) : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets a value from the cache.
+     *
+     * @param key The key.
+     * @return The value, or null if there is no unexpired value for the key.
+     */
+    @Nullable
+    public V get(K key) {
+        OffHeapStore.Value serialized;
+        Object promotion = new Object();
+        synchronized (this) {
+            long now = nanoTime.getAsLong();
+            sketch.increment(key);
+            Node<K, V> node = nodes.get(key);
+            if (node != null) {
+                if (!isExpired(node.expiresAtNanos, now)) {
+                    hits++;
+                    onAccess(node);
+                    return node.value;
+                }
+                expirations++;
+                remove(node);
+            }
+            serialized = offHeap == null ? null : offHeap.take(key, now);
+            if (serialized == null) {
+                misses++;
+                return null;
+            }
+            offHeapHits++;
+            promotions.put(key, promotion);
+        }
+        // Values are read back outside of the lock, and promoted with their original expiry unless they were written or invalidated
+        // meanwhile
+        V value;
+        try (StreamInput in = StreamInput.wrap(serialized.getBytes())) {
+            value = reader.read(in);
+        } catch (IOException e) {
+            logger.warn("Failed to read a value of cache [" + name + "] from off-heap memory", e);
+            synchronized (this) {
+                promotions.remove(key, promotion);
+            }
+            return null;
+        }
+        synchronized (this) {
+            if (promotions.remove(key, promotion) && !nodes.containsKey(key)) {
+                insert(key, value, serialized.getExpiresAtNanos());
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Gets a value from the cache, loading and caching it if there is none. Concurrent calls for the same key may each load the value.
+     *
+     * @param key The key.
+     * @param loader The function loading the value for a key, which may return null to not cache a value.
+     * @return The cached or loaded value.
+     */
+    @Nullable
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value, replacing any value cached for the key.
+     *
+     * @param key The key.
+     * @param value The value.
+     */
+    public synchronized void put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        sketch.increment(key);
+        Node<K, V> node = nodes.get(key);
+        if (node != null) {
+            remove(node);
+        }
+        if (offHeap != null) {
+            offHeap.remove(key);
+        }
+        promotions.remove(key);
+        insert(key, value, expireAfterWriteNanos == NO_EXPIRY ? NO_EXPIRY : nanoTime.getAsLong() + expireAfterWriteNanos);
+    }
+
+    /**
+     * Removes a value from the cache.
+     *
+     * @param key The key.
+     */
+    public synchronized void invalidate(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (node != null) {
+            remove(node);
+        }
+        if (offHeap != null) {
+            offHeap.remove(key);
+        }
+        promotions.remove(key);
+    }
+
+    /**
+     * Removes all values from the cache.
+     */
+    public synchronized void invalidateAll() {
+        nodes.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+        promotions.clear();
+        if (offHeap != null) {
+            offHeap.clear();
+        }
+    }
+
+    /**
+     * @return The number of cached values, in both tiers. Expired values are counted until they are accessed or evicted.
+     */
+    public synchronized long count() {
+        return nodes.size() + (offHeap == null ? 0 : offHeap.count());
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, and eviction statistics.
+     *
+     * @return The statistics.
+     */
+    public synchronized Stats stats() {
+        return new Stats(
+            hits,
+            offHeapHits,
+            misses,
+            evictions,
+            offHeap == null ? 0 : offHeap.evictions(),
+            expirations,
+            nodes.size(),
+            windowWeight + probationWeight + protectedWeight,
+            offHeap == null ? 0 : offHeap.count(),
+            offHeap == null ? 0 : offHeap.usedBytes()
+        );
+    }
+
+    /**
+     * Removes all values and releases the off-heap memory. The cache must not be used afterwards.
+     *
+     * @throws IOException if the memory-mapped file could not be closed or deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            invalidateAll();
+            if (offHeap != null) {
+                offHeap.close();
+            }
+        }
+        onClose.accept(this);
+    }
+
+    static boolean isExpired(long expiresAtNanos, long nowNanos) {
+        return expiresAtNanos != NO_EXPIRY && nowNanos - expiresAtNanos >= 0;
+    }
+
+    /**
+     * @return The number of table entries of the frequency sketch.
+     */
+    synchronized int sketchSize() {
+        return sketch.tableSize();
+    }
+
+    private void insert(K key, V value, long expiresAtNanos) {
+        long weight = weigher.applyAsLong(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Cache [" + name + "] weigher returned a negative weight [" + weight + "]");
+        }
+        Node<K, V> node = new Node<>(key, value, weight, expiresAtNanos);
+        nodes.put(key, node);
+        window.put(key, node);
+        windowWeight += weight;
+        evict();
+    }
+
+    /**
+     * Moves entries overflowing the window into probation, then evicts entries until the cache is within its limits, choosing between
+     * each entry leaving the window and the main space's least recently used entry by their estimated frequency.
+     */
+    private void evict() {
+        K candidate = null;
+        while (windowWeight > windowMaximum && window.size() > 1) {
+            Node<K, V> node = window.values().iterator().next();
+            window.remove(node.key);
+            windowWeight -= node.weight;
+            node.queue = Queue.PROBATION;
+            probation.put(node.key, node);
+            probationWeight += node.weight;
+            if (candidate == null) {
+                candidate = node.key;
+            }
+        }
+        while (nodes.size() > maximumEntries || windowWeight + probationWeight + protectedWeight > maximumWeight) {
+            Node<K, V> victim = firstOf(probation);
+            if (victim == null) {
+                victim = firstOf(protectedSegment);
+            }
+            if (victim == null) {
+                victim = firstOf(window);
+            }
+            Node<K, V> challenger = candidate == null ? null : probation.get(candidate);
+            if (challenger != null && challenger != victim) {
+                if (sketch.frequency(challenger.key) <= sketch.frequency(victim.key)) {
+                    victim = challenger;
+                }
+            }
+            if (victim.key.equals(candidate)) {
+                candidate = null;
+            }
+            evictions++;
+            remove(victim);
+            demote(victim);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.get(node.key);
+                break;
+            case PROBATION:
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                node.queue = Queue.PROTECTED;
+                protectedSegment.put(node.key, node);
+                protectedWeight += node.weight;
+                while (protectedWeight > protectedMaximum && protectedSegment.size() > 1) {
+                    Node<K, V> demoted = firstOf(protectedSegment);
+                    protectedSegment.remove(demoted.key);
+                    protectedWeight -= demoted.weight;
+                    demoted.queue = Queue.PROBATION;
+                    probation.put(demoted.key, demoted);
+                    probationWeight += demoted.weight;
+                }
+                break;
+            case PROTECTED:
+                protectedSegment.get(node.key);
+                break;
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        nodes.remove(node.key);
+        switch (node.queue) {
+            case WINDOW:
+                window.remove(node.key);
+                windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                break;
+            case PROTECTED:
+                protectedSegment.remove(node.key);
+                protectedWeight -= node.weight;
+                break;
+        }
+    }
+
+    /**
+     * Moves an entry evicted from the heap tier to the off-heap tier, if there is one.
+     */
+    private void demote(Node<K, V> node) {
+        if (offHeap == null || isExpired(node.expiresAtNanos, nanoTime.getAsLong())) {
+            return;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            ((Writeable) node.value).writeTo(out);
+            offHeap.put(node.key, BytesReference.toBytes(out.bytes()), node.expiresAtNanos);
+        } catch (IOException | ClassCastException e) {
+            logger.warn("Failed to move a value of cache [" + name + "] to off-heap memory", e);
+        }
+    }
+
+    @Nullable
+    private static <K, V> Node<K, V> firstOf(LinkedHashMap<K, Node<K, V>> queue) {
+        Iterator<Node<K, V>> iterator = queue.values().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private enum Queue {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long weight;
+        private final long expiresAtNanos;
+        private Queue queue = Queue.WINDOW;
+
+        Node(K key, V value, long weight, long expiresAtNanos) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    /**
+     * Builds a cache. Instances are created with {@link SDKCacheService#builder(String)}.
+     *
+     * @param <K> The key type.
+     * @param <V> The value type.
+     */
+    public static class Builder<K, V> {
+        private final String name;
+        private final Function<Builder<K, V>, SDKCache<K, V>> register;
+        private long maximumEntries = 0;
+        private long maximumWeight = 0;
+        private ToLongBiFunction<K, V> weigher = (k, v) -> 1;
+        private TimeValue expireAfterWrite = null;
+        private long offHeapBytes = 0;
+        private Path offHeapFile = null;
+        private Writeable.Reader<V> reader = null;
+        private LongSupplier nanoTime = System::nanoTime;
+
+        Builder(String name, Function<Builder<K, V>, SDKCache<K, V>> register) {
+            this.name = name;
+            this.register = register;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Sets the maximum number of entries of the heap tier.
+         *
+         * @param maximumEntries The maximum number of entries.
+         * @return This builder.
+         */
+        public Builder<K, V> setMaximumEntries(long maximumEntries) {
+            this.maximumEntries = maximumEntries;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of the entries of the heap tier, as computed by the weigher. If the number of entries is not
+         * also limited, the frequency sketch is sized for at most {@value SDKCache#WEIGHTED_SKETCH_ENTRIES} entries.
+         *
+         * @param maximumWeight The maximum weight.
+         * @return This builder.
+         */
+        public Builder<K, V> setMaximumWeight(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Sets the function computing the weight of an entry, such as its approximate size in bytes. Entries weigh 1 by default.
+         *
+         * @param weigher The weigher.
+         * @return This builder.
+         */
+        public Builder<K, V> setWeigher(ToLongBiFunction<K, V> weigher) {
+            this.weigher = Objects.requireNonNull(weigher);
+            return this;
+        }
+
+        /**
+         * Sets how long after it was written an entry expires.
+         *
+         * @param expireAfterWrite The time to live, or null for entries to not expire.
+         * @return This builder.
+         */
+        public Builder<K, V> setExpireAfterWrite(@Nullable TimeValue expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Adds an off-heap tier held in direct byte buffers. Values must implement {@link Writeable}.
+         *
+         * @param offHeapBytes The capacity of the off-heap tier in bytes.
+         * @param reader The reader deserializing values.
+         * @return This builder.
+         */
+        public Builder<K, V> setOffHeap(long offHeapBytes, Writeable.Reader<V> reader) {
+            return setOffHeap(offHeapBytes, reader, null);
+        }
+
+        /**
+         * Adds an off-heap tier held in direct byte buffers or a memory-mapped file. Values must implement {@link Writeable}.
+         *
+         * @param offHeapBytes The capacity of the off-heap tier in bytes.
+         * @param reader The reader deserializing values.
+         * @param file The file to map, which is deleted when the cache is closed, or null to use direct byte buffers.
+         * @return This builder.
+         */
+        public Builder<K, V> setOffHeap(long offHeapBytes, Writeable.Reader<V> reader, @Nullable Path file) {
+            this.offHeapBytes = offHeapBytes;
+            this.reader = Objects.requireNonNull(reader);
+            this.offHeapFile = file;
+            return this;
+        }
+
+        Builder<K, V> setNanoTime(LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        /**
+         * Builds the cache and registers it with the cache service.
+         *
+         * @return The cache.
+         */
+        public SDKCache<K, V> build() {
+            return register.apply(this);
+        }
+    }
+
+    /**
+     * The statistics of a cache.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long offHeapHits;
+        private final long misses;
+        private final long evictions;
+        private final long offHeapEvictions;
+        private final long expirations;
+        private final long heapEntries;
+        private final long heapWeight;
+        private final long offHeapEntries;
+        private final long offHeapBytes;
+
+        Stats(
+            long hits,
+            long offHeapHits,
+            long misses,
+            long evictions,
+            long offHeapEvictions,
+            long expirations,
+            long heapEntries,
+            long heapWeight,
+            long offHeapEntries,
+            long offHeapBytes
+        ) {
+            this.hits = hits;
+            this.offHeapHits = offHeapHits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.offHeapEvictions = offHeapEvictions;
+            this.expirations = expirations;
+            this.heapEntries = heapEntries;
+            this.heapWeight = heapWeight;
+            this.offHeapEntries = offHeapEntries;
+            this.offHeapBytes = offHeapBytes;
+        }
+
+        /**
+         * @return The number of reads served from the heap tier.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return The number of reads served from the off-heap tier.
+         */
+        public long getOffHeapHits() {
+            return offHeapHits;
+        }
+
+        /**
+         * @return The number of reads finding no value.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return The number of entries evicted from the heap tier, including those moved to the off-heap tier.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * @return The number of entries evicted from the off-heap tier.
+         */
+        public long getOffHeapEvictions() {
+            return offHeapEvictions;
+        }
+
+        /**
+         * @return The number of expired entries removed from the heap tier when read.
+         */
+        public long getExpirations() {
+            return expirations;
+        }
+
+        /**
+         * @return The number of entries in the heap tier.
+         */
+        public long getHeapEntries() {
+            return heapEntries;
+        }
+
+        /**
+         * @return The total weight of the entries in the heap tier.
+         */
+        public long getHeapWeight() {
+            return heapWeight;
+        }
+
+        /**
+         * @return The number of entries in the off-heap tier.
+         */
+        public long getOffHeapEntries() {
+            return offHeapEntries;
+        }
+
+        /**
+         * @return The number of bytes of the values in the off-heap tier.
+         */
+        public long getOffHeapBytes() {
+            return offHeapBytes;
+        }
+    }
+}
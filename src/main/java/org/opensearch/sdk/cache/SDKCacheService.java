@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+
+/**
+ * Creates the named caches of an extension and keeps track of them, so that their statistics can be reported together and their
+ * off-heap memory released when the extension process exits. An instance is bound by the {@code ExtensionsRunner}, which closes it
+ * from a shutdown hook, and can be injected into extension components.
+ */
+public class SDKCacheService implements Closeable {
+    private static final Logger logger = LogManager.getLogger(SDKCacheService.class);
+
+    private final Map<String, SDKCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Starts building a cache, which is registered under its name when built.
+     *
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @param name The cache name, which must be unique among the open caches.
+     * @return A builder for the cache.
+     */
+    public <K, V> SDKCache.Builder<K, V> builder(String name) {
+        return new SDKCache.Builder<>(name, this::register);
+    }
+
+    /**
+     * Gets an open cache.
+     *
+     * @param name The cache name.
+     * @return The cache, or null if there is no open cache with this name.
+     */
+    @Nullable
+    public SDKCache<?, ?> getCache(String name) {
+        return caches.get(name);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of each open cache.
+     *
+     * @return A map of cache names to statistics, sorted by name.
+     */
+    public Map<String, SDKCache.Stats> stats() {
+        Map<String, SDKCache.Stats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Closes all open caches, releasing their off-heap memory.
+     */
+    @Override
+    public void close() {
+        for (SDKCache<?, ?> cache : new ArrayList<>(caches.values())) {
+            try {
+                cache.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close cache [" + cache.getName() + "]", e);
+            }
+        }
+    }
+
+    private <K, V> SDKCache<K, V> register(SDKCache.Builder<K, V> builder) {
+        String name = builder.getName();
+        if (caches.containsKey(name)) {
+            throw new IllegalArgumentException("Cache [" + name + "] already exists");
+        }
+        SDKCache<K, V> cache;
+        try {
+            cache = new SDKCache<>(builder, closed -> caches.remove(name, closed));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create the off-heap tier of cache [" + name + "]", e);
+        }
+        if (caches.putIfAbsent(name, cache) != null) {
+            try {
+                cache.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close cache [" + name + "]", e);
+            }
+            throw new IllegalArgumentException("Cache [" + name + "] already exists");
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Limits the number of concurrent requests to OpenSearch, adapting the limit to how OpenSearch responds.
+ * <p>
+ * The limit follows additive-increase/multiplicative-decrease (AIMD): each request completing successfully raises the limit by the
+ * reciprocal of the limit, so it grows by about one per round of requests, while a request rejected as overloaded, or completing
+ * much more slowly than the recent baseline latency, multiplies the limit by a backoff ratio. The baseline is the minimum latency
+ * observed over a window of recent requests, so it tracks changes in the workload.
+ * <p>
+ * Requests submitted while the limit is reached are queued, never blocking the submitting thread, and started in order as requests
+ * complete. The queue is bounded, and requests submitted while it is full are rejected so that callers fail fast rather than wait
+ * behind a backlog OpenSearch cannot absorb.
+ * <p>
+ * The baseline assumes requests of similar cost, so requests of different kinds, such as gets and bulks, should each pass through
+ * their own limiter.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * The default factor by which the limit is multiplied when OpenSearch is overloaded.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /**
+     * The default multiple of the baseline latency beyond which a request is considered a sign of overload.
+     */
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * The default maximum number of requests waiting for the limit.
+     */
+    public static final int DEFAULT_MAX_QUEUED = 1000;
+
+    // The number of completed requests over which the baseline latency is measured
+    private static final int BASELINE_WINDOW = 100;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int maxQueued;
+
+    // Guarded by this
+    private double limit;
+    private int inFlight = 0;
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+    private long baselineNanos = 0;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int windowCount = 0;
+
+    /**
+     * Instantiate this limiter with the default backoff ratio, latency tolerance and queue size.
+     *
+     * @param initialLimit The initial concurrency limit.
+     * @param minLimit The lowest the limit may decrease to.
+     * @param maxLimit The highest the limit may increase to.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, DEFAULT_BACKOFF_RATIO, DEFAULT_LATENCY_TOLERANCE, DEFAULT_MAX_QUEUED);
+    }
+
+    /**
+     * Instantiate this limiter.
+     *
+     * @param initialLimit The initial concurrency limit.
+     * @param minLimit The lowest the limit may decrease to.
+     * @param maxLimit The highest the limit may increase to.
+     * @param backoffRatio The factor, between 0 and 1, by which the limit is multiplied when OpenSearch is overloaded.
+     * @param latencyTolerance The multiple of the baseline latency beyond which a request is considered a sign of overload.
+     * @param maxQueued The maximum number of requests waiting for the limit, beyond which requests are rejected.
+     */
+    public AdaptiveConcurrencyLimiter(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double backoffRatio,
+        double latencyTolerance,
+        int maxQueued
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                "Limits must satisfy 1 <= min <= initial <= max but were [" + minLimit + "], [" + initialLimit + "], [" + maxLimit + "]"
+            );
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1 but was [" + backoffRatio + "]");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("Max queued requests must not be negative but was [" + maxQueued + "]");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Starts a request if the limit allows, otherwise queues it if the queue is not full. The request must call
+     * {@link #release(long)} or {@link #releaseFailure(boolean)} once it completes.
+     *
+     * @param request The task sending the request.
+     * @return Whether the request was started or queued, rather than rejected.
+     */
+    public boolean submit(Runnable request) {
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                if (queue.size() >= maxQueued) {
+                    return false;
+                }
+                queue.add(request);
+                return true;
+            }
+            inFlight++;
+        }
+        request.run();
+        return true;
+    }
+
+    /**
+     * Starts a request only if the limit allows it to start immediately.
+     *
+     * @param request The task sending the request.
+     * @return Whether the request was started.
+     */
+    public boolean trySubmit(Runnable request) {
+        synchronized (this) {
+            if (inFlight >= (int) limit || !queue.isEmpty()) {
+                return false;
+            }
+            inFlight++;
+        }
+        request.run();
+        return true;
+    }
+
+    /**
+     * Records the successful completion of a request, adjusts the limit, and starts queued requests the new limit allows.
+     *
+     * @param latencyNanos The time the request took.
+     */
+    public void release(long latencyNanos) {
+        release(latencyNanos, false);
+    }
+
+    /**
+     * Records the failure of a request, and starts queued requests the limit allows. The latency of a failure, which may be an
+     * immediate error, is not a sample of how long OpenSearch takes to respond, so only a rejection because OpenSearch is overloaded
+     * adjusts the limit.
+     *
+     * @param overloaded Whether OpenSearch rejected the request as overloaded, e.g., with a {@code 429} status.
+     */
+    public void releaseFailure(boolean overloaded) {
+        release(-1, overloaded);
+    }
+
+    private void release(long latencyNanos, boolean overloaded) {
+        Deque<Runnable> toRun = new ArrayDeque<>();
+        synchronized (this) {
+            inFlight--;
+            if (latencyNanos >= 0) {
+                windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+                if (++windowCount >= BASELINE_WINDOW) {
+                    baselineNanos = windowMinNanos;
+                    windowMinNanos = Long.MAX_VALUE;
+                    windowCount = 0;
+                }
+            }
+            if (overloaded || (baselineNanos > 0 && latencyNanos > baselineNanos * latencyTolerance)) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (latencyNanos >= 0) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                inFlight++;
+                toRun.add(queue.poll());
+            }
+        }
+        toRun.forEach(Runnable::run);
+    }
+
+    /**
+     * @return The current concurrency limit.
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return The number of requests in flight.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return The number of requests waiting to start.
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+}
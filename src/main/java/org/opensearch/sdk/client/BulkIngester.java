@@ -0,0 +1,584 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+
+/**
+ * Buffers document write requests and sends them to OpenSearch as asynchronous bulk requests.
+ * <p>
+ * A bulk request is sent when the buffer reaches a number of actions or an estimated size in bytes, or when the flush interval elapses.
+ * At most a configured number of bulk requests are in flight at once, with further bulk requests queued until one completes. Items
+ * rejected with {@link RestStatus#TOO_MANY_REQUESTS} are retried following a {@link BackoffPolicy}.
+ * <p>
+ * The number of actions which have been added but have not yet completed is bounded. Once the bound is reached, {@link #add} either
+ * blocks until an action completes or fails fast, depending on configuration. Every added action is reported exactly once to the
+ * {@link Listener}.
+ */
+public class BulkIngester implements Closeable {
+    private static final Logger logger = LogManager.getLogger(BulkIngester.class);
+
+    /**
+     * Receives the result of each action added to the ingester. Callbacks are invoked on the thread completing the bulk request and
+     * should not block.
+     */
+    public interface Listener {
+        /**
+         * Called when OpenSearch returns the final result of an action, which may be a failure.
+         *
+         * @param request The action.
+         * @param response The result of the action.
+         */
+        void onResponse(DocWriteRequest<?> request, BulkItemResponse response);
+
+        /**
+         * Called when the bulk request containing an action failed as a whole.
+         *
+         * @param request The action.
+         * @param e The failure of the bulk request.
+         */
+        void onFailure(DocWriteRequest<?> request, Exception e);
+    }
+
+    private final BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer;
+    private final Listener listener;
+    private final int maxActions;
+    private final long maxBytes;
+    private final int maxConcurrentRequests;
+    private final int maxBufferedActions;
+    private final boolean blockWhenFull;
+    private final BackoffPolicy backoffPolicy;
+    private final ScheduledExecutorService scheduler;
+
+    // Permits for actions which have been added and not completed
+    private final Semaphore bufferPermits;
+
+    // Guarded by this
+    private BulkRequest current = new BulkRequest();
+    private final Deque<BulkRequest> queued = new ArrayDeque<>();
+    private int inFlight = 0;
+    private boolean closed = false;
+
+    private final AtomicLong addedActions = new AtomicLong();
+    private final AtomicLong succeededActions = new AtomicLong();
+    private final AtomicLong failedActions = new AtomicLong();
+    private final AtomicLong retriedActions = new AtomicLong();
+    private final AtomicLong sentRequests = new AtomicLong();
+    private final AtomicLong sentBytes = new AtomicLong();
+
+    private BulkIngester(Builder builder) {
+        this.consumer = builder.consumer;
+        this.listener = builder.listener;
+        this.maxActions = builder.maxActions;
+        this.maxBytes = builder.maxSize.getBytes();
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.maxBufferedActions = builder.maxBufferedActions;
+        this.blockWhenFull = builder.blockWhenFull;
+        this.backoffPolicy = builder.backoffPolicy;
+        this.bufferPermits = new Semaphore(maxBufferedActions);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(OpenSearchExecutors.daemonThreadFactory("bulk_ingester"));
+        if (builder.flushInterval != null) {
+            long millis = builder.flushInterval.millis();
+            scheduler.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Creates a builder for an ingester sending bulk requests with a client.
+     *
+     * @param client The client to send bulk requests.
+     * @param listener The listener to receive the result of each action.
+     * @return A builder with default settings.
+     */
+    public static Builder builder(SDKRestClient client, Listener listener) {
+        return builder(client::bulk, listener);
+    }
+
+    /**
+     * Creates a builder for an ingester sending bulk requests with a consumer.
+     *
+     * @param consumer The consumer to send bulk requests asynchronously.
+     * @param listener The listener to receive the result of each action.
+     * @return A builder with default settings.
+     */
+    public static Builder builder(BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer, Listener listener) {
+        return new Builder(consumer, listener);
+    }
+
+    /**
+     * Adds an action to the buffer, sending a bulk request if a threshold is reached.
+     *
+     * @param request The action to add.
+     * @throws InterruptedException if interrupted while waiting for buffer space.
+     * @throws RejectedExecutionException if the buffer is full and the ingester is configured to fail fast.
+     * @throws IllegalStateException if the ingester is closed.
+     */
+    public void add(DocWriteRequest<?> request) throws InterruptedException {
+        Objects.requireNonNull(request);
+        ensureOpen();
+        if (blockWhenFull) {
+            bufferPermits.acquire();
+        } else if (!bufferPermits.tryAcquire()) {
+            throw new RejectedExecutionException("Bulk ingester buffer is full with [" + maxBufferedActions + "] pending actions");
+        }
+        List<BulkRequest> toSend;
+        synchronized (this) {
+            if (closed) {
+                bufferPermits.release();
+                throw new IllegalStateException("Bulk ingester is closed");
+            }
+            addedActions.incrementAndGet();
+            current.add(request);
+            // Also send when the buffer holds every permit, as no further action could be added to reach a threshold
+            if (current.numberOfActions() < maxActions
+                && current.estimatedSizeInBytes() < maxBytes
+                && bufferPermits.availablePermits() > 0) {
+                return;
+            }
+            toSend = enqueueCurrent();
+        }
+        send(toSend);
+    }
+
+    /**
+     * Sends the buffered actions, if any, without waiting for a threshold to be reached.
+     */
+    public void flush() {
+        List<BulkRequest> toSend;
+        synchronized (this) {
+            if (current.numberOfActions() == 0) {
+                return;
+            }
+            toSend = enqueueCurrent();
+        }
+        send(toSend);
+    }
+
+    /**
+     * Returns a snapshot of the ingester's metrics.
+     *
+     * @return The metrics.
+     */
+    public Stats stats() {
+        int pendingRequests;
+        int inFlightRequests;
+        synchronized (this) {
+            pendingRequests = queued.size();
+            inFlightRequests = inFlight;
+        }
+        return new Stats(
+            addedActions.get(),
+            succeededActions.get(),
+            failedActions.get(),
+            retriedActions.get(),
+            sentRequests.get(),
+            sentBytes.get(),
+            maxBufferedActions - bufferPermits.availablePermits(),
+            pendingRequests,
+            inFlightRequests
+        );
+    }
+
+    /**
+     * Flushes the buffer, stops accepting actions, and waits for all added actions to complete.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if all actions completed, false if the timeout elapsed first.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean awaitClose(long timeout, TimeUnit unit) throws InterruptedException {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+        try {
+            if (bufferPermits.tryAcquire(maxBufferedActions, timeout, unit)) {
+                bufferPermits.release(maxBufferedActions);
+                return true;
+            }
+            return false;
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Flushes the buffer, stops accepting actions, and waits for all added actions to complete.
+     */
+    @Override
+    public void close() {
+        try {
+            awaitClose(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Bulk ingester is closed");
+        }
+    }
+
+    /**
+     * Moves the current buffer to the queue and takes the requests which may be sent now. Must be called holding the lock.
+     */
+    private List<BulkRequest> enqueueCurrent() {
+        queued.add(current);
+        current = new BulkRequest();
+        return takeSendable();
+    }
+
+    private List<BulkRequest> takeSendable() {
+        List<BulkRequest> sendable = new ArrayList<>();
+        while (inFlight < maxConcurrentRequests && !queued.isEmpty()) {
+            inFlight++;
+            sendable.add(queued.poll());
+        }
+        return sendable;
+    }
+
+    private void send(List<BulkRequest> requests) {
+        for (BulkRequest request : requests) {
+            execute(request, backoffPolicy.iterator());
+        }
+    }
+
+    private void execute(BulkRequest request, Iterator<TimeValue> backoff) {
+        sentRequests.incrementAndGet();
+        sentBytes.addAndGet(request.estimatedSizeInBytes());
+        try {
+            consumer.accept(
+                request,
+                ActionListener.wrap(response -> onBulkResponse(request, backoff, response), e -> onBulkFailure(request, backoff, e))
+            );
+        } catch (Exception e) {
+            onBulkFailure(request, backoff, e);
+        }
+    }
+
+    private void onBulkResponse(BulkRequest request, Iterator<TimeValue> backoff, BulkResponse response) {
+        List<DocWriteRequest<?>> retries = new ArrayList<>();
+        BulkItemResponse[] items = response.getItems();
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> item = request.requests().get(i);
+            if (items[i].isFailed() && items[i].status() == RestStatus.TOO_MANY_REQUESTS && backoff.hasNext()) {
+                retries.add(item);
+            } else {
+                complete(item, items[i]);
+            }
+        }
+        if (retries.isEmpty()) {
+            onBulkDone();
+        } else {
+            BulkRequest retry = new BulkRequest();
+            retry.add(retries);
+            scheduleRetry(retry, backoff);
+        }
+    }
+
+    private void onBulkFailure(BulkRequest request, Iterator<TimeValue> backoff, Exception e) {
+        if (ExceptionsHelper.status(e) == RestStatus.TOO_MANY_REQUESTS && backoff.hasNext()) {
+            scheduleRetry(request, backoff);
+            return;
+        }
+        for (DocWriteRequest<?> item : request.requests()) {
+            failedActions.incrementAndGet();
+            try {
+                listener.onFailure(item, e);
+            } catch (Exception listenerException) {
+                logger.warn("Bulk ingester listener failed", listenerException);
+            } finally {
+                bufferPermits.release();
+            }
+        }
+        onBulkDone();
+    }
+
+    /**
+     * Resends throttled actions after a delay. The retry keeps the in-flight slot of the original request.
+     */
+    private void scheduleRetry(BulkRequest request, Iterator<TimeValue> backoff) {
+        retriedActions.addAndGet(request.numberOfActions());
+        long delay = backoff.next().millis();
+        try {
+            scheduler.schedule(() -> execute(request, backoff), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            onBulkFailure(request, Collections.emptyIterator(), e);
+        }
+    }
+
+    private void complete(DocWriteRequest<?> request, BulkItemResponse response) {
+        (response.isFailed() ? failedActions : succeededActions).incrementAndGet();
+        try {
+            listener.onResponse(request, response);
+        } catch (Exception e) {
+            logger.warn("Bulk ingester listener failed", e);
+        } finally {
+            bufferPermits.release();
+        }
+    }
+
+    private void onBulkDone() {
+        List<BulkRequest> toSend;
+        synchronized (this) {
+            inFlight--;
+            toSend = takeSendable();
+        }
+        send(toSend);
+    }
+
+    /**
+     * A snapshot of the metrics of a {@link BulkIngester}.
+     */
+    public static final class Stats {
+        private final long addedActions;
+        private final long succeededActions;
+        private final long failedActions;
+        private final long retriedActions;
+        private final long sentRequests;
+        private final long sentBytes;
+        private final int pendingActions;
+        private final int queuedRequests;
+        private final int inFlightRequests;
+
+        Stats(
+            long addedActions,
+            long succeededActions,
+            long failedActions,
+            long retriedActions,
+            long sentRequests,
+            long sentBytes,
+            int pendingActions,
+            int queuedRequests,
+            int inFlightRequests
+        ) {
+            this.addedActions = addedActions;
+            this.succeededActions = succeededActions;
+            this.failedActions = failedActions;
+            this.retriedActions = retriedActions;
+            this.sentRequests = sentRequests;
+            this.sentBytes = sentBytes;
+            this.pendingActions = pendingActions;
+            this.queuedRequests = queuedRequests;
+            this.inFlightRequests = inFlightRequests;
+        }
+
+        /**
+         * @return The total number of actions added.
+         */
+        public long getAddedActions() {
+            return addedActions;
+        }
+
+        /**
+         * @return The total number of actions which succeeded.
+         */
+        public long getSucceededActions() {
+            return succeededActions;
+        }
+
+        /**
+         * @return The total number of actions which failed, after any retries.
+         */
+        public long getFailedActions() {
+            return failedActions;
+        }
+
+        /**
+         * @return The total number of action retries.
+         */
+        public long getRetriedActions() {
+            return retriedActions;
+        }
+
+        /**
+         * @return The total number of bulk requests sent, including retries.
+         */
+        public long getSentRequests() {
+            return sentRequests;
+        }
+
+        /**
+         * @return The total estimated size in bytes of the bulk requests sent, including retries.
+         */
+        public long getSentBytes() {
+            return sentBytes;
+        }
+
+        /**
+         * @return The number of actions added which have not completed, including buffered, queued and in-flight actions.
+         */
+        public int getPendingActions() {
+            return pendingActions;
+        }
+
+        /**
+         * @return The number of bulk requests waiting for an in-flight request to complete.
+         */
+        public int getQueuedRequests() {
+            return queuedRequests;
+        }
+
+        /**
+         * @return The number of bulk requests in flight, including those waiting to be retried.
+         */
+        public int getInFlightRequests() {
+            return inFlightRequests;
+        }
+    }
+
+    /**
+     * Configures a {@link BulkIngester}.
+     */
+    public static final class Builder {
+        private final BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer;
+        private final Listener listener;
+        private int maxActions = 1000;
+        private ByteSizeValue maxSize = new ByteSizeValue(5, ByteSizeUnit.MB);
+        private TimeValue flushInterval = null;
+        private int maxConcurrentRequests = 1;
+        private int maxBufferedActions = 10_000;
+        private boolean blockWhenFull = true;
+        private BackoffPolicy backoffPolicy = BackoffPolicy.exponentialBackoff();
+
+        private Builder(BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer, Listener listener) {
+            this.consumer = Objects.requireNonNull(consumer);
+            this.listener = Objects.requireNonNull(listener);
+        }
+
+        /**
+         * Sets the number of actions which triggers a bulk request. Defaults to 1000.
+         *
+         * @param maxActions The number of actions.
+         * @return This builder.
+         */
+        public Builder setMaxActions(int maxActions) {
+            if (maxActions < 1) {
+                throw new IllegalArgumentException("maxActions must be positive");
+            }
+            this.maxActions = maxActions;
+            return this;
+        }
+
+        /**
+         * Sets the estimated size of buffered actions which triggers a bulk request. Defaults to 5mb.
+         *
+         * @param maxSize The size.
+         * @return This builder.
+         */
+        public Builder setMaxSize(ByteSizeValue maxSize) {
+            this.maxSize = Objects.requireNonNull(maxSize);
+            return this;
+        }
+
+        /**
+         * Sets the interval after which buffered actions are sent regardless of the other thresholds. Defaults to no interval.
+         *
+         * @param flushInterval The interval, or null for none.
+         * @return This builder.
+         */
+        public Builder setFlushInterval(@Nullable TimeValue flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bulk requests in flight at once. Defaults to 1.
+         *
+         * @param maxConcurrentRequests The number of requests.
+         * @return This builder.
+         */
+        public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+            if (maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+            }
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of actions which have been added and not completed. Defaults to 10000.
+         *
+         * @param maxBufferedActions The number of actions.
+         * @return This builder.
+         */
+        public Builder setMaxBufferedActions(int maxBufferedActions) {
+            if (maxBufferedActions < 1) {
+                throw new IllegalArgumentException("maxBufferedActions must be positive");
+            }
+            this.maxBufferedActions = maxBufferedActions;
+            return this;
+        }
+
+        /**
+         * Sets whether adding an action blocks or fails fast when the buffer is full. Defaults to blocking.
+         *
+         * @param blockWhenFull true to block, false to throw {@link RejectedExecutionException}.
+         * @return This builder.
+         */
+        public Builder setBlockWhenFull(boolean blockWhenFull) {
+            this.blockWhenFull = blockWhenFull;
+            return this;
+        }
+
+        /**
+         * Sets the policy for retrying throttled actions. Defaults to {@link BackoffPolicy#exponentialBackoff()}.
+         *
+         * @param backoffPolicy The policy. Use {@link BackoffPolicy#noBackoff()} to disable retries.
+         * @return This builder.
+         */
+        public Builder setBackoffPolicy(BackoffPolicy backoffPolicy) {
+            this.backoffPolicy = Objects.requireNonNull(backoffPolicy);
+            return this;
+        }
+
+        /**
+         * Builds the ingester.
+         *
+         * @return A new ingester, which must be closed when no longer used.
+         */
+        public BulkIngester build() {
+            return new BulkIngester(this);
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
+
+/**
+ * A bounded, expiring near-cache of documents read with get and multi-get requests, keyed by index, id and routing, as documents
+ * with the same id but different custom routings are different documents.
+ * <p>
+ * A cached document is served without contacting OpenSearch until its time to live elapses. For a further stale-while-revalidate
+ * window the stale document is still served, while it is revalidated in the background by fetching only its {@code _seq_no},
+ * {@code _primary_term} and {@code _version}; the document is refetched only if these changed. After both windows elapse the entry
+ * expires and the next read fetches the document. Least recently used entries are evicted when the cache is full.
+ * <p>
+ * Only plain reads are cached: requests specifying stored fields, source filtering, a version, a preference, a refresh, or a
+ * non-realtime read bypass the cache. Documents are cached under the index name used to read them, so writes must use the same name
+ * to invalidate them. Writes issued through the client owning this cache call {@link #invalidate(String, String, String)}; a read which
+ * started before an invalidation does not populate the cache, so it never caches a document older than a write it raced with.
+ */
+public class DocumentCache {
+    private static final Logger logger = LogManager.getLogger(DocumentCache.class);
+
+    private final BiConsumer<GetRequest, ActionListener<GetResponse>> get;
+    private final BiConsumer<MultiGetRequest, ActionListener<MultiGetResponse>> multiGet;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+    private final Cache<CacheKey, CachedDocument> cache;
+
+    // Incremented by each invalidation, so reads can tell whether their response may be stale
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * Instantiate this cache.
+     *
+     * @param get The consumer sending a get request asynchronously.
+     * @param multiGet The consumer sending a multi-get request asynchronously.
+     * @param maxEntries The maximum number of cached documents.
+     * @param timeToLive How long a cached document is served without revalidation.
+     * @param staleWhileRevalidate How long after its time to live a stale document is served while it is revalidated.
+     */
+    public DocumentCache(
+        BiConsumer<GetRequest, ActionListener<GetResponse>> get,
+        BiConsumer<MultiGetRequest, ActionListener<MultiGetResponse>> multiGet,
+        int maxEntries,
+        TimeValue timeToLive,
+        TimeValue staleWhileRevalidate
+    ) {
+        this(get, multiGet, maxEntries, timeToLive, staleWhileRevalidate, System::nanoTime);
+    }
+
+    /**
+     * Instantiate this cache with a clock.
+     *
+     * @param get The consumer sending a get request asynchronously.
+     * @param multiGet The consumer sending a multi-get request asynchronously.
+     * @param maxEntries The maximum number of cached documents.
+     * @param timeToLive How long a cached document is served without revalidation.
+     * @param staleWhileRevalidate How long after its time to live a stale document is served while it is revalidated.
+     * @param nanoTime The clock deciding whether a document is stale.
+     */
+    DocumentCache(
+        BiConsumer<GetRequest, ActionListener<GetResponse>> get,
+        BiConsumer<MultiGetRequest, ActionListener<MultiGetResponse>> multiGet,
+        int maxEntries,
+        TimeValue timeToLive,
+        TimeValue staleWhileRevalidate,
+        LongSupplier nanoTime
+    ) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Document cache must hold at least one entry but was [" + maxEntries + "]");
+        }
+        this.get = get;
+        this.multiGet = multiGet;
+        this.timeToLiveNanos = timeToLive.nanos();
+        this.nanoTime = nanoTime;
+        this.cache = CacheBuilder.<CacheKey, CachedDocument>builder()
+            .setMaximumWeight(maxEntries)
+            .setExpireAfterWrite(TimeValue.timeValueNanos(timeToLive.nanos() + staleWhileRevalidate.nanos()))
+            .build();
+    }
+
+    /**
+     * Gets a document, serving it from the cache if present.
+     *
+     * @param request The get request.
+     * @param listener The listener to receive the document.
+     */
+    public void get(GetRequest request, ActionListener<GetResponse> listener) {
+        if (!isCacheable(request)) {
+            get.accept(request, listener);
+            return;
+        }
+        CacheKey key = new CacheKey(request.index(), request.id(), request.routing());
+        CachedDocument cached = lookup(key);
+        if (cached != null) {
+            listener.onResponse(cached.response);
+            return;
+        }
+        long generation = invalidations.get();
+        get.accept(request, ActionListener.wrap(response -> {
+            store(key, response, generation);
+            listener.onResponse(response);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Gets multiple documents, serving those present in the cache and fetching the rest with one multi-get request.
+     *
+     * @param request The multi-get request.
+     * @param listener The listener to receive the documents, in the order of the request.
+     */
+    public void multiGet(MultiGetRequest request, ActionListener<MultiGetResponse> listener) {
+        List<MultiGetRequest.Item> items = request.getItems();
+        if (items.stream().noneMatch(item -> isCacheable(request, item))) {
+            multiGet.accept(request, listener);
+            return;
+        }
+        MultiGetItemResponse[] responses = new MultiGetItemResponse[items.size()];
+        List<Integer> missing = new ArrayList<>();
+        // The remaining items are read with the settings of the original request
+        MultiGetRequest remaining = new MultiGetRequest().preference(request.preference())
+            .realtime(request.realtime())
+            .refresh(request.refresh());
+        for (int i = 0; i < items.size(); i++) {
+            MultiGetRequest.Item item = items.get(i);
+            CachedDocument cached = isCacheable(request, item) ? lookup(new CacheKey(item.index(), item.id(), item.routing())) : null;
+            if (cached != null) {
+                responses[i] = new MultiGetItemResponse(cached.response, null);
+            } else {
+                missing.add(i);
+                remaining.add(item);
+            }
+        }
+        if (missing.isEmpty()) {
+            listener.onResponse(new MultiGetResponse(responses));
+            return;
+        }
+        long generation = invalidations.get();
+        multiGet.accept(remaining, ActionListener.wrap(response -> {
+            MultiGetItemResponse[] fetched = response.getResponses();
+            for (int i = 0; i < fetched.length; i++) {
+                MultiGetRequest.Item item = items.get(missing.get(i));
+                if (!fetched[i].isFailed() && isCacheable(request, item)) {
+                    store(new CacheKey(item.index(), item.id(), item.routing()), fetched[i].getResponse(), generation);
+                }
+                responses[missing.get(i)] = fetched[i];
+            }
+            listener.onResponse(new MultiGetResponse(responses));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Invalidates a cached document. Called when the document is written.
+     *
+     * @param index The index name used to write the document.
+     * @param id The document id, or null to invalidate all documents of the index.
+     * @param routing The routing used to write the document, or null if it was written with the default routing.
+     */
+    public void invalidate(String index, @Nullable String id, @Nullable String routing) {
+        invalidations.incrementAndGet();
+        if (id == null) {
+            List<CacheKey> matching = new ArrayList<>();
+            for (CacheKey key : cache.keys()) {
+                if (key.index.equals(index)) {
+                    matching.add(key);
+                }
+            }
+            matching.forEach(cache::invalidate);
+        } else {
+            cache.invalidate(new CacheKey(index, id, routing));
+        }
+    }
+
+    /**
+     * Invalidates all cached documents. Called when documents are written without knowing their ids, such as by a delete by query.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached documents.
+     *
+     * @return The number of entries in the cache.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, and eviction statistics.
+     *
+     * @return The statistics.
+     */
+    public Stats stats() {
+        return new Stats(hits.get(), staleHits.get(), misses.get(), revalidations.get(), cache.stats().getEvictions());
+    }
+
+    /**
+     * Looks up a document, counting the hit or miss and revalidating it in the background if it is stale.
+     */
+    private CachedDocument lookup(CacheKey key) {
+        CachedDocument cached = cache.get(key);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        if (nanoTime.getAsLong() - cached.loadedNanos >= timeToLiveNanos) {
+            staleHits.incrementAndGet();
+            if (cached.revalidating.compareAndSet(false, true)) {
+                revalidate(key, cached);
+            }
+        }
+        return cached;
+    }
+
+    private void store(CacheKey key, GetResponse response, long generation) {
+        // A write invalidated entries after this read was sent, so the response may predate it
+        if (invalidations.get() != generation) {
+            return;
+        }
+        cache.put(key, new CachedDocument(response, nanoTime.getAsLong()));
+        // An invalidation counts itself before removing entries, so one which missed the put above is seen here
+        if (invalidations.get() != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    private void revalidate(CacheKey key, CachedDocument cached) {
+        revalidations.incrementAndGet();
+        long generation = invalidations.get();
+        GetRequest check = new GetRequest(key.index, key.id).routing(key.routing)
+            .fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE);
+        get.accept(check, ActionListener.wrap(response -> {
+            if (cached.isCurrent(response)) {
+                store(key, cached.response, generation);
+                return;
+            }
+            get.accept(
+                new GetRequest(key.index, key.id).routing(key.routing),
+                ActionListener.wrap(r -> store(key, r, generation), e -> onRevalidationFailure(key, cached, e))
+            );
+        }, e -> onRevalidationFailure(key, cached, e)));
+    }
+
+    private void onRevalidationFailure(CacheKey key, CachedDocument cached, Exception e) {
+        // Keep serving the stale document until it expires, retrying revalidation on a later read
+        logger.debug("Failed to revalidate cached document [" + key.index + "][" + key.id + "]", e);
+        cached.revalidating.set(false);
+    }
+
+    private static boolean isCacheable(GetRequest request) {
+        return request.realtime()
+            && !request.refresh()
+            && request.preference() == null
+            && request.storedFields() == null
+            && request.fetchSourceContext() == null
+            && request.version() == Versions.MATCH_ANY;
+    }
+
+    private static boolean isCacheable(MultiGetRequest request, MultiGetRequest.Item item) {
+        return request.realtime()
+            && !request.refresh()
+            && request.preference() == null
+            && item.storedFields() == null
+            && item.fetchSourceContext() == null
+            && item.version() == Versions.MATCH_ANY;
+    }
+
+    /**
+     * The identity of a cached document.
+     */
+    private static final class CacheKey {
+        private final String index;
+        private final String id;
+        @Nullable
+        private final String routing;
+
+        CacheKey(String index, String id, @Nullable String routing) {
+            this.index = index;
+            this.id = id;
+            this.routing = routing;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            CacheKey that = (CacheKey) obj;
+            return Objects.equals(index, that.index) && Objects.equals(id, that.id) && Objects.equals(routing, that.routing);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, id, routing);
+        }
+    }
+
+    /**
+     * A cached document and when it was fetched or last revalidated.
+     */
+    private static final class CachedDocument {
+        private final GetResponse response;
+        private final long loadedNanos;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        CachedDocument(GetResponse response, long loadedNanos) {
+            this.response = response;
+            this.loadedNanos = loadedNanos;
+        }
+
+        /**
+         * Compares the cached document to the metadata of its current version, using its sequence number and primary term if
+         * assigned and its version otherwise.
+         */
+        boolean isCurrent(GetResponse current) {
+            if (response.isExists() != current.isExists()) {
+                return false;
+            }
+            if (!response.isExists()) {
+                return true;
+            }
+            if (response.getSeqNo() != UNASSIGNED_SEQ_NO && current.getSeqNo() != UNASSIGNED_SEQ_NO) {
+                return response.getSeqNo() == current.getSeqNo() && response.getPrimaryTerm() == current.getPrimaryTerm();
+            }
+            return response.getVersion() == current.getVersion();
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link DocumentCache}.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long staleHits;
+        private final long misses;
+        private final long revalidations;
+        private final long evictions;
+
+        Stats(long hits, long staleHits, long misses, long revalidations, long evictions) {
+            this.hits = hits;
+            this.staleHits = staleHits;
+            this.misses = misses;
+            this.revalidations = revalidations;
+            this.evictions = evictions;
+        }
+
+        /**
+         * @return The number of reads served from the cache, including stale documents.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return The number of reads served a stale document while it was revalidated.
+         */
+        public long getStaleHits() {
+            return staleHits;
+        }
+
+        /**
+         * @return The number of cacheable reads which fetched the document.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return The number of revalidations of stale documents.
+         */
+        public long getRevalidations() {
+            return revalidations;
+        }
+
+        /**
+         * @return The number of documents evicted because the cache was full.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+    }
+}
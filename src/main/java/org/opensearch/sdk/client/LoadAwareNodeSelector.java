@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.RouteInfo;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.opensearch.client.Node;
+import org.opensearch.client.NodeSelector;
+import org.opensearch.core.rest.RestStatus;
+
+/**
+ * A {@link NodeSelector} which skips nodes that recently rejected requests because they were overloaded.
+ * <p>
+ * A node is considered overloaded for a backoff period after it responds with {@link RestStatus#TOO_MANY_REQUESTS} or
+ * {@link RestStatus#SERVICE_UNAVAILABLE}. Nodes which are down are already skipped by the {@link org.opensearch.client.RestClient}, which
+ * round-robins between the remaining nodes. If every node is overloaded, all are selected so that requests are not rejected outright.
+ * <p>
+ * A request may prefer a node with {@link #runPreferring(HttpHost, Function)}, in which case only that node is selected if it is
+ * available. The {@link org.opensearch.client.RestClient} rotates the selected nodes between requests, so reordering them would not
+ * reliably reach the preferred node. A caller which wants to fail over resends the request without a preference.
+ */
+public class LoadAwareNodeSelector implements NodeSelector {
+
+    /**
+     * The default time a node is skipped after it reports it is overloaded
+     */
+    public static final long DEFAULT_BACKOFF_MILLIS = 5000;
+
+    private final Map<HttpHost, Long> overloadedUntil = new ConcurrentHashMap<>();
+    private final long backoffNanos;
+    private final LongSupplier nanoTime;
+    private final ThreadLocal<Preference> preference = new ThreadLocal<>();
+
+    /**
+     * Instantiate this selector with the default backoff.
+     */
+    public LoadAwareNodeSelector() {
+        this(DEFAULT_BACKOFF_MILLIS, System::nanoTime);
+    }
+
+    LoadAwareNodeSelector(long backoffMillis, LongSupplier nanoTime) {
+        this.backoffNanos = TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        Preference preferred = preference.get();
+        if (overloadedUntil.isEmpty() && preferred == null) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        boolean anyAvailable = false;
+        boolean preferredAvailable = false;
+        for (Node node : nodes) {
+            if (!isOverloaded(node.getHost(), now)) {
+                anyAvailable = true;
+                preferredAvailable |= preferred != null && node.getHost().equals(preferred.host);
+            }
+        }
+        if (!anyAvailable) {
+            return;
+        }
+        for (Iterator<Node> itr = nodes.iterator(); itr.hasNext();) {
+            HttpHost host = itr.next().getHost();
+            if (preferredAvailable ? !host.equals(preferred.host) : isOverloaded(host, now)) {
+                itr.remove();
+            }
+        }
+        if (preferredAvailable) {
+            preferred.selected = true;
+        }
+    }
+
+    /**
+     * Runs a request, sending requests from the calling thread only to the preferred node if it is available.
+     *
+     * @param <T> The result of the request.
+     * @param host The preferred node.
+     * @param request A function which sends the request from the calling thread. It is passed a supplier of whether the request was
+     *     sent only to the preferred node, which is known once the request is sent; if it was not, the other nodes were tried instead.
+     * @return The result of the request.
+     */
+    public <T> T runPreferring(HttpHost host, Function<BooleanSupplier, T> request) {
+        Preference previous = preference.get();
+        Preference current = new Preference(host);
+        preference.set(current);
+        try {
+            return request.apply(() -> current.selected);
+        } finally {
+            if (previous == null) {
+                preference.remove();
+            } else {
+                preference.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Records the status of a response from a node.
+     *
+     * @param host The node which responded.
+     * @param status The HTTP status code of the response.
+     */
+    public void onResponse(HttpHost host, int status) {
+        if (status == RestStatus.TOO_MANY_REQUESTS.getStatus() || status == RestStatus.SERVICE_UNAVAILABLE.getStatus()) {
+            overloadedUntil.put(host, nanoTime.getAsLong() + backoffNanos);
+        } else if (!overloadedUntil.isEmpty()) {
+            overloadedUntil.remove(host);
+        }
+    }
+
+    /**
+     * Returns an interceptor which records the status of each response, for registration with the HTTP client.
+     *
+     * @return The response interceptor.
+     */
+    public HttpResponseInterceptor responseInterceptor() {
+        return (response, entity, context) -> {
+            RouteInfo route = HttpClientContext.adapt(context).getHttpRoute();
+            if (route != null) {
+                onResponse(route.getTargetHost(), response.getCode());
+            }
+        };
+    }
+
+    private boolean isOverloaded(HttpHost host, long now) {
+        Long until = overloadedUntil.get(host);
+        if (until == null) {
+            return false;
+        }
+        if (until - now <= 0) {
+            overloadedUntil.remove(host, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "LOAD_AWARE";
+    }
+
+    private static class Preference {
+        private final HttpHost host;
+        private volatile boolean selected;
+
+        Preference(HttpHost host) {
+            this.host = host;
+        }
+    }
+}
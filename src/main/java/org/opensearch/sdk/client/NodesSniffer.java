@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.Node;
+import org.opensearch.client.Node.Roles;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.RestClient;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+
+/**
+ * Discovers the OpenSearch nodes which can serve client requests, using the HTTP publish addresses from the nodes info API.
+ * <p>
+ * Nodes holding data or ingest roles, and coordinating-only nodes (with no roles), are returned. Dedicated cluster manager nodes are
+ * excluded so they are not burdened with client traffic.
+ */
+public class NodesSniffer {
+
+    private static final String NODES_PATH = "/_nodes/http";
+    private static final String FILTER_PATH = "nodes.*.name,nodes.*.version,nodes.*.roles,nodes.*.http.publish_address";
+    private static final Set<String> CLIENT_ROLES = Set.of("data", "ingest");
+
+    /**
+     * Queries a cluster for the nodes which can serve client requests.
+     *
+     * @param restClient A client connected to any node of the cluster.
+     * @return The nodes which can serve client requests keyed by node id, using the same scheme as the client's current nodes.
+     * @throws IOException if the request failed or the response could not be parsed.
+     */
+    public Map<String, Node> sniff(RestClient restClient) throws IOException {
+        List<Node> currentNodes = restClient.getNodes();
+        String scheme = currentNodes.isEmpty() ? "http" : currentNodes.get(0).getHost().getSchemeName();
+        Request request = new Request("GET", NODES_PATH);
+        request.addParameter("filter_path", FILTER_PATH);
+        Response response = restClient.performRequest(request);
+        try (InputStream in = response.getEntity().getContent()) {
+            return parseNodes(in, scheme);
+        }
+    }
+
+    /**
+     * Parses the response of the nodes info API.
+     *
+     * @param in The response content.
+     * @param scheme The scheme of the returned node hosts.
+     * @return The nodes which can serve client requests keyed by node id.
+     * @throws IOException if the response could not be parsed.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Node> parseNodes(InputStream in, String scheme) throws IOException {
+        Map<String, Object> response;
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                in
+            )
+        ) {
+            response = parser.map();
+        }
+        Map<String, Object> nodes = (Map<String, Object>) response.get("nodes");
+        Map<String, Node> result = new LinkedHashMap<>();
+        if (nodes == null) {
+            return result;
+        }
+        for (Map.Entry<String, Object> entry : nodes.entrySet()) {
+            Map<String, Object> node = (Map<String, Object>) entry.getValue();
+            Map<String, Object> http = (Map<String, Object>) node.get("http");
+            if (http == null || http.get("publish_address") == null) {
+                continue;
+            }
+            Set<String> roles = new HashSet<>((Collection<String>) node.getOrDefault("roles", List.of()));
+            if (!roles.isEmpty() && roles.stream().noneMatch(CLIENT_ROLES::contains)) {
+                continue;
+            }
+            result.put(
+                entry.getKey(),
+                new Node(
+                    parsePublishAddress(http.get("publish_address").toString(), scheme),
+                    null,
+                    (String) node.get("name"),
+                    (String) node.get("version"),
+                    new Roles(roles),
+                    null
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Parses a publish address of the form {@code host/ip:port} or {@code ip:port}, preferring the host name when present.
+     *
+     * @param publishAddress The publish address.
+     * @param scheme The scheme of the returned host.
+     * @return The host for the publish address.
+     */
+    static HttpHost parsePublishAddress(String publishAddress, String scheme) {
+        int slash = publishAddress.indexOf('/');
+        String address = publishAddress;
+        if (slash >= 0) {
+            int colon = publishAddress.lastIndexOf(':');
+            String hostName = publishAddress.substring(0, slash);
+            address = hostName.isEmpty() ? publishAddress.substring(slash + 1) : hostName + publishAddress.substring(colon);
+        }
+        int colon = address.lastIndexOf(':');
+        String host = address.substring(0, colon);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        return new HttpHost(scheme, host, Integer.parseInt(address.substring(colon + 1)));
+    }
+}
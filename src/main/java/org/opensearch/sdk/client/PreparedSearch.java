@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.opensearch.client.Request;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * A search whose request body is serialized once, with named slots filled in with values for each execution.
+ * <p>
+ * The template is a {@link SearchSourceBuilder} in which each parameter is given as the string {@link #slot(String)}, e.g.
+ * {@code QueryBuilders.termQuery("user", PreparedSearch.slot("user"))}. The template is serialized to JSON when the search is
+ * prepared, and each execution copies the serialized bytes, replacing each slot, including its quotes, with the JSON value of its
+ * parameter. Building and serializing the template's object graph is therefore done once rather than for every search.
+ * <p>
+ * A slot may be any JSON string value in the template. Strings, numbers, booleans and null are written directly, and other values are
+ * serialized with {@link XContentBuilder#value(Object)}. A slot which is the only element of a JSON array, such as the values of
+ * {@code QueryBuilders.termsQuery("tag", PreparedSearch.slot("tags"))}, is replaced by the elements of a collection value.
+ * <p>
+ * Prepared searches are executed with
+ * {@link org.opensearch.sdk.SDKClient.SDKRestClient#search(PreparedSearch, Map, org.opensearch.action.ActionListener)}.
+ */
+public class PreparedSearch {
+
+    private static final Pattern SLOT = Pattern.compile("\"\\{\\{([A-Za-z0-9_.\\-]+)\\}\\}\"");
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final String endpoint;
+    // The serialized template between slots, one more than the number of slots
+    private final byte[][] literals;
+    private final String[] slots;
+    // Whether each slot is the only element of an array, so a collection value is spliced as elements
+    private final boolean[] arrayElements;
+    private final int estimatedSize;
+
+    /**
+     * Returns the placeholder for a parameter in a template.
+     *
+     * @param name The parameter name, consisting of letters, digits, {@code _}, {@code .} and {@code -}.
+     * @return The placeholder string.
+     */
+    public static String slot(String name) {
+        return "{{" + name + "}}";
+    }
+
+    /**
+     * Prepares a search.
+     *
+     * @param template The search source, with {@link #slot(String)} placeholders for its parameters.
+     * @param indices The indices to search, or none to search all indices.
+     */
+    public PreparedSearch(SearchSourceBuilder template, String... indices) {
+        this.endpoint = SDKRestHighLevelClient.searchEndpoint(indices);
+        String json;
+        try {
+            json = BytesReference.bytes(template.toXContent(JsonXContent.contentBuilder(), ToXContent.EMPTY_PARAMS)).utf8ToString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize search template", e);
+        }
+        List<byte[]> literalList = new ArrayList<>();
+        List<String> slotList = new ArrayList<>();
+        List<Boolean> arrayElementList = new ArrayList<>();
+        Matcher matcher = SLOT.matcher(json);
+        int position = 0;
+        while (matcher.find()) {
+            literalList.add(json.substring(position, matcher.start()).getBytes(StandardCharsets.UTF_8));
+            slotList.add(matcher.group(1));
+            arrayElementList.add(isOnlyArrayElement(json, matcher.start(), matcher.end()));
+            position = matcher.end();
+        }
+        literalList.add(json.substring(position).getBytes(StandardCharsets.UTF_8));
+        this.literals = literalList.toArray(new byte[0][]);
+        this.slots = slotList.toArray(new String[0]);
+        this.arrayElements = new boolean[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            arrayElements[i] = arrayElementList.get(i);
+        }
+        this.estimatedSize = Arrays.stream(literals).mapToInt(l -> l.length).sum() + 16 * slots.length;
+    }
+
+    /**
+     * @return The names of the parameters of this search, in the order they appear in the template.
+     */
+    public Set<String> getSlots() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(slots)));
+    }
+
+    /**
+     * Renders the request body, replacing each slot with the JSON value of its parameter.
+     *
+     * @param values The parameter values by name.
+     * @return The JSON request body.
+     * @throws IllegalArgumentException if a parameter has no value.
+     */
+    public byte[] render(Map<String, ?> values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(estimatedSize);
+        out.writeBytes(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            if (!values.containsKey(slots[i])) {
+                throw new IllegalArgumentException("Missing value for slot [" + slots[i] + "]");
+            }
+            Object value = values.get(slots[i]);
+            if (arrayElements[i] && value instanceof Collection) {
+                Iterator<?> elements = ((Collection<?>) value).iterator();
+                while (elements.hasNext()) {
+                    writeValue(out, elements.next());
+                    if (elements.hasNext()) {
+                        out.write(',');
+                    }
+                }
+            } else {
+                writeValue(out, value);
+            }
+            out.writeBytes(literals[i + 1]);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Creates the low-level search request for a set of parameter values.
+     *
+     * @param values The parameter values by name.
+     * @return The request.
+     * @throws IllegalArgumentException if a parameter has no value.
+     */
+    public Request toRequest(Map<String, ?> values) {
+        Request request = new Request("POST", endpoint);
+        // Aggregations are parsed by their type prefix, as by the high level client
+        request.addParameter("typed_keys", "true");
+        request.setEntity(new ByteArrayEntity(render(values), ContentType.APPLICATION_JSON));
+        return request;
+    }
+
+    private static void writeValue(ByteArrayOutputStream out, Object value) {
+        if (value == null) {
+            out.writeBytes(NULL);
+        } else if (value instanceof String) {
+            out.write('"');
+            out.writeBytes(JsonStringEncoder.getInstance().quoteAsUTF8((String) value));
+            out.write('"');
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Short) {
+            out.writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+        } else {
+            try (XContentBuilder builder = JsonXContent.contentBuilder()) {
+                builder.value(value);
+                BytesReference.bytes(builder).writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to serialize value [" + value + "]", e);
+            }
+        }
+    }
+
+    private static boolean isOnlyArrayElement(String json, int start, int end) {
+        int before = start - 1;
+        while (before >= 0 && Character.isWhitespace(json.charAt(before))) {
+            before--;
+        }
+        int after = end;
+        while (after < json.length() && Character.isWhitespace(json.charAt(after))) {
+            after++;
+        }
+        return before >= 0 && json.charAt(before) == '[' && after < json.length() && json.charAt(after) == ']';
+    }
+}
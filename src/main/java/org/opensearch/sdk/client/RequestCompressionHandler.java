@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+
+/**
+ * Compresses request bodies sent to OpenSearch with gzip, when they are at least as large as a threshold.
+ * <p>
+ * The handler is added to the HTTP client shared by all of the SDK's clients, so it applies to requests of every client flavor. Only
+ * bodies of known length which are held in memory, as the bodies built by the clients are, are compressed; other bodies, and bodies
+ * which are already encoded, are sent unchanged. A body which does not shrink when compressed is also sent unchanged.
+ */
+public class RequestCompressionHandler implements AsyncExecChainHandler {
+
+    /**
+     * The name of this handler in the HTTP client's execution chain.
+     */
+    public static final String NAME = "opensearch-sdk-request-compression";
+
+    private static final String GZIP = "gzip";
+    // The number of times a body may be asked for more content without producing any before reading it fails
+    private static final int MAX_IDLE_PRODUCE_CALLS = 16;
+
+    private final int threshold;
+
+    /**
+     * Instantiate this handler.
+     *
+     * @param threshold The minimum body size, in bytes, which will be compressed.
+     */
+    public RequestCompressionHandler(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Compression threshold must be non-negative but was [" + threshold + "]");
+        }
+        this.threshold = threshold;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public void execute(
+        HttpRequest request,
+        AsyncEntityProducer entityProducer,
+        AsyncExecChain.Scope scope,
+        AsyncExecChain chain,
+        AsyncExecCallback asyncExecCallback
+    ) throws HttpException, IOException {
+        chain.proceed(request, maybeCompress(entityProducer), scope, asyncExecCallback);
+    }
+
+    /**
+     * Compresses a request body if it is large enough and can be read in memory.
+     *
+     * @param entityProducer The producer of the request body, may be null.
+     * @return A producer of the compressed body, or of the original body if it was not compressed.
+     * @throws IOException if the body could not be read.
+     */
+    AsyncEntityProducer maybeCompress(AsyncEntityProducer entityProducer) throws IOException {
+        if (entityProducer == null
+            || entityProducer.getContentEncoding() != null
+            || entityProducer.getContentLength() < Math.max(threshold, 1)
+            || !entityProducer.isRepeatable()) {
+            return entityProducer;
+        }
+        ContentType contentType = entityProducer.getContentType() == null ? null : ContentType.parse(entityProducer.getContentType());
+        byte[] content = read(entityProducer);
+        if (content == null) {
+            throw new IOException("Request body of length [" + entityProducer.getContentLength() + "] could not be read to compress it");
+        }
+        byte[] compressed = gzip(content);
+        if (compressed.length >= content.length) {
+            return new BasicAsyncEntityProducer(content, contentType);
+        }
+        return new GzipEntityProducer(new BasicAsyncEntityProducer(compressed, contentType));
+    }
+
+    /**
+     * Reads a body by letting its producer write to a channel which accepts all content.
+     *
+     * @return The body, or null if the producer stopped producing before the end of the body.
+     */
+    private static byte[] read(AsyncEntityProducer entityProducer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(entityProducer.getContentLength(), Integer.MAX_VALUE));
+        boolean[] ended = new boolean[1];
+        DataStreamChannel channel = new DataStreamChannel() {
+            @Override
+            public void requestOutput() {}
+
+            @Override
+            public int write(ByteBuffer src) {
+                int length = src.remaining();
+                if (src.hasArray()) {
+                    out.write(src.array(), src.arrayOffset() + src.position(), length);
+                    src.position(src.limit());
+                } else {
+                    byte[] bytes = new byte[length];
+                    src.get(bytes);
+                    out.write(bytes, 0, length);
+                }
+                return length;
+            }
+
+            @Override
+            public void endStream() {
+                ended[0] = true;
+            }
+
+            @Override
+            public void endStream(List<? extends Header> trailers) {
+                ended[0] = true;
+            }
+        };
+        try {
+            int idle = 0;
+            while (!ended[0] && idle < MAX_IDLE_PRODUCE_CALLS) {
+                int size = out.size();
+                entityProducer.produce(channel);
+                idle = out.size() > size ? 0 : idle + 1;
+            }
+        } finally {
+            entityProducer.releaseResources();
+        }
+        return ended[0] ? out.toByteArray() : null;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Produces a gzip-compressed body, setting its {@code Content-Encoding}.
+     */
+    private static class GzipEntityProducer implements AsyncEntityProducer {
+
+        private final AsyncEntityProducer delegate;
+
+        GzipEntityProducer(AsyncEntityProducer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return GZIP;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return delegate.isRepeatable();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            delegate.failed(cause);
+        }
+
+        @Override
+        public long getContentLength() {
+            return delegate.getContentLength();
+        }
+
+        @Override
+        public String getContentType() {
+            return delegate.getContentType();
+        }
+
+        @Override
+        public boolean isChunked() {
+            return delegate.isChunked();
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return delegate.getTrailerNames();
+        }
+
+        @Override
+        public int available() {
+            return delegate.available();
+        }
+
+        @Override
+        public void produce(DataStreamChannel channel) throws IOException {
+            delegate.produce(channel);
+        }
+
+        @Override
+        public void releaseResources() {
+            delegate.releaseResources();
+        }
+    }
+}
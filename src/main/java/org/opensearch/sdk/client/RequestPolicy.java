@@ -0,0 +1,615 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.client.Cancellable;
+import org.opensearch.client.ResponseException;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+
+/**
+ * Applies retries, hedging and an adaptive concurrency limit to asynchronous requests sent to OpenSearch.
+ * <p>
+ * Idempotent requests failing with a transient error, either an I/O error or a {@code 429}, {@code 502}, {@code 503} or
+ * {@code 504} status, are retried after an exponentially increasing delay with full jitter. If hedging is enabled, an idempotent
+ * request which has not completed after a percentile of recent request latencies is sent a second time, and the first response is
+ * used; a hedge is only sent if the concurrency limiter has spare capacity, so hedging does not add load to an overloaded cluster.
+ * If limiters are configured, requests pass through the limiter of their {@link RequestClass}, whose limit adapts to the latencies and
+ * overload rejections observed for that class, and are failed fast with an {@link OpenSearchRejectedExecutionException} if its queue is
+ * full. Latencies and hedging delays are likewise tracked per class, as a bulk taking many times longer than a get is not a sign of
+ * overload.
+ */
+public class RequestPolicy implements Closeable {
+
+    /**
+     * The default upper bound of the delay before the first retry.
+     */
+    public static final TimeValue DEFAULT_RETRY_INITIAL_DELAY = TimeValue.timeValueMillis(50);
+
+    /**
+     * The default maximum upper bound of the delay before a retry.
+     */
+    public static final TimeValue DEFAULT_RETRY_MAX_DELAY = TimeValue.timeValueSeconds(5);
+
+    // The number of recent latencies from which the hedging delay is computed, and the number needed before hedging starts
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    private final int maxRetries;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double hedgePercentile;
+    private final Map<RequestClass, ClassState> classStates;
+    private final ScheduledExecutorService scheduler;
+    private final Random random;
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+
+    /**
+     * The kinds of requests whose latencies are comparable, and so which share a concurrency limiter and hedging delays.
+     */
+    public enum RequestClass {
+        /** Gets and multi-gets of documents by id. */
+        GET,
+        /** Searches, including prepared and streaming searches. */
+        SEARCH,
+        /** Multi-searches, including coalesced searches. */
+        MULTI_SEARCH,
+        /** Writes of single documents. */
+        WRITE,
+        /** Bulk requests and deletes by query. */
+        BULK,
+        /** Creation and deletion of points in time. */
+        POINT_IN_TIME
+    }
+
+    /**
+     * Instantiate this policy.
+     *
+     * @param maxRetries The maximum number of times an idempotent request is retried, or 0 to not retry.
+     * @param initialDelay The upper bound of the delay before the first retry, doubled for each further retry.
+     * @param maxDelay The maximum upper bound of the delay before a retry.
+     * @param hedgePercentile The percentile of recent latencies after which an idempotent request is hedged, e.g. {@code 95}, or 0 to
+     *     not hedge.
+     * @param limiters The supplier of the concurrency limiter of each request class, or null to not limit concurrency.
+     */
+    public RequestPolicy(
+        int maxRetries,
+        TimeValue initialDelay,
+        TimeValue maxDelay,
+        double hedgePercentile,
+        @Nullable Supplier<AdaptiveConcurrencyLimiter> limiters
+    ) {
+        this(
+            maxRetries,
+            initialDelay,
+            maxDelay,
+            hedgePercentile,
+            limiters,
+            Executors.newSingleThreadScheduledExecutor(OpenSearchExecutors.daemonThreadFactory("request_policy")),
+            Randomness.get()
+        );
+    }
+
+    /**
+     * Instantiate this policy with a scheduler and source of jitter.
+     *
+     * @param maxRetries The maximum number of times an idempotent request is retried, or 0 to not retry.
+     * @param initialDelay The upper bound of the delay before the first retry, doubled for each further retry.
+     * @param maxDelay The maximum upper bound of the delay before a retry.
+     * @param hedgePercentile The percentile of recent latencies after which an idempotent request is hedged, or 0 to not hedge.
+     * @param limiters The supplier of the concurrency limiter of each request class, or null to not limit concurrency.
+     * @param scheduler The scheduler of retries and hedges.
+     * @param random The source of jitter.
+     */
+    RequestPolicy(
+        int maxRetries,
+        TimeValue initialDelay,
+        TimeValue maxDelay,
+        double hedgePercentile,
+        @Nullable Supplier<AdaptiveConcurrencyLimiter> limiters,
+        ScheduledExecutorService scheduler,
+        Random random
+    ) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Max retries must not be negative but was [" + maxRetries + "]");
+        }
+        if (hedgePercentile < 0 || hedgePercentile >= 100) {
+            throw new IllegalArgumentException("Hedge percentile must be between 0 and 100 but was [" + hedgePercentile + "]");
+        }
+        this.maxRetries = maxRetries;
+        this.initialDelayNanos = initialDelay.nanos();
+        this.maxDelayNanos = maxDelay.nanos();
+        this.hedgePercentile = hedgePercentile;
+        Map<RequestClass, ClassState> states = new EnumMap<>(RequestClass.class);
+        for (RequestClass requestClass : RequestClass.values()) {
+            states.put(requestClass, new ClassState(limiters == null ? null : limiters.get()));
+        }
+        this.classStates = Collections.unmodifiableMap(states);
+        this.scheduler = scheduler;
+        this.random = random;
+    }
+
+    /**
+     * Sends a request under this policy.
+     *
+     * @param requestClass The kind of the request, whose concurrency limit and latencies it shares.
+     * @param idempotent Whether the request may safely be sent more than once, allowing retries and hedging.
+     * @param request The function sending the request asynchronously, invoked once per attempt, returning a cancellable for the
+     *     attempt. Attempts which have not completed when another attempt succeeds are cancelled.
+     * @param listener The listener to receive the first response, or the last failure.
+     * @param <T> The response type.
+     */
+    public <T> void execute(
+        RequestClass requestClass,
+        boolean idempotent,
+        Function<ActionListener<T>, Cancellable> request,
+        ActionListener<T> listener
+    ) {
+        new PolicyRequest<>(classStates.get(requestClass), idempotent, request, listener).start();
+    }
+
+    /**
+     * Returns a snapshot of the retry, hedging and concurrency statistics, with the concurrency limits, requests in flight and queued
+     * requests summed over all request classes.
+     *
+     * @return The statistics.
+     */
+    public Stats stats() {
+        int limit = 0;
+        int inFlight = 0;
+        int queued = 0;
+        for (ClassState state : classStates.values()) {
+            if (state.limiter != null) {
+                limit += state.limiter.getLimit();
+                inFlight += state.limiter.getInFlight();
+                queued += state.limiter.getQueued();
+            }
+        }
+        return new Stats(retries.get(), hedges.get(), hedgeWins.get(), rejections.get(), limit, inFlight, queued);
+    }
+
+    /**
+     * Returns the concurrency limit of a request class.
+     *
+     * @param requestClass The request class.
+     * @return The current concurrency limit of the class, or 0 if concurrency is not limited.
+     */
+    public int getConcurrencyLimit(RequestClass requestClass) {
+        AdaptiveConcurrencyLimiter limiter = classStates.get(requestClass).limiter;
+        return limiter == null ? 0 : limiter.getLimit();
+    }
+
+    /**
+     * Stops scheduling retries and hedges. Requests in flight and retries already scheduled complete, but failures are no longer
+     * retried.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Whether a failure is transient and an idempotent request failing with it may be retried.
+     *
+     * @param e The failure.
+     * @return Whether the request may be retried.
+     */
+    static boolean isRetryable(Exception e) {
+        RestStatus status = statusOf(e);
+        if (status != null) {
+            return status == RestStatus.TOO_MANY_REQUESTS
+                || status == RestStatus.BAD_GATEWAY
+                || status == RestStatus.SERVICE_UNAVAILABLE
+                || status == RestStatus.GATEWAY_TIMEOUT;
+        }
+        return ExceptionsHelper.unwrapCause(e) instanceof IOException;
+    }
+
+    /**
+     * Whether a failure indicates OpenSearch is overloaded.
+     *
+     * @param e The failure.
+     * @return Whether the failure is an overload rejection.
+     */
+    static boolean isOverloaded(Exception e) {
+        RestStatus status = statusOf(e);
+        return status == RestStatus.TOO_MANY_REQUESTS || status == RestStatus.SERVICE_UNAVAILABLE;
+    }
+
+    @Nullable
+    private static RestStatus statusOf(Exception e) {
+        Throwable cause = ExceptionsHelper.unwrapCause(e);
+        if (cause instanceof OpenSearchException) {
+            return ((OpenSearchException) cause).status();
+        }
+        if (cause instanceof ResponseException) {
+            return RestStatus.fromCode(((ResponseException) cause).getResponse().getStatusLine().getStatusCode());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the delay before a retry: a random duration up to an exponentially increasing bound.
+     *
+     * @param retry The number of the retry, starting at 1.
+     * @return The delay in nanoseconds.
+     */
+    long retryDelayNanos(int retry) {
+        long bound = initialDelayNanos << Math.min(retry - 1, 30);
+        if (bound <= 0 || bound > maxDelayNanos) {
+            bound = maxDelayNanos;
+        }
+        synchronized (random) {
+            return (long) (random.nextDouble() * bound);
+        }
+    }
+
+    /**
+     * Returns the delay after which a request of a class is hedged.
+     *
+     * @param requestClass The request class.
+     * @return The delay in nanoseconds, or -1 if too few latencies have been recorded for the class.
+     */
+    long hedgeDelayNanos(RequestClass requestClass) {
+        return classStates.get(requestClass).hedgeDelayNanos();
+    }
+
+    /**
+     * Schedules a retry or hedge, unless this policy is closed.
+     *
+     * @param task The task sending the retry or hedge.
+     * @param delayNanos The delay before the task runs.
+     * @return The future of the scheduled task, or null if this policy is closed.
+     */
+    @Nullable
+    private ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        try {
+            return scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // The scheduler was shut down by close
+            return null;
+        }
+    }
+
+    /**
+     * The concurrency limiter and recent latencies of a request class.
+     */
+    private final class ClassState {
+        @Nullable
+        private final AdaptiveConcurrencyLimiter limiter;
+
+        // Guarded by latencies
+        private final long[] latencies = new long[LATENCY_SAMPLES];
+        private int latencyCount = 0;
+        private int nextLatency = 0;
+
+        ClassState(@Nullable AdaptiveConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        long hedgeDelayNanos() {
+            long[] sorted;
+            synchronized (latencies) {
+                if (latencyCount < MIN_LATENCY_SAMPLES) {
+                    return -1;
+                }
+                sorted = Arrays.copyOf(latencies, latencyCount);
+            }
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(hedgePercentile / 100 * sorted.length) - 1)];
+        }
+
+        void recordLatency(long latencyNanos) {
+            synchronized (latencies) {
+                latencies[nextLatency] = latencyNanos;
+                nextLatency = (nextLatency + 1) % LATENCY_SAMPLES;
+                latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+            }
+        }
+    }
+
+    /**
+     * The state of one request across its attempts.
+     */
+    private final class PolicyRequest<T> {
+        private final ClassState state;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final boolean idempotent;
+        private final Function<ActionListener<T>, Cancellable> request;
+        private final ActionListener<T> listener;
+
+        // Guarded by this
+        private boolean done = false;
+        private int retried = 0;
+        // Attempts sent or scheduled which have not completed
+        private int outstanding = 0;
+        private ScheduledFuture<?> hedge;
+        // Attempts sent which have not completed, cancelled once another attempt succeeds
+        private final Set<Attempt> inFlight = new HashSet<>();
+
+        PolicyRequest(ClassState state, boolean idempotent, Function<ActionListener<T>, Cancellable> request, ActionListener<T> listener) {
+            this.state = state;
+            this.limiter = state.limiter;
+            this.idempotent = idempotent;
+            this.request = request;
+            this.listener = listener;
+        }
+
+        void start() {
+            synchronized (this) {
+                outstanding++;
+            }
+            send(false);
+            long hedgeDelay = idempotent && hedgePercentile > 0 ? state.hedgeDelayNanos() : -1;
+            if (hedgeDelay >= 0) {
+                synchronized (this) {
+                    if (!done) {
+                        hedge = schedule(this::sendHedge, hedgeDelay);
+                    }
+                }
+            }
+        }
+
+        private void sendHedge() {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                outstanding++;
+            }
+            Runnable attempt = () -> attempt(true);
+            boolean sent = limiter == null ? runNow(attempt) : limiter.trySubmit(attempt);
+            if (sent) {
+                hedges.incrementAndGet();
+            } else {
+                synchronized (this) {
+                    outstanding--;
+                }
+            }
+        }
+
+        private boolean runNow(Runnable attempt) {
+            attempt.run();
+            return true;
+        }
+
+        private void send(boolean isHedge) {
+            if (limiter == null) {
+                attempt(isHedge);
+            } else if (!limiter.submit(() -> attempt(isHedge))) {
+                rejections.incrementAndGet();
+                onAttemptFailure(
+                    new OpenSearchRejectedExecutionException("Too many requests are waiting for the concurrency limit of OpenSearch")
+                );
+            }
+        }
+
+        private void attempt(boolean isHedge) {
+            Attempt attempt = new Attempt(isHedge);
+            Cancellable cancellable;
+            try {
+                cancellable = request.apply(attempt);
+            } catch (Exception e) {
+                attempt.onFailure(e);
+                return;
+            }
+            boolean cancel;
+            synchronized (this) {
+                cancel = done && !attempt.completed.get();
+                if (!cancel && !attempt.completed.get()) {
+                    attempt.cancellable = cancellable;
+                    inFlight.add(attempt);
+                }
+            }
+            // Another attempt succeeded while this one was being sent
+            if (cancel && cancellable != null) {
+                cancellable.cancel();
+            }
+        }
+
+        private void onAttemptResponse(Attempt winner, T response) {
+            List<Attempt> losers;
+            synchronized (this) {
+                outstanding--;
+                inFlight.remove(winner);
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (hedge != null) {
+                    hedge.cancel(false);
+                }
+                losers = new ArrayList<>(inFlight);
+                inFlight.clear();
+            }
+            for (Attempt loser : losers) {
+                if (loser.cancellable != null) {
+                    loser.cancellable.cancel();
+                }
+            }
+            if (winner.isHedge) {
+                hedgeWins.incrementAndGet();
+            }
+            listener.onResponse(response);
+        }
+
+        private void onAttemptFailure(Exception e) {
+            synchronized (this) {
+                outstanding--;
+                if (done) {
+                    return;
+                }
+                if (idempotent && retried < maxRetries && isRetryable(e)) {
+                    ScheduledFuture<?> retry = schedule(() -> send(false), retryDelayNanos(retried + 1));
+                    if (retry != null) {
+                        retried++;
+                        outstanding++;
+                        retries.incrementAndGet();
+                        return;
+                    }
+                }
+                // Another attempt may still succeed
+                if (outstanding > 0) {
+                    return;
+                }
+                done = true;
+                if (hedge != null) {
+                    hedge.cancel(false);
+                }
+            }
+            listener.onFailure(e);
+        }
+
+        /**
+         * One attempt to send the request, which completes once even if the request both notifies its listener and throws.
+         */
+        private final class Attempt implements ActionListener<T> {
+            private final boolean isHedge;
+            private final long start = System.nanoTime();
+            private final AtomicBoolean completed = new AtomicBoolean();
+            // Guarded by the enclosing request
+            private Cancellable cancellable;
+
+            Attempt(boolean isHedge) {
+                this.isHedge = isHedge;
+            }
+
+            @Override
+            public void onResponse(T response) {
+                if (completed.compareAndSet(false, true)) {
+                    long latency = System.nanoTime() - start;
+                    if (limiter != null) {
+                        limiter.release(latency);
+                    }
+                    state.recordLatency(latency);
+                    onAttemptResponse(this, response);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (completed.compareAndSet(false, true)) {
+                    // Failures, including errors thrown before the request was sent, are not samples of the latency of OpenSearch
+                    if (limiter != null) {
+                        limiter.releaseFailure(isOverloaded(e));
+                    }
+                    synchronized (PolicyRequest.this) {
+                        inFlight.remove(this);
+                    }
+                    onAttemptFailure(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link RequestPolicy}.
+     */
+    public static final class Stats {
+        private final long retries;
+        private final long hedges;
+        private final long hedgeWins;
+        private final long rejections;
+        private final int concurrencyLimit;
+        private final int inFlight;
+        private final int queued;
+
+        Stats(long retries, long hedges, long hedgeWins, long rejections, int concurrencyLimit, int inFlight, int queued) {
+            this.retries = retries;
+            this.hedges = hedges;
+            this.hedgeWins = hedgeWins;
+            this.rejections = rejections;
+            this.concurrencyLimit = concurrencyLimit;
+            this.inFlight = inFlight;
+            this.queued = queued;
+        }
+
+        /**
+         * @return The number of retries sent.
+         */
+        public long getRetries() {
+            return retries;
+        }
+
+        /**
+         * @return The number of hedged requests sent.
+         */
+        public long getHedges() {
+            return hedges;
+        }
+
+        /**
+         * @return The number of hedged requests whose response was used.
+         */
+        public long getHedgeWins() {
+            return hedgeWins;
+        }
+
+        /**
+         * @return The number of requests rejected because too many requests were waiting for the concurrency limit.
+         */
+        public long getRejections() {
+            return rejections;
+        }
+
+        /**
+         * @return The sum of the current concurrency limits of the request classes, or 0 if concurrency is not limited.
+         */
+        public int getConcurrencyLimit() {
+            return concurrencyLimit;
+        }
+
+        /**
+         * @return The number of requests in flight, or 0 if concurrency is not limited.
+         */
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        /**
+         * @return The number of requests waiting for the concurrency limit, or 0 if concurrency is not limited.
+         */
+        public int getQueued() {
+            return queued;
+        }
+    }
+}
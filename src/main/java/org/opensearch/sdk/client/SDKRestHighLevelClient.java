@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.client.Cancellable;
+import org.opensearch.client.Request;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.ResponseListener;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.Validatable;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.search.SearchHit;
+
+/**
+ * The {@link RestHighLevelClient} used by the SDK, sharing a low level client and supporting requests the high level client does
+ * not provide.
+ */
+public class SDKRestHighLevelClient extends RestHighLevelClient {
+
+    /**
+     * Instantiate this client.
+     *
+     * @param restClient The low level client.
+     * @param doClose Closes the low level client when this client is closed.
+     * @param namedXContentEntries Additional named XContent entries used to parse responses.
+     */
+    public SDKRestHighLevelClient(
+        RestClient restClient,
+        CheckedConsumer<RestClient, IOException> doClose,
+        List<NamedXContentRegistry.Entry> namedXContentEntries
+    ) {
+        super(restClient, doClose, namedXContentEntries);
+    }
+
+    /**
+     * Asynchronously executes a prepared search, parsing the response, including its aggregations, as {@link #searchAsync} does.
+     *
+     * @param search The prepared search.
+     * @param values The parameter values by name.
+     * @param options The request options.
+     * @param listener The listener to be notified of the response.
+     * @return A cancellable that may be used to cancel the request.
+     */
+    public Cancellable preparedSearchAsync(
+        PreparedSearch search,
+        Map<String, ?> values,
+        RequestOptions options,
+        ActionListener<SearchResponse> listener
+    ) {
+        return performRequestAsyncAndParseEntity(
+            new Validatable() {
+            },
+            r -> search.toRequest(values),
+            options,
+            SearchResponse::fromXContent,
+            listener,
+            Collections.emptySet()
+        );
+    }
+
+    /**
+     * Asynchronously executes a search, parsing the response as it arrives and passing each hit to a consumer rather than holding
+     * all the hits in memory.
+     * <p>
+     * The hits are passed to the consumer on the I/O thread receiving the response, so the consumer must not block. A failure of the
+     * consumer fails the search. Once all the hits have been consumed, the listener is notified of the rest of the response, whose
+     * hits are empty.
+     *
+     * @param request The search request.
+     * @param options The request options.
+     * @param hitConsumer The consumer of each hit.
+     * @param listener The listener to be notified of the response.
+     * @return A cancellable that may be used to cancel the request.
+     */
+    public Cancellable searchStreamingAsync(
+        SearchRequest request,
+        RequestOptions options,
+        Consumer<SearchHit> hitConsumer,
+        ActionListener<SearchResponse> listener
+    ) {
+        Request lowLevelRequest;
+        try {
+            lowLevelRequest = toLowLevelRequest(request);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return Cancellable.NO_OP;
+        }
+        StreamingSearchParser parser = new StreamingSearchParser(hitConsumer);
+        RequestOptions.Builder streamingOptions = options.toBuilder();
+        streamingOptions.setHttpAsyncResponseConsumerFactory(() -> new StreamingSearchResponseConsumer(parser));
+        lowLevelRequest.setOptions(streamingOptions);
+        return getLowLevelClient().performRequestAsync(lowLevelRequest, new ResponseListener() {
+            @Override
+            public void onSuccess(Response response) {
+                SearchResponse searchResponse;
+                try {
+                    byte[] envelope = parser.finish();
+                    searchResponse = parseEntity(new ByteArrayEntity(envelope, ContentType.APPLICATION_JSON), SearchResponse::fromXContent);
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                    return;
+                }
+                listener.onResponse(searchResponse);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                listener.onFailure(e instanceof ResponseException ? parseResponseException((ResponseException) e) : e);
+            }
+        });
+    }
+
+    /**
+     * Converts a search request to a low level request, with the parameters the high level client sends for it.
+     *
+     * @param request The search request.
+     * @return The low level request.
+     * @throws IOException if the search source could not be serialized.
+     */
+    static Request toLowLevelRequest(SearchRequest request) throws IOException {
+        // A point in time determines the indices searched
+        String[] indices = request.pointInTimeBuilder() != null ? Strings.EMPTY_ARRAY : request.indices();
+        Request lowLevelRequest = new Request("POST", searchEndpoint(indices));
+        // Aggregations are parsed by their type prefix
+        lowLevelRequest.addParameter("typed_keys", "true");
+        if (request.routing() != null) {
+            lowLevelRequest.addParameter("routing", request.routing());
+        }
+        if (request.preference() != null) {
+            lowLevelRequest.addParameter("preference", request.preference());
+        }
+        lowLevelRequest.addParameter("search_type", request.searchType().name().toLowerCase(Locale.ROOT));
+        lowLevelRequest.addParameter("ccs_minimize_roundtrips", Boolean.toString(request.isCcsMinimizeRoundtrips()));
+        if (request.getPreFilterShardSize() != null) {
+            lowLevelRequest.addParameter("pre_filter_shard_size", Integer.toString(request.getPreFilterShardSize()));
+        }
+        if (request.getMaxConcurrentShardRequests() != SearchRequest.DEFAULT_MAX_CONCURRENT_SHARD_REQUESTS) {
+            lowLevelRequest.addParameter("max_concurrent_shard_requests", Integer.toString(request.getMaxConcurrentShardRequests()));
+        }
+        if (request.requestCache() != null) {
+            lowLevelRequest.addParameter("request_cache", Boolean.toString(request.requestCache()));
+        }
+        if (request.allowPartialSearchResults() != null) {
+            lowLevelRequest.addParameter("allow_partial_search_results", Boolean.toString(request.allowPartialSearchResults()));
+        }
+        if (request.getBatchedReduceSize() != SearchRequest.DEFAULT_BATCHED_REDUCE_SIZE) {
+            lowLevelRequest.addParameter("batched_reduce_size", Integer.toString(request.getBatchedReduceSize()));
+        }
+        if (request.scroll() != null) {
+            lowLevelRequest.addParameter("scroll", request.scroll().keepAlive().getStringRep());
+        }
+        if (request.getCancelAfterTimeInterval() != null) {
+            lowLevelRequest.addParameter("cancel_after_time_interval", request.getCancelAfterTimeInterval().getStringRep());
+        }
+        if (request.pointInTimeBuilder() == null) {
+            IndicesOptions indicesOptions = request.indicesOptions();
+            lowLevelRequest.addParameter("ignore_unavailable", Boolean.toString(indicesOptions.ignoreUnavailable()));
+            lowLevelRequest.addParameter("allow_no_indices", Boolean.toString(indicesOptions.allowNoIndices()));
+            lowLevelRequest.addParameter("expand_wildcards", expandWildcards(indicesOptions));
+        }
+        if (request.source() != null) {
+            byte[] body = BytesReference.toBytes(
+                BytesReference.bytes(request.source().toXContent(JsonXContent.contentBuilder(), ToXContent.EMPTY_PARAMS))
+            );
+            lowLevelRequest.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        }
+        return lowLevelRequest;
+    }
+
+    /**
+     * Builds the endpoint of a search, encoding the index names as the high level client does.
+     *
+     * @param indices The indices to search, or none to search all indices.
+     * @return The endpoint.
+     */
+    static String searchEndpoint(String... indices) {
+        return indices.length == 0 ? "/_search" : "/" + encodePart(String.join(",", indices)) + "/_search";
+    }
+
+    private static String encodePart(String pathPart) {
+        try {
+            // The leading slash makes the path absolute, so that parts starting with '-' or containing ':' are encoded as a path
+            URI uri = new URI(null, "", "/" + pathPart, null, null);
+            // Slashes within the part are not separators
+            return uri.getRawPath().substring(1).replaceAll("/", "%2F");
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Path part [" + pathPart + "] couldn't be encoded", e);
+        }
+    }
+
+    private static String expandWildcards(IndicesOptions indicesOptions) {
+        StringBuilder expand = new StringBuilder();
+        if (indicesOptions.expandWildcardsOpen()) {
+            expand.append("open,");
+        }
+        if (indicesOptions.expandWildcardsClosed()) {
+            expand.append("closed,");
+        }
+        if (indicesOptions.expandWildcardsHidden()) {
+            expand.append("hidden,");
+        }
+        return expand.length() == 0 ? "none" : expand.substring(0, expand.length() - 1);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Coalesces searches submitted concurrently into multi-search requests, saving a round trip to OpenSearch per search.
+ * <p>
+ * The first search submitted after a batch is sent opens a new batch, which is sent when the window elapses or the batch reaches its
+ * maximum size, whichever comes first. The response of each search, or its failure, is delivered to its own listener. A batch holding
+ * a single search is sent as an ordinary search.
+ * <p>
+ * Searches paging through results, with a scroll, a point in time or {@code search_after}, are sent immediately: each page is only
+ * requested once the previous one arrives, so waiting for other searches would add the window to the latency of every page.
+ */
+public class SearchCoalescer implements Closeable {
+    private static final Logger logger = LogManager.getLogger(SearchCoalescer.class);
+
+    private final BiConsumer<SearchRequest, ActionListener<SearchResponse>> search;
+    private final BiConsumer<MultiSearchRequest, ActionListener<MultiSearchResponse>> multiSearch;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    // Guarded by this
+    private List<PendingSearch> batch = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed = false;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong coalescedSearches = new AtomicLong();
+    private final AtomicLong largestBatch = new AtomicLong();
+
+    /**
+     * Instantiate this coalescer sending searches with a client.
+     *
+     * @param client The client to send searches.
+     * @param window How long a batch waits for further searches.
+     * @param maxBatchSize The number of searches which sends a batch before the window elapses.
+     */
+    public SearchCoalescer(SDKRestClient client, TimeValue window, int maxBatchSize) {
+        this(client::search, client::multiSearch, window, maxBatchSize);
+    }
+
+    /**
+     * Instantiate this coalescer.
+     *
+     * @param search The consumer sending a single search asynchronously.
+     * @param multiSearch The consumer sending a multi-search asynchronously.
+     * @param window How long a batch waits for further searches.
+     * @param maxBatchSize The number of searches which sends a batch before the window elapses.
+     */
+    public SearchCoalescer(
+        BiConsumer<SearchRequest, ActionListener<SearchResponse>> search,
+        BiConsumer<MultiSearchRequest, ActionListener<MultiSearchResponse>> multiSearch,
+        TimeValue window,
+        int maxBatchSize
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive but was [" + maxBatchSize + "]");
+        }
+        this.search = search;
+        this.multiSearch = multiSearch;
+        this.windowNanos = window.nanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(OpenSearchExecutors.daemonThreadFactory("search_coalescer"));
+    }
+
+    /**
+     * Submits a search to be sent in the next batch.
+     *
+     * @param request The search request.
+     * @param listener The listener to receive the search response.
+     * @throws IllegalStateException if the coalescer is closed.
+     */
+    public void search(SearchRequest request, ActionListener<SearchResponse> listener) {
+        if (isPaging(request)) {
+            search.accept(request, listener);
+            return;
+        }
+        List<PendingSearch> toSend = null;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Search coalescer is closed");
+            }
+            batch.add(new PendingSearch(request, listener));
+            if (batch.size() >= maxBatchSize) {
+                toSend = takeBatch();
+            } else if (batch.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (toSend != null) {
+            send(toSend);
+        }
+    }
+
+    /**
+     * Whether a search requests a page of results following an earlier search by the same caller.
+     *
+     * @param request The search request.
+     * @return Whether the search pages with a scroll, a point in time or {@code search_after}.
+     */
+    static boolean isPaging(SearchRequest request) {
+        if (request.scroll() != null) {
+            return true;
+        }
+        SearchSourceBuilder source = request.source();
+        return source != null && (source.pointInTimeBuilder() != null || source.searchAfter() != null);
+    }
+
+    /**
+     * Sends the current batch, if any, without waiting for the window to elapse.
+     */
+    public void flush() {
+        List<PendingSearch> toSend;
+        synchronized (this) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            toSend = takeBatch();
+        }
+        send(toSend);
+    }
+
+    /**
+     * Returns a snapshot of the batch size statistics.
+     *
+     * @return The statistics.
+     */
+    public Stats stats() {
+        return new Stats(batches.get(), coalescedSearches.get(), largestBatch.get());
+    }
+
+    /**
+     * Sends the current batch and stops accepting searches. Searches already sent complete normally.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+        scheduler.shutdown();
+    }
+
+    /**
+     * Takes the current batch and cancels its scheduled flush. Must be called holding the lock.
+     */
+    private List<PendingSearch> takeBatch() {
+        List<PendingSearch> taken = batch;
+        batch = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return taken;
+    }
+
+    private void send(List<PendingSearch> searches) {
+        batches.incrementAndGet();
+        coalescedSearches.addAndGet(searches.size());
+        largestBatch.accumulateAndGet(searches.size(), Math::max);
+        if (searches.size() == 1) {
+            PendingSearch pending = searches.get(0);
+            search.accept(pending.request, pending.listener);
+            return;
+        }
+        MultiSearchRequest request = new MultiSearchRequest();
+        searches.forEach(s -> request.add(s.request));
+        multiSearch.accept(request, new ActionListener<>() {
+            @Override
+            public void onResponse(MultiSearchResponse response) {
+                MultiSearchResponse.Item[] items = response.getResponses();
+                for (int i = 0; i < searches.size(); i++) {
+                    if (items[i].isFailure()) {
+                        notify(searches.get(i), null, items[i].getFailure());
+                    } else {
+                        notify(searches.get(i), items[i].getResponse(), null);
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                searches.forEach(s -> notify(s, null, e));
+            }
+        });
+    }
+
+    private static void notify(PendingSearch pending, SearchResponse response, Exception e) {
+        // One listener failing must not prevent the rest of the batch from being notified
+        try {
+            if (e == null) {
+                pending.listener.onResponse(response);
+            } else {
+                pending.listener.onFailure(e);
+            }
+        } catch (Exception listenerException) {
+            logger.warn("Search coalescer listener failed", listenerException);
+        }
+    }
+
+    private static final class PendingSearch {
+        private final SearchRequest request;
+        private final ActionListener<SearchResponse> listener;
+
+        PendingSearch(SearchRequest request, ActionListener<SearchResponse> listener) {
+            this.request = request;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * A snapshot of the batch size statistics of a {@link SearchCoalescer}.
+     */
+    public static final class Stats {
+        private final long batches;
+        private final long searches;
+        private final long largestBatch;
+
+        Stats(long batches, long searches, long largestBatch) {
+            this.batches = batches;
+            this.searches = searches;
+            this.largestBatch = largestBatch;
+        }
+
+        /**
+         * @return The number of batches sent.
+         */
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * @return The number of searches sent in batches.
+         */
+        public long getSearches() {
+            return searches;
+        }
+
+        /**
+         * @return The size of the largest batch sent.
+         */
+        public long getLargestBatch() {
+            return largestBatch;
+        }
+
+        /**
+         * @return The mean number of searches per batch, or 0 if no batch has been sent.
+         */
+        public double getAverageBatchSize() {
+            return batches == 0 ? 0 : (double) searches / batches;
+        }
+    }
+}
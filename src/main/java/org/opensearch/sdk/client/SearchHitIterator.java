@@ -0,0 +1,380 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Lazily iterates over all hits matching a search, paging through the results with a point in time and {@code search_after}.
+ * <p>
+ * The point in time is created when the iterator is first used. Pages are fetched asynchronously ahead of the consumer, holding at
+ * most a bounded number of pages in addition to the page being consumed, so memory use does not depend on the number of hits. The
+ * point in time is deleted when the last page has been consumed or the iterator is closed.
+ * <p>
+ * The search source must define a sort whose values uniquely identify each document, so that {@code search_after} resumes at the
+ * correct position. The size and point in time of the search source are overridden. Failures to communicate with OpenSearch are thrown
+ * from {@link #hasNext()} as {@link UncheckedIOException}.
+ */
+public class SearchHitIterator implements Iterator<SearchHit>, Closeable {
+
+    /**
+     * The default number of hits requested per page
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    /**
+     * The default number of pages fetched ahead of the consumer
+     */
+    public static final int DEFAULT_PREFETCH_PAGES = 1;
+
+    private static final Logger logger = LogManager.getLogger(SearchHitIterator.class);
+
+    private final SDKRestClient client;
+    private final SearchRequest searchRequest;
+    private final SearchSourceBuilder template;
+    private final int pageSize;
+    private final int prefetchPages;
+    private final TimeValue keepAlive;
+    private final TimeValue requestTimeout;
+    // Whether the point in time was created by, and should be deleted by, this iterator
+    private final boolean ownsPit;
+
+    // The page being consumed, only accessed by the consumer
+    private SearchHit[] page = new SearchHit[0];
+    private int position = 0;
+
+    // Guarded by this
+    private final Deque<SearchHit[]> pages = new ArrayDeque<>();
+    private boolean started = false;
+    private boolean fetching = false;
+    private boolean exhausted = false;
+    private boolean closed = false;
+    private Exception failure;
+    private String pitId;
+    private Object[] searchAfter;
+
+    /**
+     * Instantiate this iterator with the default page size and prefetch, and a one minute point in time keep alive and request timeout.
+     *
+     * @param client The client used to query OpenSearch.
+     * @param searchRequest The search to iterate, specifying the indices and the search source.
+     */
+    public SearchHitIterator(SDKRestClient client, SearchRequest searchRequest) {
+        this(
+            client,
+            searchRequest,
+            DEFAULT_PAGE_SIZE,
+            DEFAULT_PREFETCH_PAGES,
+            TimeValue.timeValueMinutes(1),
+            TimeValue.timeValueMinutes(1)
+        );
+    }
+
+    /**
+     * Instantiate this iterator.
+     *
+     * @param client The client used to query OpenSearch.
+     * @param searchRequest The search to iterate, specifying the indices and the search source.
+     * @param pageSize The number of hits requested per page.
+     * @param prefetchPages The maximum number of pages fetched ahead of the page being consumed, or 0 to fetch on demand.
+     * @param keepAlive How long the point in time is kept alive between pages.
+     * @param requestTimeout How long to wait for each page.
+     */
+    public SearchHitIterator(
+        SDKRestClient client,
+        SearchRequest searchRequest,
+        int pageSize,
+        int prefetchPages,
+        TimeValue keepAlive,
+        TimeValue requestTimeout
+    ) {
+        this(client, searchRequest, pageSize, prefetchPages, keepAlive, requestTimeout, null);
+    }
+
+    /**
+     * Instantiate this iterator, optionally using an existing point in time which is not deleted by this iterator.
+     *
+     * @param client The client used to query OpenSearch.
+     * @param searchRequest The search to iterate, specifying the indices and the search source.
+     * @param pageSize The number of hits requested per page.
+     * @param prefetchPages The maximum number of pages fetched ahead of the page being consumed, or 0 to fetch on demand.
+     * @param keepAlive How long the point in time is kept alive between pages.
+     * @param requestTimeout How long to wait for each page.
+     * @param sharedPitId The id of an existing point in time, or null to create one.
+     */
+    SearchHitIterator(
+        SDKRestClient client,
+        SearchRequest searchRequest,
+        int pageSize,
+        int prefetchPages,
+        TimeValue keepAlive,
+        TimeValue requestTimeout,
+        @Nullable String sharedPitId
+    ) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive but was [" + pageSize + "]");
+        }
+        if (prefetchPages < 0) {
+            throw new IllegalArgumentException("Prefetch pages must not be negative but was [" + prefetchPages + "]");
+        }
+        this.template = sortedSource(searchRequest);
+        this.client = client;
+        this.searchRequest = searchRequest;
+        this.pageSize = pageSize;
+        this.prefetchPages = prefetchPages;
+        this.keepAlive = keepAlive;
+        this.requestTimeout = requestTimeout;
+        this.ownsPit = sharedPitId == null;
+        this.pitId = sharedPitId;
+        this.started = sharedPitId != null;
+    }
+
+    /**
+     * Returns a sequential stream over the remaining hits. Closing the stream closes this iterator.
+     *
+     * @return A stream of hits.
+     */
+    public Stream<SearchHit> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < page.length) {
+            return true;
+        }
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            if (!started) {
+                started = true;
+                fetching = true;
+                client.createPit(
+                    createPitRequest(searchRequest, keepAlive),
+                    ActionListener.wrap(r -> onPitCreated(r.getId()), this::onFailure)
+                );
+            }
+            long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(requestTimeout.millis());
+            long deadline = System.nanoTime() + timeoutNanos;
+            while (true) {
+                maybeFetch(true);
+                if (!pages.isEmpty()) {
+                    break;
+                }
+                if (failure != null) {
+                    close();
+                    throw new UncheckedIOException(new IOException("Failed to fetch search results", failure));
+                }
+                if (exhausted) {
+                    close();
+                    return false;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    close();
+                    throw new UncheckedIOException(new IOException("Timed out fetching search results"));
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new UncheckedIOException(new IOException("Interrupted while fetching search results", e));
+                }
+            }
+            page = pages.poll();
+            position = 0;
+            maybeFetch(false);
+        }
+        return true;
+    }
+
+    @Override
+    public SearchHit next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page[position++];
+    }
+
+    /**
+     * Stops fetching pages and deletes the point in time. Hits which have been fetched but not consumed are discarded.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pages.clear();
+        page = new SearchHit[0];
+        position = 0;
+        deletePit();
+        notifyAll();
+    }
+
+    private synchronized void onPitCreated(String id) {
+        fetching = false;
+        pitId = id;
+        if (closed) {
+            deletePit();
+            return;
+        }
+        notifyAll();
+        maybeFetch(false);
+    }
+
+    private synchronized void onPage(SearchResponse response) {
+        fetching = false;
+        if (closed) {
+            return;
+        }
+        if (response.pointInTimeId() != null) {
+            pitId = response.pointInTimeId();
+        }
+        SearchHit[] hits = response.getHits().getHits();
+        if (hits.length > 0) {
+            pages.add(hits);
+            searchAfter = hits[hits.length - 1].getSortValues();
+        }
+        if (hits.length < pageSize) {
+            exhausted = true;
+            // The point in time is no longer needed while the remaining pages are consumed
+            deletePit();
+        }
+        notifyAll();
+        maybeFetch(false);
+    }
+
+    private synchronized void onFailure(Exception e) {
+        fetching = false;
+        failure = e;
+        notifyAll();
+    }
+
+    /**
+     * Requests the next page if none is in flight and either the buffer has room or the consumer is waiting for a page. Must be called
+     * holding the lock.
+     *
+     * @param demand Whether the consumer is waiting for a page.
+     */
+    private void maybeFetch(boolean demand) {
+        if (fetching || exhausted || closed || failure != null || pitId == null) {
+            return;
+        }
+        if (pages.size() >= prefetchPages && !(demand && pages.isEmpty())) {
+            return;
+        }
+        fetching = true;
+        SearchSourceBuilder source = template.shallowCopy()
+            .size(pageSize)
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+        if (searchAfter != null) {
+            source.searchAfter(searchAfter);
+        }
+        client.search(pageRequest(searchRequest, source), ActionListener.wrap(this::onPage, this::onFailure));
+    }
+
+    private void deletePit() {
+        if (pitId == null) {
+            return;
+        }
+        String id = pitId;
+        pitId = null;
+        if (ownsPit) {
+            deletePit(client, id);
+        }
+    }
+
+    /**
+     * Gets the source of a search paged with {@code search_after}, checking that it defines a sort.
+     *
+     * @param searchRequest The search.
+     * @return The search source, or an empty source if the search has none.
+     * @throws IllegalArgumentException if the search source does not define a sort.
+     */
+    static SearchSourceBuilder sortedSource(SearchRequest searchRequest) {
+        SearchSourceBuilder source = searchRequest.source() == null ? new SearchSourceBuilder() : searchRequest.source();
+        if (source.sorts() == null || source.sorts().isEmpty()) {
+            throw new IllegalArgumentException("Paging through search results requires a sort with a unique tiebreaker");
+        }
+        return source;
+    }
+
+    /**
+     * Creates the point in time for a search, on the shards the search would reach.
+     *
+     * @param searchRequest The search, specifying the indices, routing, preference and indices options.
+     * @param keepAlive How long the point in time is kept alive.
+     * @return The request creating the point in time.
+     */
+    static CreatePitRequest createPitRequest(SearchRequest searchRequest, TimeValue keepAlive) {
+        CreatePitRequest request = new CreatePitRequest(keepAlive, false, searchRequest.indices());
+        request.setRouting(searchRequest.routing());
+        request.setPreference(searchRequest.preference());
+        request.setIndicesOptions(searchRequest.indicesOptions());
+        return request;
+    }
+
+    /**
+     * Creates a request for a page of a search, which the point in time of its source determines the indices of.
+     *
+     * @param searchRequest The search, whose routing, preference and indices options are copied.
+     * @param source The source of the page.
+     * @return The page request.
+     */
+    static SearchRequest pageRequest(SearchRequest searchRequest, SearchSourceBuilder source) {
+        return new SearchRequest().source(source)
+            .routing(searchRequest.routing())
+            .preference(searchRequest.preference())
+            .indicesOptions(searchRequest.indicesOptions());
+    }
+
+    /**
+     * Deletes a point in time in the background, logging failures.
+     *
+     * @param client The client used to query OpenSearch.
+     * @param pitId The id of the point in time.
+     */
+    static void deletePit(SDKRestClient client, String pitId) {
+        // Points in time expire on their own, so a failure here only holds resources until the keep alive elapses
+        client.deletePit(
+            new DeletePitRequest(pitId),
+            ActionListener.wrap(r -> {}, e -> logger.warn("Failed to delete point in time [" + pitId + "]", e))
+        );
+    }
+}
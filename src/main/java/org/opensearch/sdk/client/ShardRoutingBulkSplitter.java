@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.Nullable;
+
+/**
+ * Splits a bulk request into one bulk request per node holding the primary shards of its documents, so that each document is sent
+ * directly to the node which indexes it rather than forwarded by a coordinating node.
+ * <p>
+ * The target shard of each document is computed from the cluster state the same way OpenSearch computes it, hashing the document's
+ * routing (or id) with Murmur3 and using the index's {@code number_of_routing_shards} and {@code routing_partition_size}. Documents
+ * whose shard cannot be determined, such as documents without an id or targeting an index which does not yet exist, are grouped
+ * together to be sent to any node.
+ */
+public class ShardRoutingBulkSplitter {
+
+    /**
+     * The group key of documents whose primary node could not be determined.
+     */
+    public static final String UNROUTED = "";
+
+    /**
+     * Sends a bulk request to a preferred node.
+     */
+    @FunctionalInterface
+    public interface NodeBulkExecutor {
+        /**
+         * Sends a bulk request.
+         *
+         * @param nodeId The id of the node to prefer, or null for any node.
+         * @param request The bulk request.
+         * @param listener The listener to receive the response.
+         */
+        void bulk(@Nullable String nodeId, BulkRequest request, ActionListener<BulkResponse> listener);
+    }
+
+    private ShardRoutingBulkSplitter() {}
+
+    /**
+     * Groups the documents of a bulk request by the node holding their primary shard.
+     *
+     * @param request The bulk request.
+     * @param clusterState A recent cluster state.
+     * @return A map of node id, or {@link #UNROUTED}, to the positions of the documents in the bulk request.
+     */
+    public static Map<String, List<Integer>> groupByPrimaryNode(BulkRequest request, ClusterState clusterState) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        List<DocWriteRequest<?>> requests = request.requests();
+        for (int i = 0; i < requests.size(); i++) {
+            String nodeId = primaryNodeId(requests.get(i), clusterState.metadata(), clusterState.routingTable());
+            groups.computeIfAbsent(nodeId == null ? UNROUTED : nodeId, k -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    /**
+     * Splits a bulk request by primary node, sends each part to its node, and merges the responses in the order of the original
+     * request. If a part fails as a whole, each of its documents is reported as failed.
+     *
+     * @param request The bulk request.
+     * @param clusterState A recent cluster state.
+     * @param executor The executor sending each part.
+     * @param listener The listener to receive the merged response.
+     */
+    public static void execute(
+        BulkRequest request,
+        ClusterState clusterState,
+        NodeBulkExecutor executor,
+        ActionListener<BulkResponse> listener
+    ) {
+        Map<String, List<Integer>> groups = groupByPrimaryNode(request, clusterState);
+        if (groups.size() <= 1) {
+            String nodeId = groups.keySet().stream().findFirst().orElse(UNROUTED);
+            executor.bulk(UNROUTED.equals(nodeId) ? null : nodeId, request, listener);
+            return;
+        }
+        BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+        AtomicInteger remaining = new AtomicInteger(groups.size());
+        AtomicLong tookMillis = new AtomicLong();
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            List<Integer> positions = group.getValue();
+            BulkRequest part = new BulkRequest();
+            part.timeout(request.timeout());
+            part.setRefreshPolicy(request.getRefreshPolicy());
+            part.waitForActiveShards(request.waitForActiveShards());
+            for (int position : positions) {
+                part.add(request.requests().get(position));
+            }
+            String nodeId = UNROUTED.equals(group.getKey()) ? null : group.getKey();
+            executor.bulk(nodeId, part, new ActionListener<>() {
+                @Override
+                public void onResponse(BulkResponse response) {
+                    BulkItemResponse[] partItems = response.getItems();
+                    for (int i = 0; i < partItems.length; i++) {
+                        items[positions.get(i)] = renumber(positions.get(i), partItems[i]);
+                    }
+                    tookMillis.accumulateAndGet(response.getTook().millis(), Math::max);
+                    onPartDone();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    for (int i = 0; i < positions.size(); i++) {
+                        DocWriteRequest<?> doc = part.requests().get(i);
+                        items[positions.get(i)] = new BulkItemResponse(
+                            positions.get(i),
+                            doc.opType(),
+                            new BulkItemResponse.Failure(doc.index(), doc.id(), e)
+                        );
+                    }
+                    onPartDone();
+                }
+
+                private void onPartDone() {
+                    if (remaining.decrementAndGet() == 0) {
+                        listener.onResponse(new BulkResponse(items, tookMillis.get()));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Determines the node holding the primary shard a document is written to.
+     *
+     * @param request The document write request.
+     * @param metadata The cluster metadata.
+     * @param routingTable The cluster routing table.
+     * @return The node id, or null if it could not be determined.
+     */
+    @Nullable
+    static String primaryNodeId(DocWriteRequest<?> request, Metadata metadata, RoutingTable routingTable) {
+        if (request.id() == null || request.index() == null) {
+            return null;
+        }
+        IndexAbstraction indexAbstraction = metadata.getIndicesLookup().get(request.index());
+        IndexMetadata indexMetadata = indexAbstraction == null ? null : indexAbstraction.getWriteIndex();
+        if (indexMetadata == null) {
+            return null;
+        }
+        String routing;
+        try {
+            routing = metadata.resolveWriteIndexRouting(request.routing(), request.index());
+        } catch (IllegalArgumentException e) {
+            // Let OpenSearch report the invalid routing
+            return null;
+        }
+        IndexRoutingTable indexRoutingTable = routingTable.index(indexMetadata.getIndex());
+        if (indexRoutingTable == null) {
+            return null;
+        }
+        int shardId = OperationRouting.generateShardId(indexMetadata, request.id(), routing);
+        ShardRouting primary = indexRoutingTable.shard(shardId).primaryShard();
+        return primary != null && primary.assignedToNode() ? primary.currentNodeId() : null;
+    }
+
+    private static BulkItemResponse renumber(int position, BulkItemResponse item) {
+        if (item.getItemId() == position) {
+            return item;
+        }
+        return item.isFailed()
+            ? new BulkItemResponse(position, item.getOpType(), item.getFailure())
+            : new BulkItemResponse(position, item.getOpType(), item.getResponse());
+    }
+}
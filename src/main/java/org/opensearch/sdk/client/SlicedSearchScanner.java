@@ -0,0 +1,195 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+
+/**
+ * Scans all hits matching a search in parallel, splitting one point in time into {@code slice} queries which are scanned concurrently.
+ * <p>
+ * The search is split into a number of slices, and up to a number of workers scan slices concurrently on an executor. Each worker
+ * takes the next unscanned slice when it finishes one, so a worker which finishes a small slice early picks up remaining work rather
+ * than idling. Using more slices than workers evens out the load when slices differ in size. Each slice is paged by a
+ * {@link SearchHitIterator} sharing the point in time, prefetching its next page while the current one is consumed.
+ * <p>
+ * The consumer is invoked concurrently from the executor's threads and must be thread-safe.
+ */
+public class SlicedSearchScanner {
+
+    private final SDKRestClient client;
+    private final Executor executor;
+    private final int slices;
+    private final int parallelism;
+    private final int pageSize;
+    private final TimeValue keepAlive;
+    private final TimeValue requestTimeout;
+
+    /**
+     * Instantiate this scanner with one slice per worker, the default page size, and a one minute point in time keep alive and request
+     * timeout.
+     *
+     * @param client The client used to query OpenSearch.
+     * @param executor The executor running the workers.
+     * @param parallelism The number of slices and concurrent workers.
+     */
+    public SlicedSearchScanner(SDKRestClient client, Executor executor, int parallelism) {
+        this(
+            client,
+            executor,
+            parallelism,
+            parallelism,
+            SearchHitIterator.DEFAULT_PAGE_SIZE,
+            TimeValue.timeValueMinutes(1),
+            TimeValue.timeValueMinutes(1)
+        );
+    }
+
+    /**
+     * Instantiate this scanner.
+     *
+     * @param client The client used to query OpenSearch.
+     * @param executor The executor running the workers.
+     * @param slices The number of slices the search is split into.
+     * @param parallelism The maximum number of slices scanned concurrently.
+     * @param pageSize The number of hits requested per page.
+     * @param keepAlive How long the point in time is kept alive between pages.
+     * @param requestTimeout How long to wait for each page.
+     */
+    public SlicedSearchScanner(
+        SDKRestClient client,
+        Executor executor,
+        int slices,
+        int parallelism,
+        int pageSize,
+        TimeValue keepAlive,
+        TimeValue requestTimeout
+    ) {
+        if (slices <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException(
+                "Slices and parallelism must be positive but were [" + slices + "] and [" + parallelism + "]"
+            );
+        }
+        this.client = client;
+        this.executor = executor;
+        this.slices = slices;
+        this.parallelism = Math.min(slices, parallelism);
+        this.pageSize = pageSize;
+        this.keepAlive = keepAlive;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Scans all hits matching a search, returning once every slice has been scanned.
+     * <p>
+     * The search source must define a sort whose values uniquely identify each document. The size, slice and point in time of the
+     * search source are overridden. If any slice fails, the remaining slices are abandoned.
+     *
+     * @param searchRequest The search to scan, specifying the indices and the search source.
+     * @param consumer The thread-safe consumer of hits.
+     * @return The number of hits scanned.
+     * @throws IOException if communicating with OpenSearch failed.
+     */
+    public long scan(SearchRequest searchRequest, Consumer<SearchHit> consumer) throws IOException {
+        SearchSourceBuilder template = SearchHitIterator.sortedSource(searchRequest);
+        String pitId = createPit(searchRequest);
+        AtomicInteger nextSlice = new AtomicInteger();
+        AtomicLong count = new AtomicLong();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        try {
+            CompletableFuture<?>[] workers = new CompletableFuture<?>[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                workers[i] = CompletableFuture.runAsync(() -> {
+                    int slice;
+                    while (failure.get() == null && (slice = nextSlice.getAndIncrement()) < slices) {
+                        try {
+                            count.addAndGet(scanSlice(searchRequest, template, pitId, slice, consumer, failure));
+                        } catch (Exception e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(workers).get();
+        } catch (InterruptedException e) {
+            failure.compareAndSet(null, e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            SearchHitIterator.deletePit(client, pitId);
+        }
+        if (failure.get() != null) {
+            throw new IOException("Failed to scan search results", failure.get());
+        }
+        return count.get();
+    }
+
+    private long scanSlice(
+        SearchRequest searchRequest,
+        SearchSourceBuilder template,
+        String pitId,
+        int slice,
+        Consumer<SearchHit> consumer,
+        AtomicReference<Exception> failure
+    ) {
+        SearchSourceBuilder source = template.shallowCopy().slice(slices > 1 ? new SliceBuilder(slice, slices) : null);
+        long count = 0;
+        try (
+            SearchHitIterator hits = new SearchHitIterator(
+                client,
+                SearchHitIterator.pageRequest(searchRequest, source),
+                pageSize,
+                SearchHitIterator.DEFAULT_PREFETCH_PAGES,
+                keepAlive,
+                requestTimeout,
+                pitId
+            )
+        ) {
+            while (failure.get() == null && hits.hasNext()) {
+                consumer.accept(hits.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String createPit(SearchRequest searchRequest) throws IOException {
+        CompletableFuture<CreatePitResponse> future = new CompletableFuture<>();
+        client.createPit(
+            SearchHitIterator.createPitRequest(searchRequest, keepAlive),
+            ActionListener.wrap(future::complete, future::completeExceptionally)
+        );
+        try {
+            return future.orTimeout(requestTimeout.millis(), TimeUnit.MILLISECONDS).get().getId();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while creating point in time", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to create point in time", e.getCause());
+        }
+    }
+}
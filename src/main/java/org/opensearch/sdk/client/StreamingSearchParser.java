@@ -0,0 +1,204 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.SearchHit;
+
+/**
+ * Incrementally parses the JSON body of a search response as it arrives, passing each hit to a consumer as soon as it is complete.
+ * <p>
+ * The body is fed in chunks to a non-blocking JSON parser, so neither the whole body nor all of its hits are held in memory. Each hit
+ * in {@code hits.hits} is copied on its own and parsed into a {@link SearchHit}. The rest of the response, such as the total hits,
+ * shard statistics and aggregations, is copied with an empty {@code hits.hits} array, to be parsed as a search response once the
+ * body is complete.
+ */
+public class StreamingSearchParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().setRootValueSeparator(null);
+    private static final String HITS = "hits";
+
+    private final Consumer<SearchHit> hitConsumer;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ByteArrayOutputStream envelope = new ByteArrayOutputStream();
+    private final JsonGenerator envelopeGenerator;
+    private final ByteArrayOutputStream hit = new ByteArrayOutputStream();
+    private final JsonGenerator hitGenerator;
+
+    // The number of open objects and arrays, and the last field name seen at each depth
+    private int depth = 0;
+    private String[] fieldNames = new String[8];
+    // Whether the parser is within the hits.hits array, and within one of its hits
+    private boolean inHits = false;
+    private boolean inHit = false;
+    private long bytesFed = 0;
+    private long hits = 0;
+    private boolean finished = false;
+
+    /**
+     * Instantiate this parser.
+     *
+     * @param hitConsumer The consumer of each hit, called on the thread feeding the body.
+     */
+    public StreamingSearchParser(Consumer<SearchHit> hitConsumer) {
+        this.hitConsumer = hitConsumer;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            this.envelopeGenerator = JSON_FACTORY.createGenerator(envelope);
+            this.hitGenerator = JSON_FACTORY.createGenerator(hit);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create a streaming JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Parses the next chunk of the body. The chunk is fully parsed before this method returns, so the array may be reused.
+     *
+     * @param bytes The array containing the chunk.
+     * @param offset The offset of the chunk in the array.
+     * @param length The length of the chunk.
+     * @throws IOException if the body is not valid JSON, or a hit could not be parsed.
+     */
+    public void feed(byte[] bytes, int offset, int length) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("The body has already been parsed");
+        }
+        if (length == 0) {
+            return;
+        }
+        bytesFed += length;
+        feeder.feedInput(bytes, offset, offset + length);
+        parseAvailable();
+    }
+
+    /**
+     * Completes parsing of the body.
+     *
+     * @return The JSON of the response without its hits, whose {@code hits.hits} array is empty.
+     * @throws IOException if the body is incomplete or not valid JSON.
+     */
+    public byte[] finish() throws IOException {
+        if (!finished) {
+            feeder.endOfInput();
+            parseAvailable();
+            if (depth != 0 || bytesFed == 0) {
+                throw new IOException("Search response body ended unexpectedly");
+            }
+            finished = true;
+            envelopeGenerator.close();
+            hitGenerator.close();
+            parser.close();
+        }
+        return envelope.toByteArray();
+    }
+
+    /**
+     * @return Whether any of the body has been fed to this parser.
+     */
+    public boolean isStarted() {
+        return bytesFed > 0;
+    }
+
+    /**
+     * @return The number of hits passed to the consumer.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    private void parseAvailable() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (inHits && !inHit && depth == 3 && token == JsonToken.START_OBJECT) {
+                        inHit = true;
+                    } else if (!inHits && depth == 2 && token == JsonToken.START_ARRAY && isHitsArray()) {
+                        inHits = true;
+                    }
+                    copy();
+                    push();
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    depth--;
+                    copy();
+                    if (inHit && depth == 3) {
+                        inHit = false;
+                        consumeHit();
+                    } else if (inHits && depth == 2) {
+                        inHits = false;
+                    }
+                    break;
+                case FIELD_NAME:
+                    fieldNames[depth] = parser.currentName();
+                    copy();
+                    break;
+                default:
+                    copy();
+            }
+        }
+    }
+
+    private boolean isHitsArray() {
+        return HITS.equals(fieldNames[1]) && HITS.equals(fieldNames[2]);
+    }
+
+    private void push() {
+        depth++;
+        if (depth >= fieldNames.length) {
+            fieldNames = Arrays.copyOf(fieldNames, fieldNames.length * 2);
+        }
+        fieldNames[depth] = null;
+    }
+
+    private void copy() throws IOException {
+        if (inHit) {
+            hitGenerator.copyCurrentEvent(parser);
+        } else if (!inHits || depth == 2) {
+            // Of hits.hits, only the start and end of the array are copied to the envelope
+            envelopeGenerator.copyCurrentEvent(parser);
+        }
+    }
+
+    private void consumeHit() throws IOException {
+        hitGenerator.flush();
+        try (
+            XContentParser hitParser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE,
+                hit.toByteArray()
+            )
+        ) {
+            hitParser.nextToken();
+            SearchHit searchHit = SearchHit.fromXContent(hitParser);
+            hits++;
+            hitConsumer.accept(searchHit);
+        } finally {
+            hit.reset();
+        }
+    }
+}
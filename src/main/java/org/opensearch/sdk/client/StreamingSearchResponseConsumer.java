@@ -0,0 +1,318 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+
+/**
+ * Consumes the body of a successful search response by feeding it to a {@link StreamingSearchParser} as it arrives, instead of
+ * buffering it on the heap. The response passed on to the low level client has no body.
+ * <p>
+ * The body of an unsuccessful response is buffered, so the low level client can report the error. A gzip or deflate compressed body
+ * is inflated as each chunk arrives and fed to the parser, parsing the gzip header and checking the gzip trailer along the way.
+ * <p>
+ * The low level client creates a consumer for each attempt, but the body cannot be consumed twice, so once any of it has been parsed,
+ * later attempts fail.
+ */
+public class StreamingSearchResponseConsumer extends AbstractBinResponseConsumer<ClassicHttpResponse> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // The lengths of the fixed parts of a gzip member and the flags of its header, see RFC 1952
+    private static final int GZIP_HEADER_LENGTH = 10;
+    private static final int GZIP_TRAILER_LENGTH = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final StreamingSearchParser parser;
+    private final byte[] chunk = new byte[BUFFER_SIZE];
+
+    private HttpResponse response;
+    private ContentType contentType;
+    private String contentEncoding;
+    // The body, when it is not parsed as it arrives
+    private ByteArrayOutputStream buffer;
+    // The decompressor of a compressed body
+    private Decompressor decompressor;
+
+    /**
+     * Instantiate this consumer.
+     *
+     * @param parser The parser of the body.
+     */
+    public StreamingSearchResponseConsumer(StreamingSearchParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    protected void start(HttpResponse response, ContentType contentType) throws IOException {
+        if (parser.isStarted()) {
+            throw new IOException("The search response was partially consumed by a previous attempt and cannot be consumed again");
+        }
+        this.response = response;
+        this.contentType = contentType;
+        Header encoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        this.contentEncoding = encoding == null ? null : encoding.getValue().toLowerCase(Locale.ROOT);
+        if (!isSuccessful()) {
+            this.buffer = new ByteArrayOutputStream();
+        } else if (isEncoded()) {
+            this.decompressor = new Decompressor(contentEncoding);
+        }
+    }
+
+    @Override
+    protected int capacityIncrement() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+        while (src.hasRemaining()) {
+            int length = Math.min(src.remaining(), chunk.length);
+            src.get(chunk, 0, length);
+            if (buffer != null) {
+                buffer.write(chunk, 0, length);
+            } else if (decompressor != null) {
+                decompressor.feed(chunk, 0, length);
+            } else {
+                parser.feed(chunk, 0, length);
+            }
+        }
+        if (endOfStream && decompressor != null) {
+            decompressor.finish();
+        }
+    }
+
+    @Override
+    protected ClassicHttpResponse buildResult() {
+        BasicClassicHttpResponse result = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+        result.setVersion(response.getVersion());
+        result.setHeaders(response.getHeaders());
+        if (!isSuccessful() && buffer != null) {
+            result.setEntity(new ByteArrayEntity(buffer.toByteArray(), contentType, contentEncoding));
+        } else {
+            // The body has been consumed, and its encoding no longer applies
+            result.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+        }
+        return result;
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        releaseResources();
+    }
+
+    @Override
+    public void releaseResources() {
+        buffer = null;
+        if (decompressor != null) {
+            decompressor.inflater.end();
+            decompressor = null;
+        }
+    }
+
+    private boolean isSuccessful() {
+        return response.getCode() >= 200 && response.getCode() < 300;
+    }
+
+    private boolean isEncoded() {
+        return contentEncoding != null && !"identity".equals(contentEncoding);
+    }
+
+    /**
+     * Inflates a compressed body chunk by chunk into the parser. A gzip body may consist of several members, each a header, deflate
+     * data and a trailer with the checksum and length of the data. Headers and trailers split across chunks are collected until they
+     * are complete.
+     */
+    private final class Decompressor {
+        private final boolean gzip;
+        private final Inflater inflater;
+        private final CRC32 crc = new CRC32();
+        private final byte[] inflated = new byte[BUFFER_SIZE];
+        // The part of a gzip header or trailer received so far
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private Stage stage;
+        private long size = 0;
+
+        Decompressor(String contentEncoding) throws IOException {
+            switch (contentEncoding) {
+                case "gzip":
+                case "x-gzip":
+                    this.gzip = true;
+                    this.stage = Stage.HEADER;
+                    break;
+                case "deflate":
+                    this.gzip = false;
+                    this.stage = Stage.DATA;
+                    break;
+                default:
+                    throw new IOException("Unsupported content encoding [" + contentEncoding + "]");
+            }
+            // Gzip wraps raw deflate data, while the deflate encoding is deflate data in the zlib format
+            this.inflater = new Inflater(gzip);
+        }
+
+        void feed(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                int consumed;
+                switch (stage) {
+                    case HEADER:
+                        consumed = header(bytes, offset, length);
+                        break;
+                    case DATA:
+                        consumed = data(bytes, offset, length);
+                        break;
+                    case TRAILER:
+                        consumed = trailer(bytes, offset, length);
+                        break;
+                    default:
+                        if (!gzip) {
+                            throw new IOException("Unexpected data after the end of the compressed search response");
+                        }
+                        // Another gzip member follows
+                        inflater.reset();
+                        crc.reset();
+                        size = 0;
+                        stage = Stage.HEADER;
+                        consumed = 0;
+                }
+                offset += consumed;
+                length -= consumed;
+            }
+        }
+
+        void finish() throws IOException {
+            if (stage != Stage.DONE) {
+                throw new IOException("The compressed search response ended unexpectedly");
+            }
+        }
+
+        private int header(byte[] bytes, int offset, int length) throws IOException {
+            int received = pending.size();
+            pending.write(bytes, offset, length);
+            int headerLength = gzipHeaderLength(pending.toByteArray());
+            if (headerLength < 0) {
+                return length;
+            }
+            pending.reset();
+            stage = Stage.DATA;
+            return headerLength - received;
+        }
+
+        private int data(byte[] bytes, int offset, int length) throws IOException {
+            inflater.setInput(bytes, offset, length);
+            try {
+                // Inflate until the input is used up, as the caller reuses its buffer
+                while (!inflater.finished() && !inflater.needsInput()) {
+                    int inflatedLength = inflater.inflate(inflated);
+                    if (inflatedLength == 0 && inflater.needsDictionary()) {
+                        throw new IOException("The compressed search response requires a preset dictionary");
+                    }
+                    crc.update(inflated, 0, inflatedLength);
+                    size += inflatedLength;
+                    parser.feed(inflated, 0, inflatedLength);
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("The compressed search response is corrupt", e);
+            }
+            if (!inflater.finished()) {
+                return length;
+            }
+            stage = gzip ? Stage.TRAILER : Stage.DONE;
+            return length - inflater.getRemaining();
+        }
+
+        private int trailer(byte[] bytes, int offset, int length) throws IOException {
+            int consumed = Math.min(length, GZIP_TRAILER_LENGTH - pending.size());
+            pending.write(bytes, offset, consumed);
+            if (pending.size() == GZIP_TRAILER_LENGTH) {
+                ByteBuffer trailer = ByteBuffer.wrap(pending.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+                pending.reset();
+                if (trailer.getInt(0) != (int) crc.getValue() || trailer.getInt(4) != (int) size) {
+                    throw new IOException("The checksum or length of the compressed search response does not match its gzip trailer");
+                }
+                stage = Stage.DONE;
+            }
+            return consumed;
+        }
+    }
+
+    private enum Stage {
+        HEADER,
+        DATA,
+        TRAILER,
+        DONE
+    }
+
+    /**
+     * Returns the length of a gzip member header.
+     *
+     * @param header The bytes received from the start of the header.
+     * @return The length of the header, or -1 if more bytes are needed to complete it.
+     * @throws IOException if the bytes are not a gzip header.
+     */
+    private static int gzipHeaderLength(byte[] header) throws IOException {
+        if (header.length < GZIP_HEADER_LENGTH) {
+            return -1;
+        }
+        if ((header[0] & 0xff) != 0x1f || (header[1] & 0xff) != 0x8b) {
+            throw new IOException("The search response is not in gzip format");
+        }
+        if (header[2] != Deflater.DEFLATED) {
+            throw new IOException("Unsupported gzip compression method [" + header[2] + "]");
+        }
+        int flags = header[3] & 0xff;
+        int position = GZIP_HEADER_LENGTH;
+        if ((flags & FEXTRA) != 0) {
+            if (header.length < position + 2) {
+                return -1;
+            }
+            position += 2 + ((header[position] & 0xff) | (header[position + 1] & 0xff) << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            position = skipZeroTerminated(header, position);
+        }
+        if ((flags & FCOMMENT) != 0 && position >= 0) {
+            position = skipZeroTerminated(header, position);
+        }
+        if ((flags & FHCRC) != 0 && position >= 0) {
+            position += 2;
+        }
+        return position >= 0 && header.length >= position ? position : -1;
+    }
+
+    private static int skipZeroTerminated(byte[] bytes, int position) {
+        for (int i = position; i < bytes.length; i++) {
+            if (bytes[i] == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+}
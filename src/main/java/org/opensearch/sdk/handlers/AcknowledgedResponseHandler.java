@@ -18,21 +18,25 @@ import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportResponseHandler;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class handles the response {{@link org.opensearch.extensions.AcknowledgedResponse }} from OpenSearch to Extension.
  */
 public class AcknowledgedResponseHandler implements TransportResponseHandler<AcknowledgedResponse> {
     private static final Logger logger = LogManager.getLogger(AcknowledgedResponseHandler.class);
+    private final CompletableFuture<AcknowledgedResponse> inProgressFuture = new CompletableFuture<>();
 
     @Override
     public void handleResponse(AcknowledgedResponse response) {
         logger.info("received {}", response);
+        inProgressFuture.complete(response);
     }
 
     @Override
     public void handleException(TransportException exp) {
         logger.info("Extension Request failed", exp);
+        inProgressFuture.completeExceptionally(exp);
     }
 
     @Override
@@ -44,4 +48,13 @@ public class AcknowledgedResponseHandler implements TransportResponseHandler<Ack
     public AcknowledgedResponse read(StreamInput in) throws IOException {
         return new AcknowledgedResponse(in);
     }
+
+    /**
+     * Gets a future completed when OpenSearch responds to the request.
+     *
+     * @return A future completed with the response, or exceptionally if the request failed.
+     */
+    public CompletableFuture<AcknowledgedResponse> getResponseFuture() {
+        return inProgressFuture;
+    }
 }
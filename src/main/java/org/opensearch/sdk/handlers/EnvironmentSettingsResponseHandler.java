@@ -74,6 +74,15 @@ public class EnvironmentSettingsResponseHandler implements TransportResponseHand
         inProgressFuture.orTimeout(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS).get();
     }
 
+    /**
+     * Gets a future completed with the environment settings when OpenSearch responds to the request.
+     *
+     * @return A future completed with the environment settings, or exceptionally if the request failed.
+     */
+    public CompletableFuture<Settings> getEnvironmentSettingsFuture() {
+        return inProgressFuture.thenApply(EnvironmentSettingsResponse::getEnvironmentSettings);
+    }
+
     public Settings getEnvironmentSettings() {
         return this.environmentSettings;
     }
@@ -22,6 +22,7 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionResponse;
 import org.opensearch.action.ActionType;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -30,8 +31,10 @@ import org.opensearch.extensions.action.ExtensionActionRequest;
 import org.opensearch.extensions.action.ExtensionActionResponse;
 import org.opensearch.extensions.action.RemoteExtensionActionResponse;
 import org.opensearch.sdk.SDKClient;
+import org.opensearch.sdk.SDKTask;
 import org.opensearch.sdk.SDKTransportService;
 import org.opensearch.sdk.action.RemoteExtensionActionRequest;
+import org.opensearch.tasks.TaskManager;
 
 /**
  * This class handles a request from OpenSearch from another extension's {@link SDKTransportService#sendRemoteExtensionActionRequest} call.
@@ -40,6 +43,7 @@ public class ExtensionActionRequestHandler {
     private static final Logger logger = LogManager.getLogger(ExtensionActionRequestHandler.class);
 
     private final SDKClient sdkClient;
+    private final TaskManager taskManager;
 
     /**
      * Instantiate this handler
@@ -47,7 +51,19 @@ public class ExtensionActionRequestHandler {
      * @param sdkClient An initialized SDKClient with the registered actions
      */
     public ExtensionActionRequestHandler(SDKClient sdkClient) {
+        this(sdkClient, null);
+    }
+
+    /**
+     * Instantiate this handler with an optional task manager. Requests are registered as {@link SDKTask}s with the task manager, and
+     * cancelled once OpenSearch stops waiting for their response.
+     *
+     * @param sdkClient An initialized SDKClient with the registered actions
+     * @param taskManager The task manager to register requests with, or null to not register them
+     */
+    public ExtensionActionRequestHandler(SDKClient sdkClient, @Nullable TaskManager taskManager) {
         this.sdkClient = sdkClient;
+        this.taskManager = taskManager;
     }
 
     /**
@@ -101,6 +117,43 @@ public class ExtensionActionRequestHandler {
         // TODO: We need async client.execute to hide these action listener details and return the future directly
         // https://github.com/opensearch-project/opensearch-sdk-java/issues/584
         CompletableFuture<RemoteExtensionActionResponse> futureResponse = new CompletableFuture<>();
+        SDKTask task = taskManager == null ? null : SDKTask.register(taskManager, "transport", action.name(), request.getAction());
+        try {
+            try (SDKTask.Scope scope = task == null ? () -> {} : task.enter()) {
+                execute(action, actionRequest, futureResponse);
+            }
+
+            logger.debug("Waiting for response to action [" + request.getAction() + "]");
+            try {
+                RemoteExtensionActionResponse actionResponse = futureResponse.orTimeout(
+                    ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT,
+                    TimeUnit.SECONDS
+                ).get();
+                response.setSuccess(true);
+                response.setResponseBytes(actionResponse.getResponseBytes());
+                logger.debug("Response successful to [" + request.getAction() + "]");
+            } catch (Exception e) {
+                response.setResponseBytesAsString("Action failed: " + e.getMessage());
+                logger.debug("Response failed to [" + request.getAction() + "]");
+                if (task != null) {
+                    // Nothing waits for the result any more, so any calls still in flight are cancelled
+                    taskManager.cancel(task, "Action failed: " + e.getMessage(), () -> {});
+                }
+            }
+        } finally {
+            if (task != null) {
+                taskManager.unregister(task);
+            }
+        }
+        logger.debug("Sending action response to OpenSearch: " + response.getResponseBytes().length + " bytes");
+        return response;
+    }
+
+    private void execute(
+        ActionType<? extends ActionResponse> action,
+        ActionRequest actionRequest,
+        CompletableFuture<RemoteExtensionActionResponse> futureResponse
+    ) {
         sdkClient.execute(action, actionRequest, ActionListener.wrap(r -> {
             byte[] bytes = new byte[0];
             try (BytesStreamOutput out = new BytesStreamOutput()) {
@@ -109,26 +162,8 @@ public class ExtensionActionRequestHandler {
             } catch (IOException e) {
                 throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
             }
-            response.setSuccess(true);
-            response.setResponseBytes(bytes);
-            futureResponse.complete(response);
+            futureResponse.complete(new RemoteExtensionActionResponse(true, bytes));
         }, e -> futureResponse.completeExceptionally(e)));
-
-        logger.debug("Waiting for response to action [" + request.getAction() + "]");
-        try {
-            RemoteExtensionActionResponse actionResponse = futureResponse.orTimeout(
-                ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT,
-                TimeUnit.SECONDS
-            ).get();
-            response.setSuccess(true);
-            response.setResponseBytes(actionResponse.getResponseBytes());
-            logger.debug("Response successful to [" + request.getAction() + "]");
-        } catch (Exception e) {
-            response.setResponseBytesAsString("Action failed: " + e.getMessage());
-            logger.debug("Response failed to [" + request.getAction() + "]");
-        }
-        logger.debug("Sending action response to OpenSearch: " + response.getResponseBytes().length + " bytes");
-        return response;
     }
 
     private static int indexOf(byte[] bytes, byte value) {
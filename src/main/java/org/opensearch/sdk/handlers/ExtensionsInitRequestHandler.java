@@ -9,12 +9,25 @@
 
 package org.opensearch.sdk.handlers;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 import org.apache.logging.log4j.LogManager;
 
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.discovery.InitializeExtensionRequest;
 import org.opensearch.discovery.InitializeExtensionResponse;
+import org.opensearch.extensions.AcknowledgedResponse;
+import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.sdk.ExtensionsRunner;
 import org.opensearch.sdk.SDKTransportService;
 import org.opensearch.transport.TransportService;
@@ -35,6 +48,8 @@ public class ExtensionsInitRequestHandler {
     private static final String HTTP_PORT_SETTING = "http.port";
 
     private final ExtensionsRunner extensionsRunner;
+    private final Map<String, TimeValue> phaseTimings = new ConcurrentHashMap<>();
+    private volatile CompletableFuture<Void> initializationFuture;
 
     /**
      * Instantiate this object with a reference to the ExtensionsRunner
@@ -66,32 +81,131 @@ public class ExtensionsInitRequestHandler {
         } finally {
             // After sending successful response to initialization, send the REST API and Settings
             extensionsRunner.setExtensionNode(extensionInitRequest.getExtension());
+            startHandshake(extensionInitRequest);
+        }
+    }
+
+    /**
+     * Gets a future completed once the extension is initialized, after OpenSearch acknowledged every registration and the environment
+     * settings were applied.
+     *
+     * @return The future of the last initialization handshake, or null if no initialization request was received.
+     */
+    @Nullable
+    public CompletableFuture<Void> getInitializationFuture() {
+        return initializationFuture;
+    }
+
+    /**
+     * Gets the time taken by each phase of the last initialization handshake, such as {@code register_rest_actions} or
+     * {@code apply_environment_settings}, with {@code total} the time until the extension was initialized.
+     *
+     * @return A map of the completed phases to their durations.
+     */
+    public Map<String, TimeValue> getPhaseTimings() {
+        return Collections.unmodifiableMap(new TreeMap<>(phaseTimings));
+    }
+
+    /**
+     * Runs the initialization handshake as a graph of futures. The registrations and the environment settings request do not depend
+     * on each other and are sent together, the environment settings are applied once received, and the extension is marked
+     * initialized once every request has completed.
+     */
+    private void startHandshake(InitializeExtensionRequest extensionInitRequest) {
+        long startNanos = System.nanoTime();
+        phaseTimings.clear();
+        SDKTransportService sdkTransportService = extensionsRunner.getSdkTransportService();
+        Executor executor = extensionsRunner.getThreadPool().generic();
 
+        timedStep("connect", () -> {
             TransportService extensionTransportService = sdkTransportService.getTransportService();
             extensionTransportService.connectToNodeAsExtension(
                 extensionInitRequest.getSourceNode(),
                 extensionInitRequest.getExtension().getId()
             );
-            sdkTransportService.sendRegisterRestActionsRequest(extensionsRunner.getExtensionRestPathRegistry());
-            sdkTransportService.sendRegisterCustomSettingsRequest(extensionsRunner.getCustomSettings());
-            sdkTransportService.sendRegisterTransportActionsRequest(extensionsRunner.getSdkActionModule().getActions());
-            // Get OpenSearch Settings and set values on ExtensionsRunner
-            Settings settings = sdkTransportService.sendEnvironmentSettingsRequest();
-            extensionsRunner.setEnvironmentSettings(settings);
-            extensionsRunner.updateNamedXContentRegistry();
-            extensionsRunner.updateSdkClusterService();
-            // Use OpenSearch Settings to update client REST Connections
-            String openSearchNodeAddress = extensionInitRequest.getSourceNode().getAddress().getAddress();
-            String openSearchNodeHttpPort = settings.get(HTTP_PORT_SETTING) != null ? settings.get(HTTP_PORT_SETTING) : DEFAULT_HTTP_PORT;
-            extensionsRunner.getSdkClient().updateOpenSearchNodeSettings(openSearchNodeAddress, openSearchNodeHttpPort);
-
-            // Last step of initialization
-            // TODO: make sure all the other sendX methods have completed
-            // https://github.com/opensearch-project/opensearch-sdk-java/issues/17
-            extensionsRunner.setInitialized();
-
-            // Trigger pending updates requiring completion of the above actions
-            extensionsRunner.getSdkClusterService().getClusterSettings().sendPendingSettingsUpdateConsumers();
+        });
+        CompletableFuture<?> restActions = acknowledged(
+            "register_rest_actions",
+            () -> sdkTransportService.sendRegisterRestActionsRequest(extensionsRunner.getExtensionRestPathRegistry())
+        );
+        CompletableFuture<?> customSettings = acknowledged(
+            "register_custom_settings",
+            () -> sdkTransportService.sendRegisterCustomSettingsRequest(extensionsRunner.getCustomSettings())
+        );
+        CompletableFuture<?> transportActions = acknowledged(
+            "register_transport_actions",
+            () -> sdkTransportService.sendRegisterTransportActionsRequest(extensionsRunner.getSdkActionModule().getActions())
+        );
+        // Get OpenSearch Settings and set values on ExtensionsRunner
+        CompletableFuture<Settings> environmentSettingsRequest = timed(
+            "environment_settings",
+            sdkTransportService::sendEnvironmentSettingsRequestAsync
+        );
+        CompletableFuture<Void> environmentSettings = environmentSettingsRequest.exceptionally(e -> {
+            logger.error("Failed to receive Environment Settings response from OpenSearch", e);
+            return Settings.EMPTY;
+        })
+            .thenAcceptAsync(
+                settings -> timedStep("apply_environment_settings", () -> applyEnvironmentSettings(extensionInitRequest, settings)),
+                executor
+            );
+
+        this.initializationFuture = CompletableFuture.allOf(restActions, customSettings, transportActions, environmentSettings)
+            .thenRunAsync(() -> {
+                // Last step of initialization
+                extensionsRunner.setInitialized();
+                phaseTimings.put("total", TimeValue.timeValueNanos(System.nanoTime() - startNanos));
+                logger.info("Extension initialized with phase timings {}", getPhaseTimings());
+
+                // Trigger pending updates requiring completion of the above actions
+                extensionsRunner.getSdkClusterService().getClusterSettings().sendPendingSettingsUpdateConsumers();
+                extensionsRunner.getSdkClusterService().startMappingCache();
+            }, executor)
+            .whenComplete((r, e) -> {
+                if (e != null) {
+                    logger.error("Extension initialization failed", e);
+                }
+            });
+    }
+
+    private void applyEnvironmentSettings(InitializeExtensionRequest extensionInitRequest, Settings settings) {
+        extensionsRunner.setEnvironmentSettings(settings);
+        extensionsRunner.updateNamedXContentRegistry();
+        extensionsRunner.updateSdkClusterService();
+        // Use OpenSearch Settings to update client REST Connections
+        String openSearchNodeAddress = extensionInitRequest.getSourceNode().getAddress().getAddress();
+        String openSearchNodeHttpPort = settings.get(HTTP_PORT_SETTING) != null ? settings.get(HTTP_PORT_SETTING) : DEFAULT_HTTP_PORT;
+        extensionsRunner.getSdkClient().updateOpenSearchNodeSettings(openSearchNodeAddress, openSearchNodeHttpPort);
+    }
+
+    /**
+     * Sends a registration request and waits for its acknowledgement. A failed or rejected registration is logged but does not prevent
+     * initialization, so that the extension still serves the requests which were registered.
+     */
+    private CompletableFuture<Void> acknowledged(String phase, Supplier<CompletableFuture<AcknowledgedResponse>> request) {
+        return timed(phase, request).handle((response, e) -> {
+            if (e != null) {
+                logger.error("Initialization phase [" + phase + "] failed", e);
+            } else if (!response.getStatus()) {
+                logger.warn("Initialization phase [{}] was not acknowledged by OpenSearch", phase);
+            }
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> timed(String phase, Supplier<CompletableFuture<T>> request) {
+        long startNanos = System.nanoTime();
+        return request.get()
+            .orTimeout(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS)
+            .whenComplete((r, e) -> phaseTimings.put(phase, TimeValue.timeValueNanos(System.nanoTime() - startNanos)));
+    }
+
+    private void timedStep(String phase, Runnable step) {
+        long startNanos = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            phaseTimings.put(phase, TimeValue.timeValueNanos(System.nanoTime() - startNanos));
         }
     }
 }
@@ -11,22 +11,37 @@ package org.opensearch.sdk.handlers;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.extensions.rest.ExtensionRestRequest;
 import org.opensearch.extensions.rest.ExtensionRestResponse;
 import org.opensearch.extensions.rest.RestExecuteOnExtensionResponse;
 import org.opensearch.sdk.ExtensionsRunner;
 import org.opensearch.sdk.SDKNamedXContentRegistry;
+import org.opensearch.sdk.SDKTask;
 import org.opensearch.sdk.rest.ExtensionRestHandler;
 import org.opensearch.sdk.rest.ExtensionRestPathRegistry;
+import org.opensearch.sdk.rest.ExtensionRestRateLimiter;
+import org.opensearch.sdk.rest.ExtensionRestResponseCompressor;
 import org.opensearch.sdk.rest.SDKHttpRequest;
 import org.opensearch.sdk.rest.SDKRestRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptyList;
 import static org.opensearch.rest.BytesRestResponse.TEXT_CONTENT_TYPE;
 import static org.opensearch.core.rest.RestStatus.NOT_FOUND;
+import static org.opensearch.core.rest.RestStatus.TOO_MANY_REQUESTS;
 
 /**
  * This class handles the request from OpenSearch to a {@link ExtensionsRunner#startTransportService(TransportService transportService)} call.
@@ -36,6 +51,10 @@ public class ExtensionsRestRequestHandler {
     private static final Logger logger = LogManager.getLogger(ExtensionsRestRequestHandler.class);
     private final ExtensionRestPathRegistry extensionRestPathRegistry;
     private final SDKNamedXContentRegistry sdkNamedXContentRegistry;
+    private final ExtensionRestResponseCompressor responseCompressor;
+    private final ExtensionRestRateLimiter rateLimiter;
+    private final TaskManager taskManager;
+    private final ThreadPool threadPool;
 
     /**
      * Instantiate this class with an existing registry
@@ -44,8 +63,70 @@ public class ExtensionsRestRequestHandler {
      * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
      */
     public ExtensionsRestRequestHandler(ExtensionRestPathRegistry restPathRegistry, SDKNamedXContentRegistry sdkNamedXContentRegistry) {
+        this(restPathRegistry, sdkNamedXContentRegistry, null);
+    }
+
+    /**
+     * Instantiate this class with an existing registry and an optional response compressor
+     *
+     * @param restPathRegistry The ExtensionsRunnerer's REST path registry
+     * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
+     * @param responseCompressor The compressor to apply to response content, or null to send responses uncompressed
+     */
+    public ExtensionsRestRequestHandler(
+        ExtensionRestPathRegistry restPathRegistry,
+        SDKNamedXContentRegistry sdkNamedXContentRegistry,
+        @Nullable ExtensionRestResponseCompressor responseCompressor
+    ) {
+        this(restPathRegistry, sdkNamedXContentRegistry, responseCompressor, null);
+    }
+
+    /**
+     * Instantiate this class with an existing registry, an optional response compressor and an optional rate limiter
+     *
+     * @param restPathRegistry The ExtensionsRunnerer's REST path registry
+     * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
+     * @param responseCompressor The compressor to apply to response content, or null to send responses uncompressed
+     * @param rateLimiter The limiter to apply to named routes, or null to not throttle requests
+     */
+    public ExtensionsRestRequestHandler(
+        ExtensionRestPathRegistry restPathRegistry,
+        SDKNamedXContentRegistry sdkNamedXContentRegistry,
+        @Nullable ExtensionRestResponseCompressor responseCompressor,
+        @Nullable ExtensionRestRateLimiter rateLimiter
+    ) {
+        this(restPathRegistry, sdkNamedXContentRegistry, responseCompressor, rateLimiter, null, null);
+    }
+
+    /**
+     * Instantiate this class with an existing registry, an optional response compressor, an optional rate limiter and an optional
+     * task manager. Requests are registered as {@link SDKTask}s with the task manager, and cancelled once OpenSearch stops waiting
+     * for their response.
+     *
+     * @param restPathRegistry The ExtensionsRunnerer's REST path registry
+     * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
+     * @param responseCompressor The compressor to apply to response content, or null to send responses uncompressed
+     * @param rateLimiter The limiter to apply to named routes, or null to not throttle requests
+     * @param taskManager The task manager to register requests with, or null to not register them
+     * @param threadPool The thread pool scheduling the cancellation of requests, required if the task manager is set
+     */
+    public ExtensionsRestRequestHandler(
+        ExtensionRestPathRegistry restPathRegistry,
+        SDKNamedXContentRegistry sdkNamedXContentRegistry,
+        @Nullable ExtensionRestResponseCompressor responseCompressor,
+        @Nullable ExtensionRestRateLimiter rateLimiter,
+        @Nullable TaskManager taskManager,
+        @Nullable ThreadPool threadPool
+    ) {
+        if (taskManager != null && threadPool == null) {
+            throw new IllegalArgumentException("A thread pool is required to cancel registered requests");
+        }
         this.sdkNamedXContentRegistry = sdkNamedXContentRegistry;
         this.extensionRestPathRegistry = restPathRegistry;
+        this.responseCompressor = responseCompressor;
+        this.rateLimiter = rateLimiter;
+        this.taskManager = taskManager;
+        this.threadPool = threadPool;
     }
 
     /**
@@ -68,6 +149,22 @@ public class ExtensionsRestRequestHandler {
             );
         }
 
+        if (rateLimiter != null) {
+            String routeName = extensionRestPathRegistry.getRouteName(request.method(), request.path());
+            if (!rateLimiter.tryAcquire(routeName, request.headers())) {
+                logger.debug("Rate limit exceeded for route [" + routeName + "]");
+                // Mark everything consumed so OpenSearch reports the rejection rather than unrecognized parameters
+                return new RestExecuteOnExtensionResponse(
+                    TOO_MANY_REQUESTS,
+                    TEXT_CONTENT_TYPE,
+                    String.join(" ", "Rate limit exceeded for", request.method().name(), request.path()).getBytes(UTF_8),
+                    Map.of("Retry-After", List.of(Long.toString(rateLimiter.retryAfterSeconds(routeName)))),
+                    new ArrayList<>(request.params().keySet()),
+                    true
+                );
+            }
+        }
+
         SDKRestRequest sdkRestRequest = new SDKRestRequest(
             sdkNamedXContentRegistry.getRegistry(),
             request.params(),
@@ -78,16 +175,40 @@ public class ExtensionsRestRequestHandler {
         );
 
         // Get response from extension
-        ExtensionRestResponse response = restHandler.handleRequest(sdkRestRequest);
+        ExtensionRestResponse response = taskManager == null
+            ? restHandler.handleRequest(sdkRestRequest)
+            : handleRequestInTask(restHandler, sdkRestRequest, request.method().name() + " " + request.path());
         logger.info("Sending extension response to OpenSearch: " + response.status());
+        byte[] content = BytesReference.toBytes(response.content());
+        Map<String, List<String>> headers = response.getHeaders();
+        if (responseCompressor != null) {
+            headers = new HashMap<>(headers);
+            content = responseCompressor.maybeCompress(request.headers(), response.status(), headers, content);
+        }
         return new RestExecuteOnExtensionResponse(
             response.status(),
             response.contentType(),
-            BytesReference.toBytes(response.content()),
-            response.getHeaders(),
+            content,
+            headers,
             response.getConsumedParams(),
             response.isContentConsumed()
         );
     }
 
+    private ExtensionRestResponse handleRequestInTask(ExtensionRestHandler restHandler, SDKRestRequest request, String description) {
+        SDKTask task = SDKTask.register(taskManager, "rest", description, description);
+        // OpenSearch responds with an error after this timeout, so any calls still in flight are cancelled
+        Scheduler.ScheduledCancellable timeout = threadPool.schedule(
+            () -> taskManager.cancel(task, "OpenSearch stopped waiting for the response", () -> {}),
+            TimeValue.timeValueSeconds(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT),
+            ThreadPool.Names.GENERIC
+        );
+        try (SDKTask.Scope scope = task.enter()) {
+            return restHandler.handleRequest(request);
+        } finally {
+            timeout.cancel();
+            taskManager.unregister(task);
+        }
+    }
+
 }
@@ -9,35 +9,41 @@
 
 package org.opensearch.sdk.handlers;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Setting;
-import org.opensearch.common.settings.WriteableSetting;
-import org.opensearch.core.common.unit.ByteSizeValue;
-import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.extensions.AcknowledgedResponse;
 import org.opensearch.extensions.UpdateSettingsRequest;
 
 /**
  * Handles requests to update settings
+ * <p>
+ * Registered consumers are held in an immutable dispatch table of typed updaters, which registration replaces as a whole, so that
+ * transport threads handling updates read it without locking. The latest value of each updated setting is kept in a snapshot which
+ * is likewise replaced as a whole, so that readers of {@link #getUpdatedValue(Setting)} always see values from completed updates.
  */
 public class UpdateSettingsRequestHandler {
 
     private static final Logger logger = LogManager.getLogger(UpdateSettingsRequestHandler.class);
 
-    private Map<Setting<?>, Consumer<?>> settingUpdateConsumers;
+    private volatile Map<Setting<?>, SettingUpdater<?>> settingUpdaters = Collections.emptyMap();
+    private volatile Map<Setting<?>, Object> updatedValues = Collections.emptyMap();
 
     /**
      * Instantiates a new Update Setting Request Handler
      */
-    public UpdateSettingsRequestHandler() {
-        this.settingUpdateConsumers = new HashMap<>();
-    }
+    public UpdateSettingsRequestHandler() {}
 
     /**
      * Registers the component {@link Setting} and the corresponding consumer to the settingsUpdateConsumer map.
@@ -45,8 +51,25 @@ public class UpdateSettingsRequestHandler {
      *
      * @param settingUpdateConsumers The settings and their corresponding update consumers to register
      */
-    public void registerSettingUpdateConsumer(Map<Setting<?>, Consumer<?>> settingUpdateConsumers) {
-        this.settingUpdateConsumers.putAll(settingUpdateConsumers);
+    public synchronized void registerSettingUpdateConsumer(Map<Setting<?>, Consumer<?>> settingUpdateConsumers) {
+        Map<Setting<?>, SettingUpdater<?>> updaters = new HashMap<>(this.settingUpdaters);
+        for (Map.Entry<Setting<?>, Consumer<?>> entry : settingUpdateConsumers.entrySet()) {
+            updaters.put(entry.getKey(), updaterOf(entry.getKey(), entry.getValue()));
+        }
+        this.settingUpdaters = Collections.unmodifiableMap(updaters);
+    }
+
+    /**
+     * Gets the latest value of a setting received from OpenSearch.
+     *
+     * @param <T> The type of the setting.
+     * @param setting The setting.
+     * @return The value of the last successful update of the setting, or null if it was not updated since the extension started.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T getUpdatedValue(Setting<T> setting) {
+        return (T) updatedValues.get(setting);
     }
 
     /**
@@ -55,58 +78,125 @@ public class UpdateSettingsRequestHandler {
      * @param updateSettingsRequest  The request to handle.
      * @return A response acknowledging the request.
      */
-    @SuppressWarnings("unchecked")
     public AcknowledgedResponse handleUpdateSettingsRequest(UpdateSettingsRequest updateSettingsRequest) {
+        return handleUpdateSettingsRequests(List.of(updateSettingsRequest));
+    }
 
-        logger.info("Registering UpdateSettingsRequest received from OpenSearch");
+    /**
+     * Handles a batch of setting updates from OpenSearch in one pass. All values are converted before any is applied, so an invalid
+     * value or unregistered setting rejects the whole batch. The values are then published in a single snapshot and the consumer of
+     * each setting is invoked once, with the last value sent for it.
+     *
+     * @param updateSettingsRequests  The setting updates to apply.
+     * @return A response acknowledging the updates if every consumer accepted its value.
+     */
+    public AcknowledgedResponse handleUpdateSettingsRequests(List<UpdateSettingsRequest> updateSettingsRequests) {
+
+        logger.info("Registering {} UpdateSettingsRequest(s) received from OpenSearch", updateSettingsRequests.size());
+
+        Map<Setting<?>, SettingUpdater<?>> updaters = this.settingUpdaters;
+        Map<Setting<?>, ParsedUpdate> updates = new LinkedHashMap<>();
+        for (UpdateSettingsRequest updateSettingsRequest : updateSettingsRequests) {
+            Setting<?> componentSetting = updateSettingsRequest.getComponentSetting();
+            SettingUpdater<?> updater = updaters.get(componentSetting);
+            if (updater == null) {
+                logger.info("No setting update consumer is registered for setting [{}]", componentSetting.getKey());
+                return new AcknowledgedResponse(false);
+            }
+            // Setting updater in OpenSearch performs setting change validation, only need to convert the value to the setting's type
+            try {
+                updates.put(componentSetting, updater.parse(updateSettingsRequest.getData()));
+            } catch (Exception e) {
+                logger.info(e.getMessage());
+                return new AcknowledgedResponse(false);
+            }
+        }
+        putUpdatedValues(updates.values());
 
         boolean settingUpdateStatus = true;
+        for (ParsedUpdate update : updates.values()) {
+            try {
+                update.apply.run();
+            } catch (Exception e) {
+                logger.info(e.getMessage());
+                settingUpdateStatus = false;
+            }
+        }
+        return new AcknowledgedResponse(settingUpdateStatus);
+    }
 
-        WriteableSetting.SettingType settingType = updateSettingsRequest.getSettingType();
-        Setting<?> componentSetting = updateSettingsRequest.getComponentSetting();
-        Object data = updateSettingsRequest.getData();
+    @SuppressWarnings("unchecked")
+    private <T> SettingUpdater<T> updaterOf(Setting<T> setting, Consumer<?> consumer) {
+        return new SettingUpdater<>(setting, (Consumer<T>) consumer);
+    }
 
-        // Setting updater in OpenSearch performs setting change validation, only need to cast the consumer to the corresponding type and
-        // invoke the consumer
-        try {
-            switch (settingType) {
-                case Boolean:
-                    Consumer<Boolean> boolConsumer = (Consumer<Boolean>) this.settingUpdateConsumers.get(componentSetting);
-                    boolConsumer.accept(Boolean.parseBoolean(data.toString()));
-                case Integer:
-                    Consumer<Integer> intConsumer = (Consumer<Integer>) this.settingUpdateConsumers.get(componentSetting);
-                    intConsumer.accept(Integer.parseInt(data.toString()));
-                case Long:
-                    Consumer<Long> longConsumer = (Consumer<Long>) this.settingUpdateConsumers.get(componentSetting);
-                    longConsumer.accept(Long.parseLong(data.toString()));
-                case Float:
-                    Consumer<Float> floatConsumer = (Consumer<Float>) this.settingUpdateConsumers.get(componentSetting);
-                    floatConsumer.accept(Float.parseFloat(data.toString()));
-                case Double:
-                    Consumer<Double> doubleConsumer = (Consumer<Double>) this.settingUpdateConsumers.get(componentSetting);
-                    doubleConsumer.accept(Double.parseDouble(data.toString()));
-                case String:
-                    Consumer<String> stringConsumer = (Consumer<String>) this.settingUpdateConsumers.get(componentSetting);
-                    stringConsumer.accept(data.toString());
-                case TimeValue:
-                    Consumer<TimeValue> timeValueConsumer = (Consumer<TimeValue>) this.settingUpdateConsumers.get(componentSetting);
-                    timeValueConsumer.accept(TimeValue.parseTimeValue(data.toString(), componentSetting.getKey()));
-                case ByteSizeValue:
-                    Consumer<ByteSizeValue> byteSizeValueConsumer = (Consumer<ByteSizeValue>) this.settingUpdateConsumers.get(
-                        componentSetting
-                    );
-                    byteSizeValueConsumer.accept(ByteSizeValue.parseBytesSizeValue(data.toString(), componentSetting.getKey()));
-                case Version:
-                    Consumer<Version> versionConsumer = (Consumer<Version>) this.settingUpdateConsumers.get(componentSetting);
-                    versionConsumer.accept((Version) data);
-                default:
-                    throw new UnsupportedOperationException("Setting Update Consumer type does not exist and is not handled here");
+    private synchronized void putUpdatedValues(Collection<ParsedUpdate> updates) {
+        Map<Setting<?>, Object> values = new HashMap<>(this.updatedValues);
+        for (ParsedUpdate update : updates) {
+            values.put(update.setting, update.value);
+        }
+        this.updatedValues = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Converts updated values of a setting to its type and passes them to its consumer.
+     *
+     * @param <T> The type of the setting.
+     */
+    private final class SettingUpdater<T> {
+        private final Setting<T> setting;
+        private final Consumer<T> consumer;
+        @Nullable
+        private final Class<?> type;
+
+        private SettingUpdater(Setting<T> setting, Consumer<T> consumer) {
+            this.setting = setting;
+            this.consumer = consumer;
+            this.type = typeOf(setting);
+        }
+
+        ParsedUpdate parse(Object data) {
+            T value = convert(data);
+            return new ParsedUpdate(setting, value, () -> consumer.accept(value));
+        }
+
+        @SuppressWarnings("unchecked")
+        private T convert(Object data) {
+            if (data == null) {
+                throw new IllegalArgumentException("No value was sent for setting [" + setting.getKey() + "]");
             }
-        } catch (Exception e) {
-            logger.info(e.getMessage());
-            settingUpdateStatus = false;
+            // Values arrive already deserialized to their type, so they are only parsed by the setting if the types differ
+            if (type != null && type.isInstance(data)) {
+                return (T) data;
+            }
+            String value = data instanceof Version ? Integer.toString(((Version) data).id) : data.toString();
+            return setting.get(Settings.builder().put(setting.getKey(), value).build());
         }
+    }
 
-        return new AcknowledgedResponse(settingUpdateStatus);
+    /**
+     * A setting value converted to the setting's type, with the action passing it to the setting's consumer.
+     */
+    private static final class ParsedUpdate {
+        private final Setting<?> setting;
+        private final Object value;
+        private final Runnable apply;
+
+        private ParsedUpdate(Setting<?> setting, Object value, Runnable apply) {
+            this.setting = setting;
+            this.value = value;
+            this.apply = apply;
+        }
+    }
+
+    @Nullable
+    private static Class<?> typeOf(Setting<?> setting) {
+        try {
+            Object defaultValue = setting.getDefault(Settings.EMPTY);
+            return defaultValue == null ? null : defaultValue.getClass();
+        } catch (Exception e) {
+            // Some defaults depend on other settings, in which case values are always parsed
+            return null;
+        }
     }
 }
@@ -25,6 +25,8 @@ import java.util.function.Function;
 import static org.apache.hc.core5.http.ContentType.APPLICATION_JSON;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.Strings;
@@ -107,6 +109,27 @@ public abstract class BaseExtensionRestHandler implements ExtensionRestHandler {
         return routeNamePrefix + ":" + routeName;
     }
 
+    /**
+     * Returns the cache used for responses to GET requests on this handler's routes. Override this in a subclass to return a cache
+     * instance held by the handler to enable response caching.
+     *
+     * @return the response cache, or null (the default) if responses are not cached.
+     */
+    protected ExtensionRestResponseCache responseCache() {
+        return null;
+    }
+
+    /**
+     * Determines whether responses to GET requests on a route may be cached when a {@link #responseCache()} is configured. Override
+     * this in a subclass to exclude routes whose responses are not idempotent.
+     *
+     * @param route The route handling the request.
+     * @return true (the default) if the route's responses may be cached.
+     */
+    protected boolean isCacheable(NamedRoute route) {
+        return true;
+    }
+
     @Override
     public List<ReplacedRoute> replacedRoutes() {
         return List.copyOf(replacedRouteHandlers());
@@ -119,6 +142,10 @@ public abstract class BaseExtensionRestHandler implements ExtensionRestHandler {
             .filter(rh -> restPathMatches(request.path(), rh.getPath()))
             .findFirst();
         if (route.isPresent() && route.get().handler() != null) {
+            ExtensionRestResponseCache cache = responseCache();
+            if (cache != null && request.method() == Method.GET && isCacheable(route.get())) {
+                return cache.getOrCompute(route.get().name(), request, route.get().handler());
+            }
             return (ExtensionRestResponse) route.get().handler().apply(request);
         }
         Optional<DeprecatedRouteHandler> deprecatedHandler = deprecatedRouteHandlers().stream()
@@ -239,6 +266,31 @@ public abstract class BaseExtensionRestHandler implements ExtensionRestHandler {
         return BaseRestHandler.unrecognizedStrings(request, invalids, candidates, detail);
     }
 
+    /**
+     * Returns a response containing all hits of a search as newline-delimited JSON, paged through with a point in time.
+     * <p>
+     * The hits are written to paged buffers as each page arrives rather than being collected as search responses, but the full
+     * body is held in memory because the extension transport sends each REST response to OpenSearch as a single message. Use
+     * {@link NdJsonSearchExporter#export(SearchRequest, java.io.OutputStream)} directly to stream to other destinations.
+     *
+     * @param request The request to respond to
+     * @param exporter The exporter to page through the search results
+     * @param searchRequest The search to export, which must define a sort with a unique tiebreaker
+     * @return an ExtensionRestResponse with the exported hits, or an error response if the export failed
+     */
+    protected ExtensionRestResponse createNdJsonExportResponse(
+        RestRequest request,
+        NdJsonSearchExporter exporter,
+        SearchRequest searchRequest
+    ) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            exporter.export(searchRequest, out);
+            return new ExtensionRestResponse(request, RestStatus.OK, NdJsonSearchExporter.NDJSON_CONTENT_TYPE, out.bytes());
+        } catch (Exception e) {
+            return exceptionalRequest(request, e);
+        }
+    }
+
     /**
     * Creates a new plain text response with OK status and empty JSON content
     *
@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.rest.RestRequest;
+
+/**
+ * Iterates over the lines of newline-delimited request content, such as a bulk-style NDJSON upload, without copying it.
+ * <p>
+ * Each line is returned as a slice of the original content, and empty lines are skipped. Use {@link #forEachParser} to parse each line
+ * incrementally rather than materializing the whole body as a map.
+ */
+public class ContentLineIterator implements Iterator<BytesReference> {
+
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final BytesReference content;
+    private int position = 0;
+    private BytesReference next;
+
+    /**
+     * Instantiate this iterator.
+     *
+     * @param content The newline-delimited content.
+     */
+    public ContentLineIterator(BytesReference content) {
+        this.content = content;
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public BytesReference next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        BytesReference line = next;
+        advance();
+        return line;
+    }
+
+    private void advance() {
+        next = null;
+        int length = content.length();
+        while (next == null && position < length) {
+            int end = content.indexOf(NEWLINE, position);
+            if (end < 0) {
+                end = length;
+            }
+            int lineEnd = end;
+            if (lineEnd > position && content.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                lineEnd--;
+            }
+            if (lineEnd > position) {
+                next = content.slice(position, lineEnd - position);
+            }
+            position = end + 1;
+        }
+    }
+
+    /**
+     * Parses each line of a request's content in turn, passing a parser positioned before the first token of the line to the consumer.
+     * <p>
+     * The content is parsed using the media type of the request, or JSON if the request has none. Each parser is closed after the
+     * consumer returns.
+     *
+     * @param request The request whose content to parse.
+     * @param consumer The consumer of each line's parser.
+     * @throws IOException if a line could not be parsed.
+     */
+    public static void forEachParser(RestRequest request, CheckedConsumer<XContentParser, IOException> consumer) throws IOException {
+        MediaType mediaType = request.getMediaType() == null ? XContentType.JSON : request.getMediaType();
+        ContentLineIterator lines = new ContentLineIterator(request.content());
+        while (lines.hasNext()) {
+            try (
+                XContentParser parser = mediaType.xContent()
+                    .createParser(request.getXContentRegistry(), LoggingDeprecationHandler.INSTANCE, lines.next().streamInput())
+            ) {
+                consumer.accept(parser);
+            }
+        }
+    }
+}
@@ -82,8 +82,8 @@ public class ExtensionRestPathRegistry {
     ) {
         pathTrie.insertOrUpdate(
             path,
-            new SDKMethodHandlers(path, extensionRestHandler, method),
-            (mHandlers, newMHandler) -> mHandlers.addMethods(extensionRestHandler, method)
+            new SDKMethodHandlers(path, extensionRestHandler, name, method),
+            (mHandlers, newMHandler) -> mHandlers.addMethods(extensionRestHandler, name, method)
         );
         if (extensionRestHandler instanceof ExtensionDeprecationRestHandler) {
             registeredDeprecatedPaths.add(restPathToString(method, path, name, actionNames));
@@ -165,6 +165,19 @@ public class ExtensionRestPathRegistry {
         return mHandlers == null ? null : mHandlers.getHandler(method);
     }
 
+    /**
+     * Get the name of the registered route for the specified method and path.
+     *
+     * @param method  the registered method.
+     * @param path  the registered path.
+     * @return The name of the route registered to handle this method and path combination if found and named, null otherwise.
+     */
+    @Nullable
+    public String getRouteName(Method method, String path) {
+        SDKMethodHandlers mHandlers = pathTrie.retrieve(path);
+        return mHandlers == null ? null : mHandlers.getRouteName(method);
+    }
+
     /**
      * List the registered routes.
      *
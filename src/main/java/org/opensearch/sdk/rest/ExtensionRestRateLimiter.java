@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.core.common.Strings;
+
+/**
+ * Limits the rate of requests to extension REST routes using a token bucket per route name and, optionally, per client.
+ * <p>
+ * Limits are expressed as a comma-separated list of {@code route_name=permits_per_second} or
+ * {@code route_name=permits_per_second:burst} entries, for example {@code hello_world=100:20,greet_with_name=10}. Routes without a limit
+ * are not throttled. When a client header is configured, each distinct value of that header has its own bucket for each route.
+ * <p>
+ * Each bucket holds a single atomic timestamp updated with compare-and-set (the generic cell rate algorithm), and buckets are held in a
+ * {@link ConcurrentHashMap}, so acquiring a permit never blocks and requests for different routes or clients do not contend.
+ */
+public class ExtensionRestRateLimiter {
+
+    /**
+     * A dynamic setting holding the per-route limits. Include this setting in {@code Extension.getSettings()} to update limits at
+     * runtime.
+     */
+    public static final Setting<String> REST_RATE_LIMITS_SETTING = Setting.simpleString(
+        "extension.rest.rate_limits",
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of client buckets kept per route. Idle buckets are removed when this is exceeded, and clients beyond it
+     * share a single bucket for the route until space is available.
+     */
+    static final int MAX_CLIENTS_PER_ROUTE = 10_000;
+
+    private static final String SHARED_CLIENT = "";
+
+    private final String clientHeader;
+    private final LongSupplier nanoTime;
+    private volatile Map<String, Limit> limits = Collections.emptyMap();
+    private final Map<String, Map<String, Bucket>> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate this rate limiter with no limits.
+     *
+     * @param clientHeader The name of a request header identifying the client, or null to share each route's bucket across clients.
+     */
+    public ExtensionRestRateLimiter(@Nullable String clientHeader) {
+        this(clientHeader, System::nanoTime);
+    }
+
+    ExtensionRestRateLimiter(@Nullable String clientHeader, LongSupplier nanoTime) {
+        this.clientHeader = Strings.isNullOrEmpty(clientHeader) ? null : clientHeader;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Replaces all limits. Buckets for routes whose limit is removed are discarded.
+     *
+     * @param limitsSpec The limits, in the format described in the class documentation. A null or empty value removes all limits.
+     * @throws IllegalArgumentException if the limits could not be parsed.
+     */
+    public void setLimits(@Nullable String limitsSpec) {
+        Map<String, Limit> parsed = parseLimits(limitsSpec);
+        this.limits = parsed;
+        buckets.keySet().retainAll(parsed.keySet());
+    }
+
+    /**
+     * Attempts to acquire a permit for a request to a route.
+     *
+     * @param routeName The name of the route, or null if the route is unnamed.
+     * @param headers The headers of the request, used to identify the client.
+     * @return true if the request may proceed, false if it exceeds the limit.
+     */
+    public boolean tryAcquire(@Nullable String routeName, Map<String, List<String>> headers) {
+        if (routeName == null) {
+            return true;
+        }
+        Limit limit = limits.get(routeName);
+        if (limit == null) {
+            return true;
+        }
+        Map<String, Bucket> routeBuckets = buckets.computeIfAbsent(routeName, k -> new ConcurrentHashMap<>());
+        long now = nanoTime.getAsLong();
+        return getBucket(routeBuckets, clientKey(headers), now).tryAcquire(limit, now);
+    }
+
+    /**
+     * Returns the number of whole seconds a client should wait before retrying a rejected request to a route.
+     *
+     * @param routeName The name of the route.
+     * @return The suggested delay in seconds, at least 1.
+     */
+    public long retryAfterSeconds(String routeName) {
+        Limit limit = limits.get(routeName);
+        return limit == null ? 1 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(limit.emissionIntervalNanos));
+    }
+
+    private Bucket getBucket(Map<String, Bucket> routeBuckets, String client, long now) {
+        Bucket bucket = routeBuckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (routeBuckets.size() >= MAX_CLIENTS_PER_ROUTE) {
+            // A bucket which has refilled completely is equivalent to a new one and can be dropped
+            routeBuckets.values().removeIf(b -> b.isIdle(now));
+            if (routeBuckets.size() >= MAX_CLIENTS_PER_ROUTE) {
+                client = SHARED_CLIENT;
+            }
+        }
+        return routeBuckets.computeIfAbsent(client, k -> new Bucket(now));
+    }
+
+    private String clientKey(Map<String, List<String>> headers) {
+        if (clientHeader == null || headers == null) {
+            return SHARED_CLIENT;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (clientHeader.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return SHARED_CLIENT;
+    }
+
+    /**
+     * Parses limits in the format described in the class documentation.
+     *
+     * @param limitsSpec The limits to parse.
+     * @return A map of route name to limit.
+     */
+    static Map<String, Limit> parseLimits(@Nullable String limitsSpec) {
+        if (Strings.isNullOrEmpty(limitsSpec) || limitsSpec.isBlank()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Limit> parsed = new HashMap<>();
+        for (String entry : limitsSpec.split(",")) {
+            int eq = entry.lastIndexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException(
+                    "Invalid REST rate limit [" + entry + "], expected route_name=permits_per_second[:burst]"
+                );
+            }
+            String routeName = entry.substring(0, eq).trim();
+            String[] rate = entry.substring(eq + 1).trim().split(":");
+            try {
+                double permitsPerSecond = Double.parseDouble(rate[0]);
+                int burst = rate.length > 1 ? Integer.parseInt(rate[1]) : Math.max(1, (int) Math.ceil(permitsPerSecond));
+                parsed.put(routeName, new Limit(permitsPerSecond, burst));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid REST rate limit [" + entry + "]", e);
+            }
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+
+    /**
+     * The rate and burst size of a route's limit.
+     */
+    static final class Limit {
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+
+        Limit(double permitsPerSecond, int burst) {
+            if (!(permitsPerSecond > 0) || burst < 1) {
+                throw new IllegalArgumentException("Rate limit permits and burst must be positive");
+            }
+            this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+            this.burstToleranceNanos = emissionIntervalNanos * burst;
+        }
+    }
+
+    /**
+     * A token bucket represented by the theoretical arrival time of the next request.
+     */
+    private static final class Bucket {
+        private final AtomicLong theoreticalArrivalTime;
+
+        Bucket(long now) {
+            this.theoreticalArrivalTime = new AtomicLong(now);
+        }
+
+        boolean tryAcquire(Limit limit, long now) {
+            while (true) {
+                long tat = theoreticalArrivalTime.get();
+                long newTat = Math.max(tat, now) + limit.emissionIntervalNanos;
+                if (newTat - now > limit.burstToleranceNanos) {
+                    return false;
+                }
+                if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            return theoreticalArrivalTime.get() <= now;
+        }
+    }
+}
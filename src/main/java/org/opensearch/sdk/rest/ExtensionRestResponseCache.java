@@ -0,0 +1,294 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+
+/**
+ * A bounded, expiring cache of responses to idempotent GET requests handled by an {@link ExtensionRestHandler}.
+ * <p>
+ * Entries are keyed by route name, method, path, parameters and a configurable set of request headers. Cached responses carry an
+ * {@code ETag} header; requests whose {@code If-None-Match} header matches the cached entry receive a {@code 304 Not Modified} response
+ * without executing the handler. Least recently used entries are evicted when the cache is full.
+ * <p>
+ * Enable caching for a {@link BaseExtensionRestHandler} by overriding {@link BaseExtensionRestHandler#responseCache()}.
+ */
+public class ExtensionRestResponseCache {
+
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+
+    private final Cache<CacheKey, CachedResponse> cache;
+    private final List<String> keyHeaders;
+
+    /**
+     * Instantiate this cache.
+     *
+     * @param timeToLive The time after which an entry expires.
+     * @param maxEntries The maximum number of cached responses.
+     */
+    public ExtensionRestResponseCache(TimeValue timeToLive, int maxEntries) {
+        this(timeToLive, maxEntries, Collections.emptyList());
+    }
+
+    /**
+     * Instantiate this cache.
+     *
+     * @param timeToLive The time after which an entry expires.
+     * @param maxEntries The maximum number of cached responses.
+     * @param keyHeaders The names of request headers whose values distinguish cached responses, e.g., {@code Accept}.
+     */
+    public ExtensionRestResponseCache(TimeValue timeToLive, int maxEntries, List<String> keyHeaders) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Response cache must hold at least one entry but was [" + maxEntries + "]");
+        }
+        this.cache = CacheBuilder.<CacheKey, CachedResponse>builder().setMaximumWeight(maxEntries).setExpireAfterWrite(timeToLive).build();
+        this.keyHeaders = List.copyOf(keyHeaders);
+    }
+
+    /**
+     * Returns the cached response to a request, executing the handler and caching its response on a cache miss.
+     * <p>
+     * Concurrent misses on the same key wait for a single execution of the handler. Only responses with an {@link RestStatus#OK}
+     * status are cached; requests which waited for another response are handled separately.
+     *
+     * @param routeName The name of the route handling the request.
+     * @param request The request to respond to.
+     * @param handler The handler to execute on a cache miss.
+     * @return The cached or newly generated response, or a {@code 304 Not Modified} response if the client's copy is current.
+     */
+    public ExtensionRestResponse getOrCompute(String routeName, RestRequest request, Function<RestRequest, RestResponse> handler) {
+        CacheKey key = createKey(routeName, request);
+        // Set if this request's handler produced the cached response
+        AtomicReference<ExtensionRestResponse> computed = new AtomicReference<>();
+        CachedResponse cached;
+        try {
+            cached = cache.computeIfAbsent(key, k -> {
+                ExtensionRestResponse response = (ExtensionRestResponse) handler.apply(request);
+                if (response.status() != RestStatus.OK) {
+                    throw new UncacheableResponseException(request, response);
+                }
+                computed.set(response);
+                return new CachedResponse(response);
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncacheableResponseException) {
+                UncacheableResponseException uncacheable = (UncacheableResponseException) e.getCause();
+                // Another request's response is not a response to this one
+                return uncacheable.request == request ? uncacheable.response : (ExtensionRestResponse) handler.apply(request);
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        ExtensionRestResponse response = computed.get();
+        if (response != null) {
+            response.addHeader(ETAG, cached.etag);
+            if (!cached.matches(request.getAllHeaderValues(IF_NONE_MATCH))) {
+                return response;
+            }
+        } else {
+            // The handler did not run, so consume what it consumed on the original request
+            cached.consume(request);
+        }
+        return cached.toResponse(request);
+    }
+
+    /**
+     * Invalidates all cached responses.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Invalidates all cached responses for a route.
+     *
+     * @param routeName The name of the route.
+     */
+    public void invalidateRoute(String routeName) {
+        invalidateMatching(key -> key.routeName.equals(routeName));
+    }
+
+    /**
+     * Invalidates all cached responses for a request path, regardless of parameters and headers.
+     *
+     * @param path The request path, e.g., {@code /hello/world}.
+     */
+    public void invalidatePath(String path) {
+        invalidateMatching(key -> key.path.equals(path));
+    }
+
+    private void invalidateMatching(Function<CacheKey, Boolean> predicate) {
+        List<CacheKey> matching = new ArrayList<>();
+        for (CacheKey key : cache.keys()) {
+            if (predicate.apply(key)) {
+                matching.add(key);
+            }
+        }
+        matching.forEach(cache::invalidate);
+    }
+
+    /**
+     * Returns the number of cached responses.
+     *
+     * @return The number of entries in the cache.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Returns hit, miss, and eviction statistics for this cache.
+     *
+     * @return The cache statistics.
+     */
+    public Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    private CacheKey createKey(String routeName, RestRequest request) {
+        Map<String, List<String>> headers = new TreeMap<>();
+        for (String header : keyHeaders) {
+            List<String> values = request.getAllHeaderValues(header);
+            if (values != null) {
+                headers.put(header, values);
+            }
+        }
+        return new CacheKey(routeName, request.method(), request.path(), new TreeMap<>(request.params()), headers);
+    }
+
+    /**
+     * The identity of a cached response.
+     */
+    private static final class CacheKey {
+        private final String routeName;
+        private final RestRequest.Method method;
+        private final String path;
+        private final Map<String, String> params;
+        private final Map<String, List<String>> headers;
+        private final int hashCode;
+
+        CacheKey(String routeName, RestRequest.Method method, String path, Map<String, String> params, Map<String, List<String>> headers) {
+            this.routeName = routeName;
+            this.method = method;
+            this.path = path;
+            this.params = params;
+            this.headers = headers;
+            this.hashCode = Objects.hash(routeName, method, path, params, headers);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            CacheKey that = (CacheKey) obj;
+            return Objects.equals(routeName, that.routeName)
+                && method == that.method
+                && Objects.equals(path, that.path)
+                && Objects.equals(params, that.params)
+                && Objects.equals(headers, that.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Carries a response which is not cached out of the cache loader to the request it was generated for.
+     */
+    private static final class UncacheableResponseException extends RuntimeException {
+        private final RestRequest request;
+        private final ExtensionRestResponse response;
+
+        UncacheableResponseException(RestRequest request, ExtensionRestResponse response) {
+            super(null, null, false, false);
+            this.request = request;
+            this.response = response;
+        }
+    }
+
+    /**
+     * The parts of an {@link ExtensionRestResponse} needed to recreate it for another request.
+     */
+    private static final class CachedResponse {
+        private final String contentType;
+        private final BytesReference content;
+        private final Map<String, List<String>> headers;
+        private final List<String> consumedParams;
+        private final boolean contentConsumed;
+        private final String etag;
+
+        CachedResponse(ExtensionRestResponse response) {
+            this.contentType = response.contentType();
+            this.content = response.content();
+            this.headers = Map.copyOf(response.getHeaders());
+            this.consumedParams = List.copyOf(response.getConsumedParams());
+            this.contentConsumed = response.isContentConsumed();
+            this.etag = "\"" + MessageDigests.toHexString(MessageDigests.sha1().digest(BytesReference.toBytes(content))) + "\"";
+        }
+
+        boolean matches(List<String> ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String value : ifNoneMatch) {
+                for (String tag : value.split(",")) {
+                    String trimmed = tag.trim();
+                    // Weak comparison per RFC 7232 section 3.2
+                    if (trimmed.startsWith("W/")) {
+                        trimmed = trimmed.substring(2);
+                    }
+                    if ("*".equals(trimmed) || etag.equals(trimmed)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        void consume(RestRequest request) {
+            consumedParams.forEach(request::param);
+            if (contentConsumed) {
+                request.content();
+            }
+        }
+
+        ExtensionRestResponse toResponse(RestRequest request) {
+            ExtensionRestResponse response = matches(request.getAllHeaderValues(IF_NONE_MATCH))
+                ? new ExtensionRestResponse(request, RestStatus.NOT_MODIFIED, contentType, new byte[0])
+                : new ExtensionRestResponse(request, RestStatus.OK, contentType, content);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            response.addHeader(ETAG, etag);
+            return response;
+        }
+    }
+}
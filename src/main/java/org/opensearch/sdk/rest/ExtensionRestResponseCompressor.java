@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.core.rest.RestStatus;
+
+/**
+ * Compresses REST response content on the extension before it is sent to OpenSearch.
+ * <p>
+ * Content is only compressed when it is at least as large as the configured threshold and the client advertised a supported encoding
+ * in its {@code Accept-Encoding} header. When content is compressed, the {@code Content-Encoding} header is set, which causes
+ * OpenSearch to pass the bytes through to the client without compressing them again.
+ */
+public class ExtensionRestResponseCompressor {
+
+    /**
+     * The gzip content encoding
+     */
+    public static final String GZIP = "gzip";
+    /**
+     * The deflate content encoding
+     */
+    public static final String DEFLATE = "deflate";
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String VARY = "Vary";
+
+    private final int threshold;
+
+    /**
+     * Instantiate this compressor.
+     *
+     * @param threshold The minimum content size, in bytes, which will be compressed.
+     */
+    public ExtensionRestResponseCompressor(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Compression threshold must be non-negative but was [" + threshold + "]");
+        }
+        this.threshold = threshold;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Compresses the response content if the request accepts a supported encoding and the content exceeds the threshold.
+     * <p>
+     * If the content is compressed, the {@code Content-Encoding} and {@code Vary} headers are added to the response headers.
+     *
+     * @param requestHeaders The headers of the REST request.
+     * @param status The status of the REST response.
+     * @param responseHeaders A mutable map of the headers of the REST response.
+     * @param content The content of the REST response.
+     * @return The compressed content if compression was applied, otherwise the original content.
+     */
+    public byte[] maybeCompress(
+        Map<String, List<String>> requestHeaders,
+        RestStatus status,
+        Map<String, List<String>> responseHeaders,
+        byte[] content
+    ) {
+        if (content.length == 0 || content.length < threshold || status == RestStatus.NO_CONTENT || status == RestStatus.NOT_MODIFIED) {
+            return content;
+        }
+        // Content which is already encoded must be passed through unchanged
+        if (getHeader(responseHeaders, CONTENT_ENCODING) != null) {
+            return content;
+        }
+        String encoding = selectEncoding(getHeader(requestHeaders, ACCEPT_ENCODING));
+        if (encoding == null) {
+            return content;
+        }
+        byte[] compressed;
+        try {
+            compressed = compress(content, encoding);
+        } catch (IOException e) {
+            // This Should Never Happen (TM) when writing to memory, so send the content as-is
+            return content;
+        }
+        if (compressed.length >= content.length) {
+            return content;
+        }
+        responseHeaders.put(CONTENT_ENCODING, List.of(encoding));
+        responseHeaders.put(VARY, List.of(ACCEPT_ENCODING));
+        return compressed;
+    }
+
+    /**
+     * Selects the preferred supported encoding from an {@code Accept-Encoding} header. A coding named explicitly takes precedence
+     * over the {@code *} wildcard, so {@code *, gzip;q=0} does not accept gzip.
+     *
+     * @param acceptEncoding The values of the {@code Accept-Encoding} header, may be null.
+     * @return {@link #GZIP} or {@link #DEFLATE} if accepted by the client, null otherwise.
+     */
+    @Nullable
+    static String selectEncoding(@Nullable List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        // Null until the coding is named
+        Boolean gzip = null;
+        Boolean deflate = null;
+        Boolean wildcard = null;
+        for (String value : acceptEncoding) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                boolean acceptable = isAcceptable(parts);
+                if (GZIP.equals(name)) {
+                    gzip = acceptable;
+                } else if (DEFLATE.equals(name)) {
+                    deflate = acceptable;
+                } else if ("*".equals(name)) {
+                    wildcard = acceptable;
+                }
+            }
+        }
+        if (gzip == null ? Boolean.TRUE.equals(wildcard) : gzip) {
+            return GZIP;
+        }
+        if (deflate == null ? Boolean.TRUE.equals(wildcard) : deflate) {
+            return DEFLATE;
+        }
+        return null;
+    }
+
+    private static boolean isAcceptable(String[] codingParts) {
+        for (int i = 1; i < codingParts.length; i++) {
+            String param = codingParts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static byte[] compress(byte[] content, String encoding) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (OutputStream out = GZIP.equals(encoding) ? new GZIPOutputStream(bytes) : new DeflaterOutputStream(bytes)) {
+            out.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Nullable
+    private static List<String> getHeader(Map<String, List<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.sdk.client.SearchHitIterator;
+import org.opensearch.search.SearchHit;
+
+/**
+ * Exports the hits of a search as newline-delimited JSON, paging through the results with a {@link SearchHitIterator}.
+ * <p>
+ * Each line is a JSON object with the {@code _index}, {@code _id} and {@code _source} of a hit. Only one page of hits is held in memory
+ * at a time, and the next page is not requested until the previous page has been written, so a slow consumer of the output stream
+ * throttles the export.
+ */
+public class NdJsonSearchExporter {
+
+    /**
+     * The content type of newline-delimited JSON
+     */
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    /**
+     * The default number of hits requested per page
+     */
+    public static final int DEFAULT_PAGE_SIZE = SearchHitIterator.DEFAULT_PAGE_SIZE;
+
+    private final SDKRestClient client;
+    private final int pageSize;
+    private final TimeValue keepAlive;
+    private final TimeValue requestTimeout;
+
+    /**
+     * Instantiate this exporter with the default page size and a one minute point in time keep alive and request timeout.
+     *
+     * @param client The client used to query OpenSearch.
+     */
+    public NdJsonSearchExporter(SDKRestClient client) {
+        this(client, DEFAULT_PAGE_SIZE, TimeValue.timeValueMinutes(1), TimeValue.timeValueMinutes(1));
+    }
+
+    /**
+     * Instantiate this exporter.
+     *
+     * @param client The client used to query OpenSearch.
+     * @param pageSize The number of hits requested per page.
+     * @param keepAlive How long the point in time is kept alive between pages.
+     * @param requestTimeout How long to wait for each request to OpenSearch.
+     */
+    public NdJsonSearchExporter(SDKRestClient client, int pageSize, TimeValue keepAlive, TimeValue requestTimeout) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive but was [" + pageSize + "]");
+        }
+        this.client = client;
+        this.pageSize = pageSize;
+        this.keepAlive = keepAlive;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Exports all hits matching a search to an output stream. The output stream is not closed.
+     * <p>
+     * The search source must define a sort whose values uniquely identify each document, so that {@code search_after} resumes at the
+     * correct position. The size and point in time of the search source are overridden.
+     *
+     * @param searchRequest The search to export, specifying the indices and the search source.
+     * @param out The output stream to write to.
+     * @return The number of hits exported.
+     * @throws IOException if writing to the output stream or communicating with OpenSearch failed.
+     */
+    public long export(SearchRequest searchRequest, OutputStream out) throws IOException {
+        OutputStream nonClosing = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+
+        long count = 0;
+        // Pages are fetched on demand, so the next page is only requested once the previous one has been written
+        try (SearchHitIterator hits = new SearchHitIterator(client, searchRequest, pageSize, 0, keepAlive, requestTimeout)) {
+            while (hits.hasNext()) {
+                writeHit(hits.next(), nonClosing);
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        return count;
+    }
+
+    private void writeHit(SearchHit hit, OutputStream out) throws IOException {
+        try (XContentBuilder builder = new XContentBuilder(JsonXContent.jsonXContent, out)) {
+            builder.startObject();
+            if (hit.getIndex() != null) {
+                builder.field("_index", hit.getIndex());
+            }
+            builder.field("_id", hit.getId());
+            if (hit.hasSource()) {
+                builder.rawField("_source", hit.getSourceRef().streamInput(), XContentType.JSON);
+            }
+            builder.endObject();
+        }
+        out.write('\n');
+    }
+}
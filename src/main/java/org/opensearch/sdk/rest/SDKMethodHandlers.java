@@ -26,12 +26,17 @@ final class SDKMethodHandlers {
 
     private final String path;
     private final Map<Method, ExtensionRestHandler> methodHandlers;
+    private final Map<Method, String> routeNames;
 
-    SDKMethodHandlers(String path, ExtensionRestHandler handler, Method... methods) {
+    SDKMethodHandlers(String path, ExtensionRestHandler handler, @Nullable String name, Method... methods) {
         this.path = path;
         this.methodHandlers = new HashMap<>(methods.length);
+        this.routeNames = new HashMap<>(methods.length);
         for (Method method : methods) {
             methodHandlers.put(method, handler);
+            if (name != null) {
+                routeNames.put(method, name);
+            }
         }
     }
 
@@ -39,12 +44,15 @@ final class SDKMethodHandlers {
      * Add a handler for an additional array of methods. Note that {@code SDKMethodHandlers}
      * does not allow replacing the handler for an already existing method.
      */
-    SDKMethodHandlers addMethods(ExtensionRestHandler handler, Method... methods) {
+    SDKMethodHandlers addMethods(ExtensionRestHandler handler, @Nullable String name, Method... methods) {
         for (Method method : methods) {
             ExtensionRestHandler existing = methodHandlers.putIfAbsent(method, handler);
             if (existing != null) {
                 throw new IllegalArgumentException("Cannot replace existing handler for [" + path + "] for method: " + method);
             }
+            if (name != null) {
+                routeNames.put(method, name);
+            }
         }
         return this;
     }
@@ -57,6 +65,14 @@ final class SDKMethodHandlers {
         return methodHandlers.get(method);
     }
 
+    /**
+     * Returns the name of the route for the given method or {@code null} if the route is unnamed or none exists.
+     */
+    @Nullable
+    String getRouteName(Method method) {
+        return routeNames.get(method);
+    }
+
     /**
      * Return a set of all valid HTTP methods for the particular path
      */
@@ -10,17 +10,13 @@
 package org.opensearch.sdk.sample.helloworld.rest;
 
 import org.opensearch.action.ActionListener;
-import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.extensions.ExtensionsManager;
-import org.opensearch.extensions.action.RemoteExtensionActionResponse;
 import org.opensearch.extensions.rest.ExtensionRestResponse;
 import org.opensearch.rest.NamedRoute;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestResponse;
 import org.opensearch.sdk.ExtensionsRunner;
 import org.opensearch.sdk.SDKClient;
-import org.opensearch.sdk.action.RemoteExtensionAction;
-import org.opensearch.sdk.action.RemoteExtensionActionRequest;
 import org.opensearch.sdk.rest.BaseExtensionRestHandler;
 import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
 import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
@@ -72,29 +68,20 @@ public class RestRemoteHelloAction extends BaseExtensionRestHandler {
         // This class happens to be local for simplicity but is a class on the remote extension
         SampleRequest sampleRequest = new SampleRequest(name);
 
-        // Serialize this request in a proxy action request
-        // This requires that the remote extension has a corresponding transport action registered
-        // This Action class happens to be local for simplicity but is a class on the remote extension
-        RemoteExtensionActionRequest proxyActionRequest = new RemoteExtensionActionRequest(SampleAction.INSTANCE, sampleRequest);
-
+        // Execute the action on the remote extension, which must have a corresponding transport action registered
+        // This Action class happens to be local for simplicity but is a class on the remote extension, so the request is sent
+        // explicitly to the remote extension rather than executed locally
         // TODO: We need async client.execute to hide these action listener details and return the future directly
         // https://github.com/opensearch-project/opensearch-sdk-java/issues/584
-        CompletableFuture<RemoteExtensionActionResponse> futureResponse = new CompletableFuture<>();
-        client.execute(
-            RemoteExtensionAction.INSTANCE,
-            proxyActionRequest,
+        CompletableFuture<SampleResponse> futureResponse = new CompletableFuture<>();
+        client.executeRemote(
+            SampleAction.INSTANCE,
+            sampleRequest,
             ActionListener.wrap(r -> futureResponse.complete(r), e -> futureResponse.completeExceptionally(e))
         );
         try {
-            RemoteExtensionActionResponse response = futureResponse.orTimeout(
-                ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT,
-                TimeUnit.SECONDS
-            ).get();
-            if (!response.isSuccess()) {
-                return new ExtensionRestResponse(request, OK, "Remote extension response failed: " + response.getResponseBytesAsString());
-            }
-            // Parse out the expected response class from the bytes
-            SampleResponse sampleResponse = new SampleResponse(StreamInput.wrap(response.getResponseBytes()));
+            SampleResponse sampleResponse = futureResponse.orTimeout(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS)
+                .get();
             return new ExtensionRestResponse(request, OK, "Received greeting from remote extension: " + sampleResponse.getGreeting());
         } catch (Exception e) {
             return exceptionalRequest(request, e);
@@ -62,4 +62,23 @@ public class TestExtensionSettings extends OpenSearchTestCase {
         expectThrows(IOException.class, () -> ExtensionSettings.readSettingsFromYaml("this/path/does/not/exist"));
         expectThrows(IOException.class, () -> ExtensionSettings.readSettingsFromYaml(EXTENSION_DESCRIPTOR_CLASSPATH + "filedoesnotexist"));
     }
+
+    @Test
+    public void testReadRestRateLimitsFromYaml() throws IOException {
+        assertNull(extensionSettings.getRestRateLimits());
+
+        ExtensionSettings stringForm = ExtensionSettings.readSettingsFromYaml("/rate-limits-string-extension.yml");
+        assertEquals("hw:greet=100:20,hw:goodbye=10", stringForm.getRestRateLimits());
+
+        ExtensionSettings mapForm = ExtensionSettings.readSettingsFromYaml("/rate-limits-map-extension.yml");
+        assertEquals("hw:greet=100:20,hw:goodbye=10", mapForm.getRestRateLimits());
+        assertEquals("X-Client-Id", mapForm.getRestRateLimitClientHeader());
+
+        // An unquoted 100:20 is read by YAML as the integer 6020, so it is rejected rather than silently misread
+        IOException e = expectThrows(
+            IOException.class,
+            () -> ExtensionSettings.readSettingsFromYaml("/rate-limits-unquoted-extension.yml")
+        );
+        assertTrue(e.getMessage().contains("[6020]"));
+    }
 }
@@ -14,6 +14,7 @@ import static java.util.Collections.emptySet;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -29,17 +30,24 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.discovery.InitializeExtensionRequest;
 import org.opensearch.discovery.InitializeExtensionResponse;
+import org.opensearch.env.EnvironmentSettingsResponse;
 import org.opensearch.extensions.DiscoveryExtensionNode;
 import org.opensearch.extensions.AcknowledgedResponse;
 import org.opensearch.extensions.ExtensionDependency;
@@ -51,11 +59,13 @@ import org.opensearch.rest.RestRequest.Method;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.extensions.UpdateSettingsRequest;
+import org.opensearch.sdk.action.BatchedUpdateSettingsRequest;
 import org.opensearch.sdk.handlers.ClusterSettingsResponseHandler;
 import org.opensearch.sdk.handlers.ClusterStateResponseHandler;
 import org.opensearch.sdk.handlers.EnvironmentSettingsResponseHandler;
 import org.opensearch.sdk.handlers.ExtensionsInitRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsRestRequestHandler;
+import org.opensearch.sdk.handlers.UpdateSettingsRequestHandler;
 import org.opensearch.sdk.rest.ExtensionRestPathRegistry;
 import org.opensearch.sdk.handlers.AcknowledgedResponseHandler;
 import org.opensearch.test.OpenSearchTestCase;
@@ -105,7 +115,7 @@ public class TestExtensionsRunner extends OpenSearchTestCase {
         verify(sdkTransportService.getTransportService(), times(1)).start();
         // cannot verify acceptIncomingRequests as it is a final method
         // test registerRequestHandlers
-        verify(sdkTransportService.getTransportService(), times(5)).registerRequestHandler(
+        verify(sdkTransportService.getTransportService(), times(6)).registerRequestHandler(
             anyString(),
             anyString(),
             anyBoolean(),
@@ -146,6 +156,57 @@ public class TestExtensionsRunner extends OpenSearchTestCase {
         assertEquals(sourceNode, extensionsRunner.getSdkTransportService().getOpensearchNode());
     }
 
+    @Test
+    public void testExtensionInitHandshake() throws Exception {
+        DiscoveryNode sourceNode = new DiscoveryNode(
+            "test_node",
+            new TransportAddress(InetAddress.getByName("localhost"), 9876),
+            emptyMap(),
+            emptySet(),
+            Version.CURRENT
+        );
+        DiscoveryExtensionNode extension = new DiscoveryExtensionNode(
+            EXTENSION_NAME,
+            "opensearch-sdk-1",
+            sourceNode.getAddress(),
+            new HashMap<String, String>(),
+            Version.fromString("3.0.0"),
+            Version.fromString("3.0.0"),
+            new ArrayList<ExtensionDependency>()
+        );
+        doNothing().when(sdkTransportService.getTransportService()).connectToNodeAsExtension(sourceNode, "opensearch-sdk-1");
+        // OpenSearch acknowledges each registration and responds with its environment settings
+        doAnswer(invocation -> {
+            Object handler = invocation.getArgument(3);
+            if (handler instanceof AcknowledgedResponseHandler) {
+                ((AcknowledgedResponseHandler) handler).handleResponse(new AcknowledgedResponse(true));
+            } else if (handler instanceof EnvironmentSettingsResponseHandler) {
+                ((EnvironmentSettingsResponseHandler) handler).handleResponse(
+                    new EnvironmentSettingsResponse(Settings.builder().put("http.port", "9201").build())
+                );
+            }
+            return null;
+        }).when(sdkTransportService.getTransportService()).sendRequest(any(), anyString(), any(), any());
+
+        extensionsInitRequestHandler.handleExtensionInitRequest(new InitializeExtensionRequest(sourceNode, extension));
+        extensionsInitRequestHandler.getInitializationFuture().get(10, TimeUnit.SECONDS);
+
+        assertTrue(extensionsRunner.isInitialized());
+        assertEquals("9201", extensionsRunner.getEnvironmentSettings().get("http.port"));
+        assertEquals(
+            Set.of(
+                "connect",
+                "register_rest_actions",
+                "register_custom_settings",
+                "register_transport_actions",
+                "environment_settings",
+                "apply_environment_settings",
+                "total"
+            ),
+            extensionsInitRequestHandler.getPhaseTimings().keySet()
+        );
+    }
+
     @Test
     public void testHandleExtensionRestRequest() throws Exception {
 
@@ -185,6 +246,94 @@ public class TestExtensionsRunner extends OpenSearchTestCase {
         );
     }
 
+    @Test
+    public void testUpdateSettingsDispatchesToTypedConsumer() {
+        Setting<Integer> intSetting = Setting.intSetting("component.int.key", 0, Property.Dynamic);
+        Setting<Boolean> boolSetting = Setting.boolSetting("component.bool.key", false, Property.Dynamic);
+        AtomicReference<Integer> intValue = new AtomicReference<>();
+        AtomicReference<Boolean> boolValue = new AtomicReference<>();
+        UpdateSettingsRequestHandler handler = new UpdateSettingsRequestHandler();
+        handler.registerSettingUpdateConsumer(
+            Map.<Setting<?>, Consumer<?>>of(intSetting, (Consumer<Integer>) intValue::set, boolSetting, (Consumer<Boolean>) boolValue::set)
+        );
+
+        // Only the consumer of the updated setting is invoked
+        assertTrue(
+            handler.handleUpdateSettingsRequest(new UpdateSettingsRequest(WriteableSetting.SettingType.Integer, intSetting, 42)).getStatus()
+        );
+        assertEquals(Integer.valueOf(42), intValue.get());
+        assertNull(boolValue.get());
+        assertEquals(Integer.valueOf(42), handler.getUpdatedValue(intSetting));
+        assertNull(handler.getUpdatedValue(boolSetting));
+
+        // A value which is not of the setting's type is parsed by the setting
+        assertTrue(
+            handler.handleUpdateSettingsRequest(new UpdateSettingsRequest(WriteableSetting.SettingType.String, boolSetting, "true"))
+                .getStatus()
+        );
+        assertEquals(Boolean.TRUE, boolValue.get());
+        assertEquals(Integer.valueOf(42), intValue.get());
+
+        // Invalid values and unregistered settings are not acknowledged
+        assertFalse(
+            handler.handleUpdateSettingsRequest(new UpdateSettingsRequest(WriteableSetting.SettingType.String, intSetting, "invalid"))
+                .getStatus()
+        );
+        assertEquals(Integer.valueOf(42), handler.getUpdatedValue(intSetting));
+        Setting<Integer> otherSetting = Setting.intSetting("component.other.key", 0, Property.Dynamic);
+        assertFalse(
+            handler.handleUpdateSettingsRequest(new UpdateSettingsRequest(WriteableSetting.SettingType.Integer, otherSetting, 1))
+                .getStatus()
+        );
+    }
+
+    @Test
+    public void testBatchedUpdateSettingsRequest() throws IOException {
+        Setting<Integer> intSetting = Setting.intSetting("component.int.key", 0, Property.Dynamic);
+        Setting<Boolean> boolSetting = Setting.boolSetting("component.bool.key", false, Property.Dynamic);
+        List<Integer> intValues = new ArrayList<>();
+        List<Boolean> boolValues = new ArrayList<>();
+        UpdateSettingsRequestHandler handler = new UpdateSettingsRequestHandler();
+        handler.registerSettingUpdateConsumer(
+            Map.<Setting<?>, Consumer<?>>of(
+                intSetting,
+                (Consumer<Integer>) intValues::add,
+                boolSetting,
+                (Consumer<Boolean>) boolValues::add
+            )
+        );
+
+        BatchedUpdateSettingsRequest request = new BatchedUpdateSettingsRequest(
+            List.of(
+                new UpdateSettingsRequest(WriteableSetting.SettingType.Integer, intSetting, 1),
+                new UpdateSettingsRequest(WriteableSetting.SettingType.Boolean, boolSetting, true),
+                new UpdateSettingsRequest(WriteableSetting.SettingType.Integer, intSetting, 2)
+            )
+        );
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            request = new BatchedUpdateSettingsRequest(out.bytes().streamInput());
+        }
+        assertEquals(3, request.getUpdateSettingsRequests().size());
+
+        // Each consumer is invoked once, with the last value sent for its setting
+        assertTrue(handler.handleUpdateSettingsRequests(request.getUpdateSettingsRequests()).getStatus());
+        assertEquals(List.of(2), intValues);
+        assertEquals(List.of(true), boolValues);
+
+        // An invalid value rejects the whole batch
+        assertFalse(
+            handler.handleUpdateSettingsRequests(
+                List.of(
+                    new UpdateSettingsRequest(WriteableSetting.SettingType.Integer, intSetting, 3),
+                    new UpdateSettingsRequest(WriteableSetting.SettingType.String, boolSetting, "invalid")
+                )
+            ).getStatus()
+        );
+        assertEquals(List.of(2), intValues);
+        assertEquals(Integer.valueOf(2), handler.getUpdatedValue(intSetting));
+    }
+
     @Test
     public void testClusterStateRequest() {
 
@@ -213,7 +362,15 @@ public class TestExtensionsRunner extends OpenSearchTestCase {
 
     @Test
     public void testEnvironmentSettingsRequest() {
-        sdkTransportService.sendEnvironmentSettingsRequest();
+        // The synchronous request waits on the response to the asynchronous one
+        doAnswer(invocation -> {
+            ((EnvironmentSettingsResponseHandler) invocation.getArgument(3)).handleResponse(
+                new EnvironmentSettingsResponse(Settings.builder().put("http.port", "9201").build())
+            );
+            return null;
+        }).when(sdkTransportService.getTransportService()).sendRequest(any(), anyString(), any(), any());
+
+        assertEquals("9201", sdkTransportService.sendEnvironmentSettingsRequest().get("http.port"));
 
         verify(sdkTransportService.getTransportService(), times(1)).sendRequest(
             any(),
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestIndexMappingCache extends OpenSearchTestCase {
+
+    private static final String MAPPING = "{\"properties\":{"
+        + "\"title\":{\"type\":\"text\",\"fields\":{\"keyword\":{\"type\":\"keyword\"}}},"
+        + "\"user\":{\"properties\":{\"name\":{\"type\":\"keyword\"},\"age\":{\"type\":\"integer\"}}},"
+        + "\"author\":{\"type\":\"alias\",\"path\":\"user.name\"},"
+        + "\"comments\":{\"type\":\"nested\",\"properties\":{\"body\":{\"type\":\"text\"}}}"
+        + "}}";
+
+    private static IndexMetadata index(String name, String mapping, long version) throws IOException {
+        return IndexMetadata.builder(name)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, name + "-uuid")
+            )
+            .putMapping(mapping)
+            .version(version)
+            .build();
+    }
+
+    private static ClusterState state(IndexMetadata... indices) {
+        Metadata.Builder metadata = Metadata.builder();
+        for (IndexMetadata index : indices) {
+            metadata.put(index, false);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
+
+    @Test
+    public void testFieldTypeLookup() throws IOException {
+        AtomicInteger requests = new AtomicInteger();
+        ClusterState state = state(index("logs-1", MAPPING, 1));
+        IndexMappingCache cache = new IndexMappingCache(() -> {
+            requests.incrementAndGet();
+            return state;
+        }, List.of());
+
+        assertEquals("text", cache.getFieldType("logs-1", "title"));
+        assertEquals("keyword", cache.getFieldType("logs-1", "title.keyword"));
+        assertEquals("object", cache.getFieldType("logs-1", "user"));
+        assertEquals("integer", cache.getFieldType("logs-1", "user.age"));
+        assertEquals("keyword", cache.getFieldType("logs-1", "author"));
+        assertEquals("nested", cache.getFieldType("logs-1", "comments"));
+        assertEquals("text", cache.getFieldType("logs-1", "comments.body"));
+        assertNull(cache.getFieldType("logs-1", "missing"));
+        assertEquals(8, cache.getFieldTypes("logs-1").size());
+        assertEquals(1, cache.getIndexSettings("logs-1").getAsInt(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 0).intValue());
+        assertNotNull(cache.getMapping("logs-1"));
+        // Only the first lookup requests the cluster state
+        assertEquals(1, requests.get());
+
+        // A missing index is cached as missing, looked up in the cluster state already fetched
+        assertNull(cache.getMapping("other"));
+        assertTrue(cache.getFieldTypes("other").isEmpty());
+        assertEquals(1, requests.get());
+
+        // An invalidated index is loaded from a newly fetched cluster state
+        cache.invalidate("logs-1");
+        assertEquals("text", cache.getFieldType("logs-1", "title"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testLookupsBetweenRefreshes() throws IOException {
+        AtomicInteger requests = new AtomicInteger();
+        AtomicReference<ClusterState> state = new AtomicReference<>();
+        IndexMappingCache cache = new IndexMappingCache(() -> {
+            requests.incrementAndGet();
+            if (state.get() == null) {
+                throw new IllegalStateException("The Extensions Runner has not been initialized.");
+            }
+            return state.get();
+        }, List.of());
+
+        // Lookups before the cluster state is available are not cached
+        assertNull(cache.getMapping("logs-1"));
+        assertEquals(1, requests.get());
+        state.set(state(index("logs-1", MAPPING, 1)));
+        assertEquals("text", cache.getFieldType("logs-1", "title"));
+        assertEquals(2, requests.get());
+
+        // Other indices are looked up in the fetched cluster state until the next refresh
+        state.set(state(index("logs-1", MAPPING, 1), index("logs-2", MAPPING, 1)));
+        assertNull(cache.getMapping("logs-2"));
+        assertNull(cache.getMapping("logs-3"));
+        assertEquals(2, requests.get());
+        cache.refresh();
+        assertEquals(3, requests.get());
+        assertEquals("text", cache.getFieldType("logs-2", "title"));
+        assertNull(cache.getMapping("logs-3"));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testRefreshReplacesChangedIndices() throws IOException {
+        AtomicReference<ClusterState> state = new AtomicReference<>(state(index("logs-1", MAPPING, 1), index("metrics", MAPPING, 1)));
+        IndexMappingCache cache = new IndexMappingCache(state::get, List.of("logs-*"));
+        List<String> changed = new ArrayList<>();
+        cache.addChangeListener(changed::add);
+
+        // Prefetching loads the indices matching the patterns without notifying
+        cache.prefetch();
+        state.set(null);
+        assertEquals("text", cache.getFieldType("logs-1", "title"));
+        assertTrue(changed.isEmpty());
+
+        // An unchanged index is kept, a changed index is replaced and a new matching index is added
+        String updatedMapping = "{\"properties\":{\"title\":{\"type\":\"keyword\"}}}";
+        cache.apply(state(index("logs-1", updatedMapping, 2), index("logs-2", MAPPING, 1)));
+        assertEquals("keyword", cache.getFieldType("logs-1", "title"));
+        assertEquals("text", cache.getFieldType("logs-2", "title"));
+        assertEquals(List.of("logs-1"), changed);
+
+        // A deleted index is marked missing
+        cache.apply(state(index("logs-2", MAPPING, 1)));
+        assertNull(cache.getMapping("logs-1"));
+        assertEquals(List.of("logs-1", "logs-1"), changed);
+
+        // Failing to fetch the cluster state keeps the cached indices
+        cache.refresh();
+        assertEquals("text", cache.getFieldType("logs-2", "title"));
+    }
+}
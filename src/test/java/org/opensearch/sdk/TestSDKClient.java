@@ -27,6 +27,7 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.client.Cancellable;
 import org.opensearch.client.Request;
 import org.opensearch.client.Response;
+import org.opensearch.client.RestClient;
 import org.opensearch.client.ResponseListener;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.GetFieldMappingsRequest;
@@ -40,6 +41,7 @@ import org.opensearch.client.opensearch.cluster.OpenSearchClusterAsyncClient;
 import org.opensearch.client.opensearch.cluster.OpenSearchClusterClient;
 import org.opensearch.client.opensearch.indices.OpenSearchIndicesAsyncClient;
 import org.opensearch.client.opensearch.indices.OpenSearchIndicesClient;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.sdk.SDKClient.SDKClusterAdminClient;
 import org.opensearch.sdk.SDKClient.SDKIndicesClient;
@@ -94,6 +96,54 @@ public class TestSDKClient extends OpenSearchTestCase {
         sdkClient.doCloseHighLevelClient();
     }
 
+    @Test
+    public void testClientsShareRestClient() throws Exception {
+        OpenSearchClient javaClient = sdkClient.initializeJavaClient();
+        OpenSearchAsyncClient javaAsyncClient = sdkClient.initializeJavaAsyncClient();
+        SDKRestClient restClient = sdkClient.initializeRestClient();
+
+        RestClient lowLevelClient = ((RestClientTransport) javaClient._transport()).restClient();
+        assertSame(lowLevelClient, ((RestClientTransport) javaAsyncClient._transport()).restClient());
+        assertSame(lowLevelClient, restClient.getRestHighLevelClient().getLowLevelClient());
+        assertSame(javaClient._transport().jsonpMapper(), javaAsyncClient._transport().jsonpMapper());
+
+        // Closing one flavor leaves the shared client open for the others
+        sdkClient.doCloseJavaClients();
+        assertTrue(lowLevelClient.isRunning());
+        sdkClient.doCloseHighLevelClient();
+        assertFalse(lowLevelClient.isRunning());
+
+        // A different host gets its own client
+        SDKRestClient otherClient = sdkClient.initializeRestClient("127.0.0.1", 9201);
+        assertNotSame(lowLevelClient, otherClient.getRestHighLevelClient().getLowLevelClient());
+        otherClient.close();
+    }
+
+    @Test
+    public void testSnifferRunsOnlyWhileSharedClientIsOpen() throws Exception {
+        ExtensionSettings sniffSettings = new ExtensionSettings("", "", "", "localhost", "9200");
+        sniffSettings.setHttpSniffIntervalSeconds(60);
+        SDKClient sniffClient = new SDKClient(sniffSettings);
+
+        // No client is open, so there is nothing to apply discovered nodes to
+        sniffClient.updateOpenSearchNodeSettings("localhost", "9200");
+        assertFalse(sniffClient.isSnifferRunning());
+
+        SDKRestClient restClient = sniffClient.initializeRestClient();
+        assertTrue(sniffClient.isSnifferRunning());
+        OpenSearchClient javaClient = sniffClient.initializeJavaClient();
+        restClient.close();
+        assertTrue(sniffClient.isSnifferRunning());
+        sniffClient.doCloseJavaClients();
+        assertFalse(sniffClient.isSnifferRunning());
+        assertFalse(((RestClientTransport) javaClient._transport()).restClient().isRunning());
+
+        sniffClient.initializeRestClient();
+        assertTrue(sniffClient.isSnifferRunning());
+        sniffClient.close();
+        assertFalse(sniffClient.isSnifferRunning());
+    }
+
     @Test
     public void testSDKRestClient() throws Exception {
         SDKRestClient restClient = sdkClient.initializeRestClient();
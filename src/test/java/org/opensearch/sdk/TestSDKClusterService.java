@@ -15,7 +15,9 @@ import org.opensearch.cluster.ClusterName;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.settings.WriteableSetting;
 import org.opensearch.extensions.DiscoveryExtensionNode;
+import org.opensearch.extensions.UpdateSettingsRequest;
 import org.opensearch.sdk.SDKClusterService.SDKClusterSettings;
 import org.opensearch.sdk.handlers.AcknowledgedResponseHandler;
 import org.opensearch.test.OpenSearchTestCase;
@@ -161,13 +163,22 @@ public class TestSDKClusterService extends OpenSearchTestCase {
             any(AcknowledgedResponseHandler.class)
         );
 
-        // Sending a new update should send immediately (cumulative now 2)
+        // New updates are sent together shortly after they are added (cumulative now 2)
+        Setting<Integer> intSetting = Setting.intSetting("test.int", 0);
         sdkClusterService.getClusterSettings().addSettingsUpdateConsumer(boolSetting, boolConsumer);
-        verify(extensionsRunner.getSdkTransportService().getTransportService(), times(2)).sendRequest(
-            any(),
-            anyString(),
-            any(),
-            any(AcknowledgedResponseHandler.class)
+        sdkClusterService.getClusterSettings().addSettingsUpdateConsumer(intSetting, i -> {});
+        assertBusy(
+            () -> verify(extensionsRunner.getSdkTransportService().getTransportService(), times(2)).sendRequest(
+                any(),
+                anyString(),
+                any(),
+                any(AcknowledgedResponseHandler.class)
+            )
+        );
+        assertTrue(
+            extensionsRunner.getUpdateSettingsRequestHandler()
+                .handleUpdateSettingsRequest(new UpdateSettingsRequest(WriteableSetting.SettingType.Integer, intSetting, 1))
+                .getStatus()
         );
 
     }
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.opensearch.cluster.ClusterModule;
+import org.opensearch.common.network.NetworkModule;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.search.SearchModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestSDKCoreNamedEntries extends OpenSearchTestCase {
+    private static final Logger logger = LogManager.getLogger(TestSDKCoreNamedEntries.class);
+
+    private static final int STARTUPS = 5;
+
+    @Test
+    public void testEntriesAreShared() {
+        Settings environmentSettings = Settings.builder().put("cluster.name", "test").put("path.home", "/tmp").build();
+        List<NamedWriteableRegistry.Entry> writeables = SDKCoreNamedEntries.namedWriteables(Settings.EMPTY);
+        int builds = SDKCoreNamedEntries.searchModuleBuilds();
+
+        // Settings which the search module does not read share the same entries, for both registries
+        assertSame(writeables, SDKCoreNamedEntries.namedWriteables(environmentSettings));
+        assertSame(SDKCoreNamedEntries.namedXContents(Settings.EMPTY), SDKCoreNamedEntries.namedXContents(environmentSettings));
+        assertEquals(builds, SDKCoreNamedEntries.searchModuleBuilds());
+        expectThrows(UnsupportedOperationException.class, () -> writeables.add(writeables.get(0)));
+
+        // Search settings compute the search entries again
+        Settings searchSettings = Settings.builder().put("indices.query.bool.max_clause_count", 2048).build();
+        Settings allSettings = Settings.builder().put(environmentSettings).put(searchSettings).build();
+        assertEquals(searchSettings, SDKCoreNamedEntries.searchSettings(allSettings));
+        assertNotSame(writeables, SDKCoreNamedEntries.namedWriteables(searchSettings));
+        assertEquals(builds + 1, SDKCoreNamedEntries.searchModuleBuilds());
+        assertEquals(writeables.size(), SDKCoreNamedEntries.namedWriteables(searchSettings).size());
+        SDKCoreNamedEntries.namedWriteables(Settings.EMPTY);
+    }
+
+    @Test
+    public void testStartupBenchmark() {
+        Settings environmentSettings = Settings.builder().put("cluster.name", "test").build();
+        // Warm up the JIT and the shared entries before measuring
+        buildRegistriesFromModules(environmentSettings);
+        buildRegistriesFromSharedEntries(environmentSettings);
+
+        long moduleNanos = 0;
+        long sharedNanos = 0;
+        int builds = SDKCoreNamedEntries.searchModuleBuilds();
+        for (int i = 0; i < STARTUPS; i++) {
+            long start = System.nanoTime();
+            buildRegistriesFromModules(environmentSettings);
+            moduleNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            buildRegistriesFromSharedEntries(environmentSettings);
+            sharedNanos += System.nanoTime() - start;
+        }
+        // The shared entries never build a search module again
+        assertEquals(builds, SDKCoreNamedEntries.searchModuleBuilds());
+        logger.info(
+            String.format(
+                Locale.ROOT,
+                "Built the registries of an extension startup in %.1f ms from modules and %.1f ms from shared entries",
+                moduleNanos / 1e6 / STARTUPS,
+                sharedNanos / 1e6 / STARTUPS
+            )
+        );
+    }
+
+    /**
+     * Builds the registries as an extension startup did before the core entries were shared: both registries at construction and the
+     * NamedXContent registry again once the environment settings are received, each from its own {@link SearchModule}.
+     */
+    private static void buildRegistriesFromModules(Settings environmentSettings) {
+        for (Settings settings : new Settings[] { Settings.EMPTY, environmentSettings }) {
+            List<NamedXContentRegistry.Entry> xContents = new ArrayList<>(NetworkModule.getNamedXContents());
+            xContents.addAll(IndicesModule.getNamedXContents());
+            xContents.addAll(new SearchModule(settings, Collections.emptyList()).getNamedXContents());
+            xContents.addAll(ClusterModule.getNamedXWriteables());
+            new NamedXContentRegistry(xContents);
+        }
+        List<NamedWriteableRegistry.Entry> writeables = new ArrayList<>(NetworkModule.getNamedWriteables());
+        writeables.addAll(new IndicesModule(Collections.emptyList()).getNamedWriteables());
+        writeables.addAll(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables());
+        writeables.addAll(ClusterModule.getNamedWriteables());
+        new NamedWriteableRegistry(writeables);
+    }
+
+    private static void buildRegistriesFromSharedEntries(Settings environmentSettings) {
+        for (Settings settings : new Settings[] { Settings.EMPTY, environmentSettings }) {
+            new NamedXContentRegistry(SDKCoreNamedEntries.namedXContents(settings));
+        }
+        new NamedWriteableRegistry(SDKCoreNamedEntries.namedWriteables(Settings.EMPTY));
+    }
+}
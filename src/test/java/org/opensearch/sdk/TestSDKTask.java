@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.ActionListener;
+import org.opensearch.client.Cancellable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class TestSDKTask extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private TaskManager taskManager;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.threadPool = new TestThreadPool("test");
+        this.taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    @Test
+    public void testRegisterAndEnter() {
+        SDKTask task = SDKTask.register(taskManager, "rest", "GET /hello", "GET /hello");
+        assertSame(task, taskManager.getTask(task.getId()));
+        assertEquals("GET /hello", task.getDescription());
+
+        assertNull(SDKTask.current());
+        try (SDKTask.Scope scope = task.enter()) {
+            assertSame(task, SDKTask.current());
+            SDKTask nested = SDKTask.register(taskManager, "transport", "nested", "nested");
+            try (SDKTask.Scope nestedScope = nested.enter()) {
+                assertSame(nested, SDKTask.current());
+            }
+            assertSame(task, SDKTask.current());
+            taskManager.unregister(nested);
+        }
+        assertNull(SDKTask.current());
+
+        taskManager.unregister(task);
+        assertNull(taskManager.getTask(task.getId()));
+    }
+
+    @Test
+    public void testCancelCancelsAttachedCalls() {
+        SDKTask task = SDKTask.register(taskManager, "rest", "GET /hello", "GET /hello");
+        Cancellable inFlight = mock(Cancellable.class);
+        Cancellable completed = mock(Cancellable.class);
+        AtomicReference<SDKTask> notifiedTask = new AtomicReference<>();
+
+        assertSame(inFlight, task.attach(l -> inFlight, ActionListener.wrap(r -> {}, e -> {})));
+        task.attach(l -> {
+            l.onResponse("done");
+            return completed;
+        }, ActionListener.wrap(r -> notifiedTask.set(SDKTask.current()), e -> {}));
+        // Listeners are notified with the task as the current task
+        assertSame(task, notifiedTask.get());
+
+        taskManager.cancel(task, "test", () -> {});
+        assertTrue(task.isCancelled());
+        verify(inFlight).cancel();
+        verify(completed, never()).cancel();
+
+        // Calls attached after the task was cancelled are cancelled at once
+        Cancellable late = mock(Cancellable.class);
+        task.attach(l -> late, ActionListener.wrap(r -> {}, e -> {}));
+        verify(late).cancel();
+        Runnable cancellation = mock(Runnable.class);
+        task.addCancellation(cancellation);
+        verify(cancellation).run();
+
+        taskManager.unregister(task);
+    }
+}
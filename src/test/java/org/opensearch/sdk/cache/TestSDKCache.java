@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestSDKCache extends OpenSearchTestCase {
+
+    private static final class Value implements Writeable {
+        private final String text;
+
+        Value(String text) {
+            this.text = text;
+        }
+
+        Value(StreamInput in) throws IOException {
+            this.text = in.readString();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(text);
+        }
+    }
+
+    private SDKCacheService cacheService;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.cacheService = new SDKCacheService();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        cacheService.close();
+        super.tearDown();
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesSurviveScan() {
+        SDKCache<Integer, String> cache = cacheService.<Integer, String>builder("scan").setMaximumEntries(100).build();
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, "hot-" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals("hot-" + i, cache.get(i));
+            }
+        }
+        // Keys written once do not evict the frequently read ones
+        for (int i = 1000; i < 1900; i++) {
+            cache.put(i, "cold-" + i);
+        }
+        assertEquals(100, cache.count());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("hot-" + i, cache.get(i));
+        }
+
+        SDKCache.Stats stats = cache.stats();
+        assertEquals(300, stats.getHits());
+        assertEquals(0, stats.getMisses());
+        assertEquals(850, stats.getEvictions());
+        assertEquals(100, stats.getHeapEntries());
+    }
+
+    @Test
+    public void testMaximumWeight() {
+        SDKCache<String, String> cache = cacheService.<String, String>builder("weight")
+            .setMaximumWeight(100)
+            .setWeigher((key, value) -> value.length())
+            .build();
+        for (int i = 0; i < 5; i++) {
+            cache.put("key-" + i, "x".repeat(30));
+        }
+        assertEquals(3, cache.count());
+        assertEquals(90, cache.stats().getHeapWeight());
+        assertEquals(2, cache.stats().getEvictions());
+    }
+
+    @Test
+    public void testByteScaleMaximumWeight() {
+        SDKCache<String, String> cache = cacheService.<String, String>builder("bytes")
+            .setMaximumWeight(512L * 1024 * 1024)
+            .setWeigher((key, value) -> value.length())
+            .build();
+        // The frequency sketch is sized by a bounded number of entries rather than by bytes
+        assertTrue(cache.sketchSize() <= SDKCache.WEIGHTED_SKETCH_ENTRIES);
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key"));
+
+        SDKCache<String, String> counted = cacheService.<String, String>builder("counted")
+            .setMaximumEntries(1000)
+            .setMaximumWeight(512L * 1024 * 1024)
+            .setWeigher((key, value) -> value.length())
+            .build();
+        assertEquals(1024, counted.sketchSize());
+    }
+
+    @Test
+    public void testExpireAfterWrite() {
+        AtomicLong clock = new AtomicLong();
+        SDKCache<String, String> cache = cacheService.<String, String>builder("expiry")
+            .setMaximumEntries(10)
+            .setExpireAfterWrite(TimeValue.timeValueSeconds(1))
+            .setNanoTime(clock::get)
+            .build();
+        cache.put("key", "value");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals("value", cache.get("key"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNull(cache.get("key"));
+        assertEquals("loaded", cache.computeIfAbsent("key", k -> "loaded"));
+        assertEquals("loaded", cache.get("key"));
+
+        SDKCache.Stats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1, stats.getExpirations());
+    }
+
+    @Test
+    public void testOffHeapTier() {
+        SDKCache<String, Value> cache = cacheService.<String, Value>builder("off-heap")
+            .setMaximumEntries(2)
+            .setOffHeap(1024 * 1024, Value::new)
+            .build();
+        for (String key : new String[] { "a", "b", "c", "d" }) {
+            cache.put(key, new Value(key));
+        }
+        // Entries evicted from the heap tier are moved off-heap and promoted back when read
+        assertEquals(4, cache.count());
+        assertEquals(2, cache.stats().getOffHeapEntries());
+        for (String key : new String[] { "a", "b", "c", "d" }) {
+            assertEquals(key, cache.get(key).text);
+        }
+        assertNull(cache.get("e"));
+        assertEquals(4, cache.count());
+
+        SDKCache.Stats stats = cache.stats();
+        assertTrue(stats.getOffHeapHits() > 0);
+        assertEquals(4, stats.getHits() + stats.getOffHeapHits());
+        assertEquals(1, stats.getMisses());
+        assertTrue(stats.getOffHeapBytes() > 0);
+
+        cache.invalidate("a");
+        cache.invalidate("b");
+        cache.invalidate("c");
+        cache.invalidate("d");
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.stats().getOffHeapBytes());
+    }
+
+    @Test
+    public void testOffHeapTierKeepsExpiry() {
+        AtomicLong clock = new AtomicLong();
+        SDKCache<String, Value> cache = cacheService.<String, Value>builder("off-heap-expiry")
+            .setMaximumEntries(1)
+            .setExpireAfterWrite(TimeValue.timeValueSeconds(1))
+            .setOffHeap(1024 * 1024, Value::new)
+            .setNanoTime(clock::get)
+            .build();
+        cache.put("a", new Value("a"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        // Moving "a" off-heap and promoting it back, and then again, keeps the expiry set when it was written
+        cache.put("b", new Value("b"));
+        assertEquals("a", cache.get("a").text);
+        cache.put("c", new Value("c"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        assertEquals("a", cache.get("a").text);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void testInvalidateDuringPromotion() {
+        AtomicReference<SDKCache<String, Value>> cacheRef = new AtomicReference<>();
+        SDKCache<String, Value> cache = cacheService.<String, Value>builder("promotion").setMaximumEntries(1).setOffHeap(1024, in -> {
+            // The key is invalidated while its value is read back from off-heap memory
+            Value value = new Value(in);
+            cacheRef.get().invalidate(value.text);
+            return value;
+        }).build();
+        cacheRef.set(cache);
+        cache.put("a", new Value("a"));
+        cache.put("b", new Value("b"));
+        assertEquals(1, cache.stats().getOffHeapEntries());
+
+        assertEquals("a", cache.get("a").text);
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.count());
+    }
+
+    @Test
+    public void testMemoryMappedOffHeapTier() throws IOException {
+        Path file = createTempDir().resolve("cache");
+        SDKCache<Integer, Value> cache = cacheService.<Integer, Value>builder("mapped")
+            .setMaximumEntries(10)
+            .setOffHeap(4 * 1024, Value::new, file)
+            .build();
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, new Value("value-" + i));
+        }
+        assertTrue(Files.exists(file));
+        // The oldest off-heap segment was reclaimed to make room for newer values
+        SDKCache.Stats stats = cache.stats();
+        assertTrue(stats.getOffHeapEvictions() > 0);
+        assertTrue(stats.getOffHeapBytes() <= 4 * 1024);
+        assertEquals("value-998", cache.get(998).text);
+        assertNull(cache.get(9));
+
+        cache.close();
+        assertFalse(Files.exists(file));
+        assertNull(cacheService.getCache("mapped"));
+    }
+
+    @Test
+    public void testCacheService() {
+        SDKCache<String, String> first = cacheService.<String, String>builder("first").setMaximumEntries(10).build();
+        cacheService.<String, String>builder("second").setMaximumEntries(10).build();
+        expectThrows(IllegalArgumentException.class, () -> cacheService.<String, String>builder("first").setMaximumEntries(10).build());
+        expectThrows(IllegalArgumentException.class, () -> cacheService.<String, String>builder("unbounded").build());
+
+        first.put("key", "value");
+        first.get("key");
+        assertSame(first, cacheService.getCache("first"));
+        assertEquals(2, cacheService.stats().size());
+        assertEquals(1, cacheService.stats().get("first").getHits());
+
+        cacheService.close();
+        assertNull(cacheService.getCache("first"));
+        assertTrue(cacheService.stats().isEmpty());
+    }
+}
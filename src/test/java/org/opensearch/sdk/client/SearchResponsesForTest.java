@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.InternalSearchResponse;
+
+/**
+ * Search responses and paging clients shared by the tests of the search helpers.
+ */
+public final class SearchResponsesForTest {
+
+    private SearchResponsesForTest() {}
+
+    /**
+     * Creates a search response whose hits have ids and sort values from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param from The first hit.
+     * @param to The hit after the last one.
+     * @param pitId The point in time id of the response, or null.
+     * @return The search response.
+     */
+    public static SearchResponse createSearchResponse(int from, int to, String pitId) {
+        List<SearchHit> hits = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            SearchHit hit = new SearchHit(i, Integer.toString(i), Collections.emptyMap(), Collections.emptyMap());
+            hit.sourceRef(new BytesArray("{\"n\":" + i + "}"));
+            hit.sortValues(new Object[] { i }, new DocValueFormat[] { DocValueFormat.RAW });
+            hits.add(hit);
+        }
+        SearchHits searchHits = new SearchHits(hits.toArray(new SearchHit[0]), new TotalHits(hits.size(), TotalHits.Relation.EQUAL_TO), 1f);
+        InternalSearchResponse internal = new InternalSearchResponse(searchHits, null, null, null, false, null, 1);
+        return new SearchResponse(internal, null, 1, 1, 0, 1, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY, pitId);
+    }
+
+    /**
+     * Creates a client which pages through {@code totalHits} hits sorted by id, recording each search request.
+     *
+     * @param totalHits The number of hits.
+     * @param searchRequests The list to which each search request is added.
+     * @return The mocked client.
+     */
+    @SuppressWarnings("unchecked")
+    public static SDKRestClient mockPagingClient(int totalHits, List<SearchRequest> searchRequests) {
+        SDKRestClient client = mock(SDKRestClient.class);
+        doAnswer(invocation -> {
+            ((ActionListener<CreatePitResponse>) invocation.getArgument(1)).onResponse(
+                new CreatePitResponse("pit", 0, 1, 1, 0, 0, ShardSearchFailure.EMPTY_ARRAY)
+            );
+            return null;
+        }).when(client).createPit(any(), any());
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            searchRequests.add(request);
+            Object[] searchAfter = request.source().searchAfter();
+            int from = searchAfter == null ? 0 : ((Integer) searchAfter[0]) + 1;
+            int to = Math.min(totalHits, from + request.source().size());
+            ((ActionListener<SearchResponse>) invocation.getArgument(1)).onResponse(createSearchResponse(from, to, "pit"));
+            return null;
+        }).when(client).search(any(), any());
+        return client;
+    }
+}
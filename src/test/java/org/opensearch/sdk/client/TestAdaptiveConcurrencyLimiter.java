@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestAdaptiveConcurrencyLimiter extends OpenSearchTestCase {
+
+    @Test
+    public void testQueuesBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 2);
+        List<Integer> started = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int request = i;
+            limiter.submit(() -> started.add(request));
+        }
+        assertEquals(List.of(0, 1), started);
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getQueued());
+        assertFalse(limiter.trySubmit(() -> started.add(3)));
+
+        limiter.release(1000);
+        assertEquals(List.of(0, 1, 2), started);
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    public void testRejectsBeyondMaxQueued() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.9, 2, 1);
+        List<Integer> started = new ArrayList<>();
+        assertTrue(limiter.submit(() -> started.add(0)));
+        assertTrue(limiter.submit(() -> started.add(1)));
+        assertFalse(limiter.submit(() -> started.add(2)));
+        assertEquals(1, limiter.getQueued());
+
+        limiter.release(1000);
+        assertEquals(List.of(0, 1), started);
+        assertTrue(limiter.submit(() -> started.add(3)));
+    }
+
+    @Test
+    public void testAdditiveIncreaseMultiplicativeDecrease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 20);
+        limiter.submit(() -> {});
+        limiter.releaseFailure(true);
+        assertEquals(9, limiter.getLimit());
+
+        // About one request per unit of limit raises the limit by one
+        for (int i = 0; i < 20; i++) {
+            limiter.submit(() -> {});
+            limiter.release(1000);
+        }
+        assertEquals(11, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.submit(() -> {});
+            limiter.releaseFailure(true);
+        }
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testSlowRequestsDecreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 20);
+        // Establish a baseline latency
+        for (int i = 0; i < 100; i++) {
+            limiter.submit(() -> {});
+            limiter.release(1000);
+        }
+        assertEquals(20, limiter.getLimit());
+        limiter.submit(() -> {});
+        limiter.release(1500);
+        assertEquals(20, limiter.getLimit());
+        limiter.submit(() -> {});
+        limiter.release(5000);
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    public void testInvalidLimits() {
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(0, 0, 10));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(11, 1, 10));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(5, 1, 10, 1.5, 2, 10));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(5, 1, 10, 0.9, 2, -1));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.Request;
+import org.opensearch.sdk.ExtensionSettings;
+import org.opensearch.sdk.SDKClient;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.test.rest.OpenSearchRestTestCase;
+
+/**
+ * Benchmarks bulk indexing throughput through the SDKClient with and without HTTP compression.
+ * <p>
+ * The results are logged rather than asserted, as they depend on the network between the client and the cluster: compression trades
+ * CPU on both ends for fewer bytes on the wire, which pays off on slower links.
+ */
+public class TestBulkCompressionIT extends OpenSearchRestTestCase {
+    private static final Logger logger = LogManager.getLogger(TestBulkCompressionIT.class);
+
+    private static final int BULK_REQUESTS = 50;
+    private static final int DOCUMENTS_PER_BULK = 500;
+
+    @Test
+    public void testBulkThroughputWithAndWithoutCompression() throws Exception {
+        // Warm up the cluster and the JIT before measuring
+        runBulks("compression-warmup", false);
+        long uncompressedNanos = runBulks("compression-off", false);
+        long compressedNanos = runBulks("compression-on", true);
+
+        int documents = BULK_REQUESTS * DOCUMENTS_PER_BULK;
+        logger.info(
+            String.format(
+                Locale.ROOT,
+                "Bulk indexed %d documents: %.0f docs/s uncompressed, %.0f docs/s compressed",
+                documents,
+                documents / (uncompressedNanos / 1e9),
+                documents / (compressedNanos / 1e9)
+            )
+        );
+        for (String index : new String[] { "compression-off", "compression-on" }) {
+            client().performRequest(new Request("POST", "/" + index + "/_refresh"));
+            Map<String, Object> count = entityAsMap(client().performRequest(new Request("GET", "/" + index + "/_count")));
+            assertEquals(documents, count.get("count"));
+        }
+    }
+
+    private long runBulks(String index, boolean compression) throws Exception {
+        HttpHost host = getClusterHosts().get(0);
+        ExtensionSettings settings = new ExtensionSettings(
+            "compression-benchmark",
+            "127.0.0.1",
+            "4532",
+            host.getHostName(),
+            Integer.toString(host.getPort())
+        );
+        settings.setHttpCompressionEnabled(compression);
+        try (SDKClient sdkClient = new SDKClient(settings)) {
+            SDKRestClient client = sdkClient.initializeRestClient();
+            long start = System.nanoTime();
+            for (int i = 0; i < BULK_REQUESTS; i++) {
+                BulkRequest bulk = new BulkRequest();
+                for (int j = 0; j < DOCUMENTS_PER_BULK; j++) {
+                    bulk.add(
+                        new IndexRequest(index).source(
+                            Map.of(
+                                "message",
+                                "The quick brown fox jumps over the lazy dog " + j,
+                                "user",
+                                "user-" + (j % 100),
+                                "count",
+                                i * DOCUMENTS_PER_BULK + j
+                            )
+                        )
+                    );
+                }
+                CompletableFuture<BulkResponse> response = new CompletableFuture<>();
+                client.bulk(bulk, ActionListener.wrap(response::complete, response::completeExceptionally));
+                assertFalse(response.get(1, TimeUnit.MINUTES).hasFailures());
+            }
+            return System.nanoTime() - start;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestBulkIngester extends OpenSearchTestCase {
+
+    private final List<BulkRequest> sent = new CopyOnWriteArrayList<>();
+    private final List<ActionListener<BulkResponse>> pending = new CopyOnWriteArrayList<>();
+    private final List<BulkItemResponse> responses = new CopyOnWriteArrayList<>();
+    private final List<Exception> failures = new CopyOnWriteArrayList<>();
+
+    private final BulkIngester.Listener listener = new BulkIngester.Listener() {
+        @Override
+        public void onResponse(DocWriteRequest<?> request, BulkItemResponse response) {
+            responses.add(response);
+        }
+
+        @Override
+        public void onFailure(DocWriteRequest<?> request, Exception e) {
+            failures.add(e);
+        }
+    };
+
+    @Test
+    public void testFlushOnCountAndRetryThrottledItems() throws Exception {
+        BulkIngester ingester = BulkIngester.builder((request, l) -> {
+            sent.add(request);
+            // The first item of the first request is throttled
+            RestStatus first = sent.size() == 1 ? RestStatus.TOO_MANY_REQUESTS : RestStatus.OK;
+            BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = itemResponse(i == 0 ? first : RestStatus.OK);
+            }
+            l.onResponse(new BulkResponse(items, 1));
+        }, listener).setMaxActions(2).setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueMillis(1), 3)).build();
+
+        ingester.add(indexRequest("1"));
+        assertTrue(sent.isEmpty());
+        ingester.add(indexRequest("2"));
+        assertBusy(() -> assertEquals(2, responses.size()));
+        assertEquals(2, sent.size());
+        assertEquals(1, sent.get(1).numberOfActions());
+
+        BulkIngester.Stats stats = ingester.stats();
+        assertEquals(2, stats.getAddedActions());
+        assertEquals(2, stats.getSucceededActions());
+        assertEquals(1, stats.getRetriedActions());
+        assertEquals(2, stats.getSentRequests());
+        assertEquals(0, stats.getPendingActions());
+        assertTrue(ingester.awaitClose(1, TimeUnit.SECONDS));
+        expectThrows(IllegalStateException.class, () -> ingester.add(indexRequest("3")));
+    }
+
+    @Test
+    public void testFailFastAndMaxConcurrentRequests() throws Exception {
+        BulkIngester ingester = BulkIngester.builder((request, l) -> {
+            sent.add(request);
+            pending.add(l);
+        }, listener).setMaxActions(1).setMaxBufferedActions(2).setBlockWhenFull(false).build();
+
+        ingester.add(indexRequest("1"));
+        ingester.add(indexRequest("2"));
+        // Only one request is in flight and the buffer is full
+        assertEquals(1, sent.size());
+        assertEquals(1, ingester.stats().getQueuedRequests());
+        assertEquals(2, ingester.stats().getPendingActions());
+        expectThrows(RejectedExecutionException.class, () -> ingester.add(indexRequest("3")));
+
+        // Completing the first request sends the queued one and frees buffer space
+        pending.get(0).onResponse(new BulkResponse(new BulkItemResponse[] { itemResponse(RestStatus.OK) }, 1));
+        assertEquals(2, sent.size());
+        ingester.add(indexRequest("3"));
+
+        pending.get(1).onFailure(new IllegalStateException("failed"));
+        assertEquals(1, failures.size());
+        assertEquals(3, sent.size());
+        pending.get(2).onResponse(new BulkResponse(new BulkItemResponse[] { itemResponse(RestStatus.BAD_REQUEST) }, 1));
+        assertEquals(1, ingester.stats().getSucceededActions());
+        assertEquals(2, ingester.stats().getFailedActions());
+        assertTrue(ingester.awaitClose(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFlushInterval() throws Exception {
+        BulkIngester ingester = BulkIngester.builder((request, l) -> {
+            sent.add(request);
+            l.onResponse(new BulkResponse(new BulkItemResponse[] { itemResponse(RestStatus.OK) }, 1));
+        }, listener).setFlushInterval(TimeValue.timeValueMillis(10)).build();
+
+        ingester.add(indexRequest("1"));
+        assertBusy(() -> assertEquals(1, responses.size()));
+        assertEquals(1, sent.size());
+        ingester.close();
+    }
+
+    private static IndexRequest indexRequest(String id) {
+        return new IndexRequest("test").id(id).source("{\"field\":\"value\"}", XContentType.JSON);
+    }
+
+    private static BulkItemResponse itemResponse(RestStatus status) {
+        BulkItemResponse response = mock(BulkItemResponse.class);
+        when(response.isFailed()).thenReturn(status != RestStatus.OK);
+        when(response.status()).thenReturn(status);
+        return response;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestDocumentCache extends OpenSearchTestCase {
+
+    // The current sequence number of each document id
+    private final Map<String, Long> seqNos = new ConcurrentHashMap<>();
+    private final List<GetRequest> gets = new CopyOnWriteArrayList<>();
+    private final List<MultiGetRequest> multiGets = new CopyOnWriteArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    private DocumentCache cache(int maxEntries) {
+        return new DocumentCache((request, listener) -> {
+            gets.add(request);
+            listener.onResponse(getResponse(request.index(), request.id()));
+        }, (request, listener) -> {
+            multiGets.add(request);
+            MultiGetItemResponse[] items = new MultiGetItemResponse[request.getItems().size()];
+            for (int i = 0; i < items.length; i++) {
+                MultiGetRequest.Item item = request.getItems().get(i);
+                items[i] = new MultiGetItemResponse(getResponse(item.index(), item.id()), null);
+            }
+            listener.onResponse(new MultiGetResponse(items));
+        }, maxEntries, TimeValue.timeValueSeconds(10), TimeValue.timeValueHours(1), clock::get);
+    }
+
+    private GetResponse getResponse(String index, String id) {
+        Long seqNo = seqNos.get(id);
+        if (seqNo == null) {
+            return new GetResponse(new GetResult(index, id, -2, 0, -1, false, null, null, null));
+        }
+        BytesArray source = new BytesArray("{\"seq\":" + seqNo + "}");
+        return new GetResponse(new GetResult(index, id, seqNo, 1, seqNo + 1, true, source, Collections.emptyMap(), Collections.emptyMap()));
+    }
+
+    private GetResponse get(DocumentCache cache, GetRequest request) {
+        AtomicReference<GetResponse> response = new AtomicReference<>();
+        cache.get(request, ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+        return response.get();
+    }
+
+    @Test
+    public void testReadThroughAndInvalidate() {
+        seqNos.put("1", 0L);
+        DocumentCache cache = cache(10);
+
+        assertEquals(0, get(cache, new GetRequest("test", "1")).getSeqNo());
+        seqNos.put("1", 1L);
+        assertEquals(0, get(cache, new GetRequest("test", "1")).getSeqNo());
+        assertEquals(1, gets.size());
+
+        cache.invalidate("test", "1", null);
+        assertEquals(1, get(cache, new GetRequest("test", "1")).getSeqNo());
+        assertEquals(2, gets.size());
+
+        // Documents which do not exist are cached too
+        assertFalse(get(cache, new GetRequest("test", "2")).isExists());
+        assertFalse(get(cache, new GetRequest("test", "2")).isExists());
+        assertEquals(3, gets.size());
+
+        cache.invalidate("test", null, null);
+        assertEquals(0, cache.count());
+
+        DocumentCache.Stats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(3, stats.getMisses());
+        assertEquals(0, stats.getStaleHits());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() {
+        seqNos.put("1", 0L);
+        DocumentCache cache = cache(10);
+        get(cache, new GetRequest("test", "1"));
+
+        // An unchanged document is revalidated without fetching its source
+        clock.addAndGet(TimeValue.timeValueSeconds(11).nanos());
+        assertEquals(0, get(cache, new GetRequest("test", "1")).getSeqNo());
+        assertEquals(2, gets.size());
+        assertFalse(gets.get(1).fetchSourceContext().fetchSource());
+        get(cache, new GetRequest("test", "1"));
+        assertEquals(2, gets.size());
+
+        // A changed document is served stale, then refetched
+        seqNos.put("1", 1L);
+        clock.addAndGet(TimeValue.timeValueSeconds(11).nanos());
+        assertEquals(0, get(cache, new GetRequest("test", "1")).getSeqNo());
+        assertEquals(4, gets.size());
+        assertNull(gets.get(3).fetchSourceContext());
+        assertEquals(1, get(cache, new GetRequest("test", "1")).getSeqNo());
+        assertEquals(4, gets.size());
+
+        DocumentCache.Stats stats = cache.stats();
+        assertEquals(2, stats.getStaleHits());
+        assertEquals(2, stats.getRevalidations());
+    }
+
+    @Test
+    public void testMultiGet() {
+        seqNos.put("1", 0L);
+        seqNos.put("2", 5L);
+        DocumentCache cache = cache(10);
+        get(cache, new GetRequest("test", "1"));
+
+        AtomicReference<MultiGetResponse> response = new AtomicReference<>();
+        MultiGetRequest request = new MultiGetRequest().add("test", "1").add("test", "2");
+        cache.multiGet(request, ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+        assertEquals(1, multiGets.size());
+        assertEquals(1, multiGets.get(0).getItems().size());
+        assertEquals("2", multiGets.get(0).getItems().get(0).id());
+        assertEquals("1", response.get().getResponses()[0].getId());
+        assertEquals(5, response.get().getResponses()[1].getResponse().getSeqNo());
+
+        cache.multiGet(request, ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+        assertEquals(1, multiGets.size());
+        assertEquals(2, response.get().getResponses().length);
+    }
+
+    @Test
+    public void testRoutingIsPartOfTheKey() {
+        // Each routing holds a different document with the same id
+        DocumentCache cache = new DocumentCache((request, listener) -> {
+            gets.add(request);
+            long seqNo = request.routing() == null ? 0 : Long.parseLong(request.routing());
+            BytesArray source = new BytesArray("{}");
+            GetResult result = new GetResult(request.index(), request.id(), seqNo, 1, 1, true, source, Map.of(), Map.of());
+            listener.onResponse(new GetResponse(result));
+        }, (request, listener) -> fail("Unexpected multi-get"), 10, TimeValue.timeValueSeconds(10), TimeValue.ZERO, clock::get);
+
+        assertEquals(1, get(cache, new GetRequest("test", "1").routing("1")).getSeqNo());
+        assertEquals(2, get(cache, new GetRequest("test", "1").routing("2")).getSeqNo());
+        assertEquals(0, get(cache, new GetRequest("test", "1")).getSeqNo());
+        assertEquals(1, get(cache, new GetRequest("test", "1").routing("1")).getSeqNo());
+        assertEquals(3, gets.size());
+        assertEquals(3, cache.count());
+
+        // A write only invalidates the document with its routing
+        cache.invalidate("test", "1", "2");
+        assertEquals(2, cache.count());
+        assertEquals(2, get(cache, new GetRequest("test", "1").routing("2")).getSeqNo());
+        assertEquals(4, gets.size());
+    }
+
+    @Test
+    public void testUncacheableMultiGets() {
+        seqNos.put("1", 0L);
+        DocumentCache cache = cache(10);
+        get(cache, new GetRequest("test", "1"));
+
+        // Multi-gets which would not be served from the cache as single gets are sent as they are
+        List<MultiGetRequest> requests = List.of(
+            new MultiGetRequest().add("test", "1").preference("_local"),
+            new MultiGetRequest().add("test", "1").realtime(false),
+            new MultiGetRequest().add("test", "1").refresh(true)
+        );
+        for (MultiGetRequest request : requests) {
+            AtomicReference<MultiGetResponse> response = new AtomicReference<>();
+            cache.multiGet(request, ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+            assertEquals(0, response.get().getResponses()[0].getResponse().getSeqNo());
+            assertSame(request, multiGets.get(multiGets.size() - 1));
+        }
+        assertEquals(3, multiGets.size());
+        assertEquals(0, cache.stats().getHits());
+    }
+
+    @Test
+    public void testReadRacingWithWriteIsNotCached() {
+        seqNos.put("1", 0L);
+        AtomicReference<Runnable> pending = new AtomicReference<>();
+        DocumentCache cache = new DocumentCache((request, listener) -> {
+            GetResponse response = getResponse(request.index(), request.id());
+            pending.set(() -> listener.onResponse(response));
+        }, (request, listener) -> fail("Unexpected multi-get"), 10, TimeValue.timeValueSeconds(10), TimeValue.ZERO, clock::get);
+
+        AtomicReference<GetResponse> response = new AtomicReference<>();
+        cache.get(new GetRequest("test", "1"), ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+        cache.invalidate("test", "1", null);
+        pending.get().run();
+        assertEquals(0, response.get().getSeqNo());
+        assertEquals(0, cache.count());
+    }
+
+    @Test
+    public void testWriteBetweenCheckAndStoreIsNotCached() {
+        seqNos.put("1", 0L);
+        AtomicReference<DocumentCache> cache = new AtomicReference<>();
+        AtomicBoolean writing = new AtomicBoolean();
+        // The clock is read when the document is stored, after the read checked for invalidations
+        cache.set(new DocumentCache((request, listener) -> listener.onResponse(getResponse(request.index(), request.id())), (r, l) -> {
+            fail("Unexpected multi-get");
+        }, 10, TimeValue.timeValueSeconds(10), TimeValue.ZERO, () -> {
+            if (writing.compareAndSet(true, false)) {
+                cache.get().invalidate("test", "1", null);
+            }
+            return clock.get();
+        }));
+
+        writing.set(true);
+        assertEquals(0, get(cache.get(), new GetRequest("test", "1")).getSeqNo());
+        assertFalse(writing.get());
+        assertEquals(0, cache.get().count());
+    }
+
+    @Test
+    public void testUncacheableReadsAndEviction() {
+        seqNos.put("1", 0L);
+        seqNos.put("2", 0L);
+        DocumentCache cache = cache(1);
+
+        get(cache, new GetRequest("test", "1").preference("_local"));
+        get(cache, new GetRequest("test", "1").realtime(false));
+        get(cache, new GetRequest("test", "1").storedFields("field"));
+        assertEquals(3, gets.size());
+        assertEquals(0, cache.count());
+
+        get(cache, new GetRequest("test", "1"));
+        get(cache, new GetRequest("test", "2"));
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.stats().getEvictions());
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new DocumentCache((r, l) -> {}, (r, l) -> {}, 0, TimeValue.ZERO, TimeValue.ZERO)
+        );
+    }
+}
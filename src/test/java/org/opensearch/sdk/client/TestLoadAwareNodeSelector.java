@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.Node;
+import org.opensearch.client.Request;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.RestClient.FailureListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestLoadAwareNodeSelector extends OpenSearchTestCase {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Node node1 = new Node(new HttpHost("localhost", 9200));
+    private final Node node2 = new Node(new HttpHost("localhost", 9201));
+
+    @Test
+    public void testSkipsOverloadedNodes() {
+        LoadAwareNodeSelector selector = new LoadAwareNodeSelector(1000, clock::get);
+        assertEquals(List.of(node1, node2), select(selector));
+
+        selector.onResponse(node1.getHost(), 429);
+        assertEquals(List.of(node2), select(selector));
+
+        // All nodes overloaded, none are skipped
+        selector.onResponse(node2.getHost(), 503);
+        assertEquals(List.of(node1, node2), select(selector));
+
+        // A successful response clears the overload
+        selector.onResponse(node2.getHost(), 200);
+        assertEquals(List.of(node2), select(selector));
+
+        // The overload expires after the backoff
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(List.of(node1, node2), select(selector));
+    }
+
+    @Test
+    public void testPreferredNode() {
+        LoadAwareNodeSelector selector = new LoadAwareNodeSelector(1000, clock::get);
+        // Only the preferred node is selected
+        assertTrue(selector.runPreferring(node2.getHost(), selected -> {
+            assertEquals(List.of(node2), select(selector));
+            return selected.getAsBoolean();
+        }));
+        assertEquals(List.of(node1, node2), select(selector));
+
+        // An overloaded or unknown preferred node is ignored
+        selector.onResponse(node2.getHost(), 429);
+        assertFalse(selector.runPreferring(node2.getHost(), selected -> {
+            assertEquals(List.of(node1), select(selector));
+            return selected.getAsBoolean();
+        }));
+        assertFalse(selector.runPreferring(new HttpHost("localhost", 9202), selected -> {
+            assertEquals(List.of(node1), select(selector));
+            return selected.getAsBoolean();
+        }));
+    }
+
+    @Test
+    public void testSendsEachRequestToPreferredNode() throws IOException {
+        // The rest client rotates the selected nodes between requests, which must not move a request off the preferred node
+        HttpServer server1 = startServer();
+        HttpServer server2 = startServer();
+        List<Integer> ports = new CopyOnWriteArrayList<>();
+        server1.createContext("/", exchange -> respond(exchange, ports));
+        server2.createContext("/", exchange -> respond(exchange, ports));
+        Node preferred = new Node(new HttpHost("localhost", server2.getAddress().getPort()));
+        LoadAwareNodeSelector selector = new LoadAwareNodeSelector(1000, clock::get);
+        try (
+            RestClient client = RestClient.builder(new Node(new HttpHost("localhost", server1.getAddress().getPort())), preferred)
+                .setNodeSelector(selector)
+                .build()
+        ) {
+            for (int i = 0; i < 4; i++) {
+                selector.runPreferring(preferred.getHost(), selected -> {
+                    try {
+                        return client.performRequest(new Request("GET", "/"));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } finally {
+            server1.stop(0);
+            server2.stop(0);
+        }
+        assertEquals(Collections.nCopies(4, preferred.getHost().getPort()), ports);
+    }
+
+    @Test
+    public void testOnlyTriesPreferredNode() throws IOException {
+        // Neither node accepts connections, so the request fails on the preferred node without trying the other
+        Node closed1 = new Node(new HttpHost("localhost", closedPort()));
+        Node closed2 = new Node(new HttpHost("localhost", closedPort()));
+        List<Node> failed = new CopyOnWriteArrayList<>();
+        LoadAwareNodeSelector selector = new LoadAwareNodeSelector(1000, clock::get);
+        try (
+            RestClient client = RestClient.builder(closed1, closed2).setNodeSelector(selector).setFailureListener(new FailureListener() {
+                @Override
+                public void onFailure(Node node) {
+                    failed.add(node);
+                }
+            }).build()
+        ) {
+            assertTrue(selector.runPreferring(closed2.getHost(), selected -> {
+                expectThrows(IOException.class, () -> client.performRequest(new Request("GET", "/")));
+                return selected.getAsBoolean();
+            }));
+        }
+        assertEquals(List.of(closed2), failed);
+    }
+
+    private static HttpServer startServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, List<Integer> ports) throws IOException {
+        ports.add(exchange.getLocalAddress().getPort());
+        exchange.sendResponseHeaders(200, -1);
+        exchange.close();
+    }
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private List<Node> select(LoadAwareNodeSelector selector) {
+        List<Node> nodes = new ArrayList<>(List.of(node1, node2));
+        selector.select(nodes);
+        return nodes;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.Node;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestNodesSniffer extends OpenSearchTestCase {
+
+    @Test
+    public void testParseNodes() throws Exception {
+        String json = "{\"nodes\":{"
+            + "\"a\":{\"name\":\"data-0\",\"version\":\"3.0.0\",\"roles\":[\"data\",\"ingest\"],"
+            + "\"http\":{\"publish_address\":\"data-0.local/10.0.0.1:9200\"}},"
+            + "\"b\":{\"name\":\"coord-0\",\"version\":\"3.0.0\",\"roles\":[],\"http\":{\"publish_address\":\"10.0.0.2:9201\"}},"
+            + "\"c\":{\"name\":\"cm-0\",\"version\":\"3.0.0\",\"roles\":[\"cluster_manager\"],"
+            + "\"http\":{\"publish_address\":\"10.0.0.3:9200\"}},"
+            + "\"d\":{\"name\":\"no-http\",\"version\":\"3.0.0\",\"roles\":[\"data\"]}"
+            + "}}";
+        Map<String, Node> nodes = NodesSniffer.parseNodes(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "https");
+        assertEquals(Set.of("a", "b"), nodes.keySet());
+        assertEquals("data-0", nodes.get("a").getName());
+        assertEquals(new HttpHost("https", "data-0.local", 9200), nodes.get("a").getHost());
+        assertEquals(new HttpHost("https", "10.0.0.2", 9201), nodes.get("b").getHost());
+
+        assertTrue(NodesSniffer.parseNodes(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), "http").isEmpty());
+    }
+
+    @Test
+    public void testParsePublishAddress() {
+        assertEquals(new HttpHost("http", "localhost", 9200), NodesSniffer.parsePublishAddress("localhost/127.0.0.1:9200", "http"));
+        assertEquals(new HttpHost("http", "127.0.0.1", 9200), NodesSniffer.parsePublishAddress("/127.0.0.1:9200", "http"));
+        assertEquals(new HttpHost("http", "::1", 9200), NodesSniffer.parsePublishAddress("[::1]:9200", "http"));
+    }
+}
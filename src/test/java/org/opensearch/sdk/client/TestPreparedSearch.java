@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.Request;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
+import org.opensearch.client.RestClient;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestPreparedSearch extends OpenSearchTestCase {
+
+    private static SearchSourceBuilder source(Object user, Object age, Object tags) {
+        return new SearchSourceBuilder().size(10)
+            .query(
+                QueryBuilders.boolQuery()
+                    .filter(QueryBuilders.termQuery("user", user))
+                    .filter(QueryBuilders.rangeQuery("age").gte(age))
+                    .filter(QueryBuilders.termsQuery("tag", tags))
+            );
+    }
+
+    private static Map<String, Object> toMap(byte[] body) {
+        return XContentHelper.convertToMap(new BytesArray(body), true, XContentType.JSON).v2();
+    }
+
+    private static Map<String, Object> toMap(SearchSourceBuilder source) throws Exception {
+        return toMap(BytesReference.toBytes(BytesReference.bytes(source.toXContent(JsonXContent.contentBuilder(), EMPTY_PARAMS))));
+    }
+
+    @Test
+    public void testRender() throws Exception {
+        PreparedSearch search = new PreparedSearch(
+            source(PreparedSearch.slot("user"), PreparedSearch.slot("age"), List.of(PreparedSearch.slot("tags"))),
+            "test"
+        );
+        assertEquals(Set.of("user", "age", "tags"), search.getSlots());
+
+        Map<String, Object> values = Map.of("user", "al\"ice", "age", 30, "tags", List.of("a", "b"));
+        assertEquals(toMap(source("al\"ice", 30, List.of("a", "b"))), toMap(search.render(values)));
+        // The serialized template is reused for each execution
+        assertEquals(toMap(source("bob", 40L, List.of())), toMap(search.render(Map.of("user", "bob", "age", 40L, "tags", List.of()))));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> search.render(Map.of("user", "bob")));
+        assertTrue(e.getMessage().contains("Missing value for slot"));
+    }
+
+    @Test
+    public void testToRequest() throws Exception {
+        PreparedSearch search = new PreparedSearch(new SearchSourceBuilder().query(QueryBuilders.termQuery("user", "{{user}}")), "a", "b");
+        Request request = search.toRequest(Map.of("user", "alice"));
+        assertEquals("POST", request.getMethod());
+        assertEquals("/a,b/_search", request.getEndpoint());
+        assertEquals("true", request.getParameters().get("typed_keys"));
+        assertEquals(
+            toMap(new SearchSourceBuilder().query(QueryBuilders.termQuery("user", "alice"))),
+            toMap(EntityUtils.toByteArray(request.getEntity()))
+        );
+        assertEquals("/_search", new PreparedSearch(new SearchSourceBuilder()).toRequest(Collections.emptyMap()).getEndpoint());
+    }
+
+    @Test
+    public void testPreparedSearchAsync() throws Exception {
+        SearchResponse expected = SearchResponsesForTest.createSearchResponse(0, 3, null);
+        byte[] body = BytesReference.toBytes(
+            BytesReference.bytes(expected.toXContent(JsonXContent.contentBuilder(), EMPTY_PARAMS))
+        );
+        Response response = mock(Response.class);
+        when(response.getEntity()).thenReturn(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        RestClient restClient = mock(RestClient.class);
+        AtomicReference<Request> sent = new AtomicReference<>();
+        doAnswer(invocation -> {
+            sent.set(invocation.getArgument(0));
+            ((ResponseListener) invocation.getArgument(1)).onSuccess(response);
+            return null;
+        }).when(restClient).performRequestAsync(any(), any());
+
+        try (SDKRestHighLevelClient client = new SDKRestHighLevelClient(restClient, c -> {}, Collections.emptyList())) {
+            PreparedSearch search = new PreparedSearch(new SearchSourceBuilder().query(QueryBuilders.termQuery("user", "{{user}}")));
+            AtomicReference<SearchResponse> result = new AtomicReference<>();
+            client.preparedSearchAsync(
+                search,
+                Map.of("user", "alice"),
+                RequestOptions.DEFAULT,
+                ActionListener.wrap(result::set, e -> fail(e.getMessage()))
+            );
+            assertEquals("/_search", sent.get().getEndpoint());
+            assertEquals(3, result.get().getHits().getHits().length);
+
+            // A missing value fails the listener without sending a request
+            sent.set(null);
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            client.preparedSearchAsync(search, Map.of(), RequestOptions.DEFAULT, ActionListener.wrap(r -> fail(), failure::set));
+            assertTrue(failure.get() instanceof IllegalArgumentException);
+            assertNull(sent.get());
+        }
+    }
+}
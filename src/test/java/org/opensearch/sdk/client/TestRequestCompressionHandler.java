@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.junit.jupiter.api.Test;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class TestRequestCompressionHandler extends OpenSearchTestCase {
+
+    private static byte[] bulkBody(int documents) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < documents; i++) {
+            body.append("{\"index\":{\"_index\":\"test\",\"_id\":\"").append(i).append("\"}}\n");
+            body.append("{\"message\":\"the quick brown fox jumps over the lazy dog\",\"count\":").append(i).append("}\n");
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] produce(AsyncEntityProducer producer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boolean[] ended = new boolean[1];
+        DataStreamChannel channel = new DataStreamChannel() {
+            @Override
+            public void requestOutput() {}
+
+            @Override
+            public int write(ByteBuffer src) {
+                int length = src.remaining();
+                byte[] bytes = new byte[length];
+                src.get(bytes);
+                out.write(bytes, 0, length);
+                return length;
+            }
+
+            @Override
+            public void endStream() {
+                ended[0] = true;
+            }
+
+            @Override
+            public void endStream(List<? extends Header> trailers) {
+                ended[0] = true;
+            }
+        };
+        while (!ended[0]) {
+            producer.produce(channel);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testCompressesLargeBodies() throws IOException {
+        RequestCompressionHandler handler = new RequestCompressionHandler(1024);
+        byte[] body = bulkBody(100);
+        AsyncEntityProducer compressed = handler.maybeCompress(new BasicAsyncEntityProducer(body, ContentType.APPLICATION_JSON));
+        assertEquals("gzip", compressed.getContentEncoding());
+        assertTrue(compressed.getContentType().startsWith("application/json"));
+        assertTrue(compressed.getContentLength() < body.length / 4);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(produce(compressed)))) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testSendsOtherBodiesUnchanged() throws IOException {
+        RequestCompressionHandler handler = new RequestCompressionHandler(1024);
+        assertNull(handler.maybeCompress(null));
+        AsyncEntityProducer small = new BasicAsyncEntityProducer(bulkBody(1), ContentType.APPLICATION_JSON);
+        assertSame(small, handler.maybeCompress(small));
+
+        // A body which does not shrink is sent uncompressed
+        byte[] random = randomByteArrayOfLength(4096);
+        AsyncEntityProducer incompressible = handler.maybeCompress(
+            new BasicAsyncEntityProducer(random, ContentType.APPLICATION_OCTET_STREAM)
+        );
+        assertNull(incompressible.getContentEncoding());
+        assertArrayEquals(random, produce(incompressible));
+
+        expectThrows(IllegalArgumentException.class, () -> new RequestCompressionHandler(-1));
+    }
+
+    @Test
+    public void testExecuteProceedsWithCompressedBody() throws Exception {
+        RequestCompressionHandler handler = new RequestCompressionHandler(0);
+        AsyncExecChain chain = mock(AsyncExecChain.class);
+        BasicHttpRequest request = new BasicHttpRequest("POST", "/_bulk");
+        handler.execute(request, new BasicAsyncEntityProducer(bulkBody(10), ContentType.APPLICATION_JSON), null, chain, null);
+        verify(chain).proceed(eq(request), argThat(p -> "gzip".equals(p.getContentEncoding())), any(), any());
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.client.Cancellable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.sdk.client.RequestPolicy.RequestClass;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestRequestPolicy extends OpenSearchTestCase {
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        scheduler.shutdownNow();
+        super.tearDown();
+    }
+
+    private RequestPolicy policy(int maxRetries, double hedgePercentile, Supplier<AdaptiveConcurrencyLimiter> limiters) {
+        return new RequestPolicy(
+            maxRetries,
+            TimeValue.timeValueMillis(1),
+            TimeValue.timeValueMillis(10),
+            hedgePercentile,
+            limiters,
+            scheduler,
+            random()
+        );
+    }
+
+    private static <T> CompletableFuture<T> execute(RequestPolicy policy, boolean idempotent, Consumer<ActionListener<T>> request) {
+        return execute(policy, RequestClass.GET, idempotent, request);
+    }
+
+    private static <T> CompletableFuture<T> execute(
+        RequestPolicy policy,
+        RequestClass requestClass,
+        boolean idempotent,
+        Consumer<ActionListener<T>> request
+    ) {
+        return executeCancellable(policy, requestClass, idempotent, l -> {
+            request.accept(l);
+            return Cancellable.NO_OP;
+        });
+    }
+
+    private static <T> CompletableFuture<T> executeCancellable(
+        RequestPolicy policy,
+        RequestClass requestClass,
+        boolean idempotent,
+        Function<ActionListener<T>, Cancellable> request
+    ) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        policy.execute(requestClass, idempotent, request, ActionListener.wrap(future::complete, future::completeExceptionally));
+        return future;
+    }
+
+    @Test
+    public void testRetriesTransientFailures() throws Exception {
+        RequestPolicy policy = policy(3, 0, null);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> future = execute(policy, true, l -> {
+            if (attempts.incrementAndGet() <= 2) {
+                l.onFailure(new OpenSearchStatusException("rejected", RestStatus.TOO_MANY_REQUESTS));
+            } else {
+                l.onResponse("ok");
+            }
+        });
+        assertEquals("ok", future.get(10, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertEquals(2, policy.stats().getRetries());
+
+        // Retries are bounded
+        attempts.set(0);
+        CompletableFuture<String> failing = execute(policy, true, l -> {
+            attempts.incrementAndGet();
+            l.onFailure(new ConnectException("refused"));
+        });
+        ExecutionException e = expectThrows(ExecutionException.class, () -> failing.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof ConnectException);
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    public void testDoesNotRetryNonIdempotentOrPermanentFailures() {
+        RequestPolicy policy = policy(3, 0, null);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> write = execute(policy, false, l -> {
+            attempts.incrementAndGet();
+            l.onFailure(new OpenSearchStatusException("rejected", RestStatus.TOO_MANY_REQUESTS));
+        });
+        assertTrue(write.isCompletedExceptionally());
+        CompletableFuture<String> badRequest = execute(policy, true, l -> {
+            attempts.incrementAndGet();
+            l.onFailure(new OpenSearchStatusException("bad", RestStatus.BAD_REQUEST));
+        });
+        assertTrue(badRequest.isCompletedExceptionally());
+        assertEquals(2, attempts.get());
+        assertEquals(0, policy.stats().getRetries());
+    }
+
+    @Test
+    public void testHedgesSlowRequests() throws Exception {
+        RequestPolicy policy = policy(0, 50, () -> new AdaptiveConcurrencyLimiter(10, 1, 10));
+        // Too few latencies have been recorded to hedge
+        assertEquals(-1, policy.hedgeDelayNanos(RequestClass.GET));
+        for (int i = 0; i < 20; i++) {
+            execute(policy, true, l -> l.onResponse("fast"));
+        }
+        assertTrue(policy.hedgeDelayNanos(RequestClass.GET) >= 0);
+        // Latencies of other request classes do not set their hedging delay
+        assertEquals(-1, policy.hedgeDelayNanos(RequestClass.BULK));
+
+        // The first attempt never completes, so the hedge's response is used
+        List<ActionListener<String>> attempts = new CopyOnWriteArrayList<>();
+        CompletableFuture<String> future = execute(policy, true, l -> {
+            if (attempts.isEmpty()) {
+                attempts.add(l);
+            } else {
+                attempts.add(l);
+                l.onResponse("hedged");
+            }
+        });
+        assertEquals("hedged", future.get(10, TimeUnit.SECONDS));
+        assertEquals(2, attempts.size());
+        assertEquals(1, policy.stats().getHedges());
+        assertEquals(1, policy.stats().getHedgeWins());
+
+        // The late response of the first attempt is ignored
+        attempts.get(0).onResponse("late");
+        assertEquals(0, policy.stats().getInFlight());
+    }
+
+    @Test
+    public void testCancelsLosingHedge() throws Exception {
+        RequestPolicy policy = policy(0, 50, null);
+        for (int i = 0; i < 20; i++) {
+            execute(policy, true, l -> l.onResponse("fast"));
+        }
+        // The first attempt never completes, and is cancelled once the hedge responds
+        Cancellable first = mock(Cancellable.class);
+        Cancellable hedge = mock(Cancellable.class);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> future = executeCancellable(policy, RequestClass.GET, true, l -> {
+            if (attempts.incrementAndGet() == 1) {
+                return first;
+            }
+            l.onResponse("hedged");
+            return hedge;
+        });
+        assertEquals("hedged", future.get(10, TimeUnit.SECONDS));
+        verify(first).cancel();
+        verify(hedge, never()).cancel();
+    }
+
+    @Test
+    public void testFailuresDoNotRecordLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10);
+        RequestPolicy policy = policy(0, 50, () -> limiter);
+        for (int i = 0; i < 100; i++) {
+            execute(policy, true, l -> { throw new IllegalStateException("failed to send"); });
+            execute(policy, true, l -> l.onFailure(new OpenSearchStatusException("missing", RestStatus.NOT_FOUND)));
+        }
+        // Neither the hedging delay nor the baseline latency of the limiter were set from failures, so a slow response is not a sign
+        // of overload
+        assertEquals(-1, policy.hedgeDelayNanos(RequestClass.GET));
+        limiter.submit(() -> {});
+        limiter.release(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testDoesNotRetryOnceClosed() {
+        RequestPolicy policy = policy(3, 0, null);
+        policy.close();
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> future = execute(policy, true, l -> {
+            attempts.incrementAndGet();
+            l.onFailure(new ConnectException("refused"));
+        });
+        ExecutionException e = expectThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof ConnectException);
+        assertEquals(1, attempts.get());
+        assertEquals(0, policy.stats().getRetries());
+    }
+
+    @Test
+    public void testLimitsConcurrency() {
+        RequestPolicy policy = policy(0, 0, () -> new AdaptiveConcurrencyLimiter(1, 1, 1));
+        List<ActionListener<String>> pending = new CopyOnWriteArrayList<>();
+        CompletableFuture<String> first = execute(policy, false, pending::add);
+        CompletableFuture<String> second = execute(policy, false, pending::add);
+        assertEquals(1, pending.size());
+        assertEquals(1, policy.stats().getQueued());
+
+        pending.get(0).onResponse("first");
+        assertEquals("first", first.join());
+        assertEquals(2, pending.size());
+        pending.get(1).onResponse("second");
+        assertEquals("second", second.join());
+        assertEquals(0, policy.stats().getInFlight());
+    }
+
+    @Test
+    public void testLimitsConcurrencyPerRequestClass() {
+        RequestPolicy policy = policy(0, 0, () -> new AdaptiveConcurrencyLimiter(10, 1, 10, 0.9, 2, 1));
+        // Fast gets set the baseline of their class only
+        for (int i = 0; i < 100; i++) {
+            execute(policy, RequestClass.GET, true, l -> l.onResponse("fast"));
+        }
+        List<ActionListener<String>> bulks = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            execute(policy, RequestClass.BULK, false, bulks::add);
+        }
+        assertEquals(10, bulks.size());
+        CompletableFuture<String> queued = execute(policy, RequestClass.BULK, false, bulks::add);
+        assertEquals(1, policy.stats().getQueued());
+
+        // A full queue rejects further requests rather than growing
+        CompletableFuture<String> rejected = execute(policy, RequestClass.BULK, false, bulks::add);
+        ExecutionException e = expectThrows(ExecutionException.class, rejected::get);
+        assertTrue(e.getCause() instanceof OpenSearchRejectedExecutionException);
+        assertEquals(1, policy.stats().getRejections());
+        // Other request classes are not limited by the bulks
+        assertEquals("get", execute(policy, RequestClass.GET, true, l -> l.onResponse("get")).join());
+
+        for (int i = 0; i < 10; i++) {
+            bulks.get(i).onResponse("bulk");
+        }
+        bulks.get(10).onResponse("queued");
+        assertEquals("queued", queued.join());
+        assertEquals(10, policy.getConcurrencyLimit(RequestClass.BULK));
+        assertEquals(0, policy.stats().getInFlight());
+    }
+
+    @Test
+    public void testRetryDelayAndRetryableFailures() {
+        RequestPolicy policy = policy(3, 0, null);
+        for (int retry = 1; retry < 40; retry++) {
+            long delay = policy.retryDelayNanos(retry);
+            assertTrue(delay >= 0);
+            assertTrue(delay <= TimeValue.timeValueMillis(Math.min(10, 1L << Math.min(retry - 1, 10))).nanos());
+        }
+        assertTrue(RequestPolicy.isRetryable(new IOException("reset")));
+        assertTrue(RequestPolicy.isRetryable(new OpenSearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE)));
+        assertFalse(RequestPolicy.isRetryable(new OpenSearchStatusException("missing", RestStatus.NOT_FOUND)));
+        assertFalse(RequestPolicy.isRetryable(new IllegalArgumentException("invalid")));
+        assertTrue(RequestPolicy.isOverloaded(new OpenSearchStatusException("rejected", RestStatus.TOO_MANY_REQUESTS)));
+        assertFalse(RequestPolicy.isOverloaded(new IOException("reset")));
+        expectThrows(IllegalArgumentException.class, () -> policy(-1, 0, null));
+        expectThrows(IllegalArgumentException.class, () -> policy(0, 100, null));
+    }
+}
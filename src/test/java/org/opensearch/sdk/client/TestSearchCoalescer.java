@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestSearchCoalescer extends OpenSearchTestCase {
+
+    private final List<SearchRequest> searches = new CopyOnWriteArrayList<>();
+    private final List<MultiSearchRequest> multiSearches = new CopyOnWriteArrayList<>();
+    private final List<Object> results = new CopyOnWriteArrayList<>();
+
+    private final ActionListener<SearchResponse> listener = ActionListener.wrap(results::add, results::add);
+
+    private SearchCoalescer coalescer(TimeValue window, int maxBatchSize) {
+        return new SearchCoalescer((request, l) -> {
+            searches.add(request);
+            l.onResponse(SearchResponsesForTest.createSearchResponse(0, 1, null));
+        }, (request, l) -> {
+            multiSearches.add(request);
+            MultiSearchResponse.Item[] items = new MultiSearchResponse.Item[request.requests().size()];
+            for (int i = 0; i < items.length; i++) {
+                // The second search of each batch fails
+                items[i] = i == 1
+                    ? new MultiSearchResponse.Item(null, new IllegalStateException("search failed"))
+                    : new MultiSearchResponse.Item(SearchResponsesForTest.createSearchResponse(0, i + 1, null), null);
+            }
+            l.onResponse(new MultiSearchResponse(items, 1));
+        }, window, maxBatchSize);
+    }
+
+    @Test
+    public void testBatchBySize() {
+        SearchCoalescer coalescer = coalescer(TimeValue.timeValueHours(1), 3);
+        for (int i = 0; i < 3; i++) {
+            coalescer.search(new SearchRequest("test"), listener);
+        }
+        assertEquals(1, multiSearches.size());
+        assertEquals(3, multiSearches.get(0).requests().size());
+        assertEquals(3, results.size());
+        assertEquals(1, ((SearchResponse) results.get(0)).getHits().getHits().length);
+        assertTrue(results.get(1) instanceof IllegalStateException);
+        assertEquals(3, ((SearchResponse) results.get(2)).getHits().getHits().length);
+
+        SearchCoalescer.Stats stats = coalescer.stats();
+        assertEquals(1, stats.getBatches());
+        assertEquals(3, stats.getSearches());
+        assertEquals(3, stats.getLargestBatch());
+        assertEquals(3.0, stats.getAverageBatchSize(), 0.0);
+        coalescer.close();
+        expectThrows(IllegalStateException.class, () -> coalescer.search(new SearchRequest("test"), listener));
+    }
+
+    @Test
+    public void testBatchByWindow() throws Exception {
+        SearchCoalescer coalescer = coalescer(TimeValue.timeValueMillis(5), 100);
+        coalescer.search(new SearchRequest("test"), listener);
+        coalescer.search(new SearchRequest("test"), listener);
+        assertBusy(() -> assertEquals(2, results.size()));
+        assertEquals(1, multiSearches.size());
+
+        // A single search is sent without multi-search
+        coalescer.search(new SearchRequest("test"), listener);
+        assertBusy(() -> assertEquals(3, results.size()));
+        assertEquals(1, searches.size());
+        assertEquals(2, coalescer.stats().getBatches());
+
+        // Scroll searches are not coalesced
+        coalescer.search(new SearchRequest("test").scroll(TimeValue.timeValueMinutes(1)), listener);
+        assertEquals(2, searches.size());
+
+        // Neither are pages of a point in time or search_after, which are sent without waiting for the window
+        coalescer.search(new SearchRequest().source(new SearchSourceBuilder().pointInTimeBuilder(new PointInTimeBuilder("pit"))), listener);
+        assertEquals(3, searches.size());
+        coalescer.search(new SearchRequest("test").source(new SearchSourceBuilder().searchAfter(new Object[] { 1L })), listener);
+        assertEquals(4, searches.size());
+        assertEquals(2, coalescer.stats().getBatches());
+        coalescer.close();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestSearchHitIterator extends OpenSearchTestCase {
+
+    private final SearchRequest searchRequest = new SearchRequest("test").source(new SearchSourceBuilder().sort("n", SortOrder.ASC));
+
+    @Test
+    public void testIterateAllHits() {
+        List<SearchRequest> searchRequests = new ArrayList<>();
+        SDKRestClient client = SearchResponsesForTest.mockPagingClient(25, searchRequests);
+        List<String> ids = new ArrayList<>();
+        try (SearchHitIterator hits = iterator(client, 1)) {
+            hits.forEachRemaining(hit -> ids.add(hit.getId()));
+        }
+        assertEquals(IntStream.range(0, 25).mapToObj(Integer::toString).collect(Collectors.toList()), ids);
+        assertEquals(3, searchRequests.size());
+        assertArrayEquals(new Object[] { 19 }, searchRequests.get(2).source().searchAfter());
+        verify(client, times(1)).deletePit(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void testPrefetchIsBounded() {
+        List<SearchRequest> searchRequests = new ArrayList<>();
+        SDKRestClient client = SearchResponsesForTest.mockPagingClient(100, searchRequests);
+        try (Stream<SearchHit> stream = iterator(client, 1).stream()) {
+            assertEquals(5, stream.limit(5).count());
+        }
+        // The page being consumed and one prefetched page
+        assertEquals(2, searchRequests.size());
+        verify(client, times(1)).deletePit(any(DeletePitRequest.class), any());
+
+        searchRequests.clear();
+        try (SearchHitIterator hits = iterator(client, 0)) {
+            assertTrue(hits.hasNext());
+        }
+        assertEquals(1, searchRequests.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFailure() {
+        SDKRestClient client = SearchResponsesForTest.mockPagingClient(25, new ArrayList<>());
+        doAnswer(invocation -> {
+            ((ActionListener<SearchResponse>) invocation.getArgument(1)).onFailure(new IllegalStateException("search failed"));
+            return null;
+        }).when(client).search(any(), any());
+        SearchHitIterator hits = iterator(client, 1);
+        expectThrows(UncheckedIOException.class, hits::hasNext);
+        assertFalse(hits.hasNext());
+        verify(client, times(1)).deletePit(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void testCopiesSearchSettings() {
+        List<SearchRequest> searchRequests = new ArrayList<>();
+        SDKRestClient client = SearchResponsesForTest.mockPagingClient(5, searchRequests);
+        SearchRequest routed = new SearchRequest("test").source(new SearchSourceBuilder().sort("n", SortOrder.ASC))
+            .routing("r")
+            .preference("_local")
+            .indicesOptions(IndicesOptions.strictExpandOpen());
+        TimeValue keepAlive = TimeValue.timeValueMinutes(1);
+        try (SearchHitIterator hits = new SearchHitIterator(client, routed, 10, 1, keepAlive, TimeValue.timeValueSeconds(10))) {
+            hits.forEachRemaining(hit -> {});
+        }
+
+        ArgumentCaptor<CreatePitRequest> createPit = ArgumentCaptor.forClass(CreatePitRequest.class);
+        verify(client).createPit(createPit.capture(), any());
+        assertArrayEquals(new String[] { "test" }, createPit.getValue().indices());
+        assertEquals("r", createPit.getValue().getRouting());
+        assertEquals("_local", createPit.getValue().getPreference());
+        assertEquals(IndicesOptions.strictExpandOpen(), createPit.getValue().indicesOptions());
+        assertEquals(1, searchRequests.size());
+        assertEquals("r", searchRequests.get(0).routing());
+        assertEquals("_local", searchRequests.get(0).preference());
+        assertEquals(IndicesOptions.strictExpandOpen(), searchRequests.get(0).indicesOptions());
+    }
+
+    @Test
+    public void testRequiresSort() {
+        expectThrows(IllegalArgumentException.class, () -> new SearchHitIterator(mock(SDKRestClient.class), new SearchRequest("test")));
+    }
+
+    private SearchHitIterator iterator(SDKRestClient client, int prefetchPages) {
+        return new SearchHitIterator(
+            client,
+            searchRequest,
+            10,
+            prefetchPages,
+            TimeValue.timeValueMinutes(1),
+            TimeValue.timeValueSeconds(10)
+        );
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestShardRoutingBulkSplitter extends OpenSearchTestCase {
+
+    private static final String INDEX = "test-index";
+
+    private final IndexMetadata indexMetadata = IndexMetadata.builder(INDEX)
+        .settings(settings(Version.CURRENT))
+        .numberOfShards(2)
+        .numberOfReplicas(0)
+        .build();
+    private final ClusterState clusterState = ClusterState.builder(new ClusterName("test"))
+        .metadata(Metadata.builder().put(indexMetadata, false))
+        .routingTable(
+            RoutingTable.builder()
+                .add(
+                    IndexRoutingTable.builder(indexMetadata.getIndex())
+                        .addShard(TestShardRouting.newShardRouting(INDEX, 0, "node_a", true, ShardRoutingState.STARTED))
+                        .addShard(TestShardRouting.newShardRouting(INDEX, 1, "node_b", true, ShardRoutingState.STARTED))
+                )
+                .build()
+        )
+        .build();
+
+    @Test
+    public void testGroupByPrimaryNode() {
+        BulkRequest request = new BulkRequest();
+        for (int i = 0; i < 10; i++) {
+            request.add(indexRequest(Integer.toString(i)));
+        }
+        request.add(new IndexRequest(INDEX).source("{}", XContentType.JSON));
+        request.add(new DeleteRequest("missing-index", "1"));
+
+        Map<String, List<Integer>> groups = ShardRoutingBulkSplitter.groupByPrimaryNode(request, clusterState);
+        for (int i = 0; i < 10; i++) {
+            String expected = OperationRouting.generateShardId(indexMetadata, Integer.toString(i), null) == 0 ? "node_a" : "node_b";
+            assertTrue(groups.get(expected).contains(i));
+        }
+        assertEquals(List.of(10, 11), groups.get(ShardRoutingBulkSplitter.UNROUTED));
+    }
+
+    @Test
+    public void testExecuteMergesResponses() {
+        BulkRequest request = new BulkRequest();
+        for (int i = 0; i < 10; i++) {
+            request.add(indexRequest(Integer.toString(i)));
+        }
+        Map<String, List<Integer>> groups = ShardRoutingBulkSplitter.groupByPrimaryNode(request, clusterState);
+        assumeTrue("documents should be routed to both nodes", groups.size() == 2);
+
+        List<String> nodeIds = new ArrayList<>();
+        AtomicReference<BulkResponse> merged = new AtomicReference<>();
+        ShardRoutingBulkSplitter.execute(request, clusterState, (nodeId, part, listener) -> {
+            nodeIds.add(nodeId);
+            if ("node_b".equals(nodeId)) {
+                listener.onFailure(new IllegalStateException("node_b failed"));
+                return;
+            }
+            BulkItemResponse[] items = new BulkItemResponse[part.numberOfActions()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = mock(BulkItemResponse.class);
+                when(items[i].getItemId()).thenReturn(i);
+                when(items[i].getOpType()).thenReturn(DocWriteRequest.OpType.INDEX);
+            }
+            listener.onResponse(new BulkResponse(items, 5));
+        }, ActionListener.wrap(merged::set, e -> fail(e.getMessage())));
+
+        assertEquals(List.of("node_a", "node_b"), nodeIds.stream().sorted().collect(Collectors.toList()));
+        BulkItemResponse[] items = merged.get().getItems();
+        assertEquals(10, items.length);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, items[i].getItemId());
+            assertEquals(groups.get("node_b").contains(i), items[i].isFailed());
+        }
+        assertTrue(merged.get().hasFailures());
+    }
+
+    private static IndexRequest indexRequest(String id) {
+        return new IndexRequest(INDEX).id(id).source("{\"field\":\"value\"}", XContentType.JSON);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestSlicedSearchScanner extends OpenSearchTestCase {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final SearchRequest searchRequest = new SearchRequest("test").source(new SearchSourceBuilder().sort("n", SortOrder.ASC));
+
+    @AfterEach
+    public void shutdownExecutor() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testScanSlices() throws Exception {
+        List<SearchRequest> searchRequests = Collections.synchronizedList(new ArrayList<>());
+        // The mock ignores slices, so each slice returns every hit
+        SDKRestClient client = SearchResponsesForTest.mockPagingClient(25, searchRequests);
+        SlicedSearchScanner scanner = new SlicedSearchScanner(
+            client,
+            executor,
+            3,
+            2,
+            10,
+            TimeValue.timeValueMinutes(1),
+            TimeValue.timeValueSeconds(10)
+        );
+
+        AtomicLong consumed = new AtomicLong();
+        assertEquals(75, scanner.scan(searchRequest.routing("r"), hit -> consumed.incrementAndGet()));
+        assertEquals(75, consumed.get());
+        assertEquals(9, searchRequests.size());
+        Set<Integer> sliceIds;
+        synchronized (searchRequests) {
+            sliceIds = searchRequests.stream().map(r -> r.source().slice().getId()).collect(Collectors.toSet());
+            assertTrue(searchRequests.stream().allMatch(r -> r.source().slice().getMax() == 3));
+            assertTrue(searchRequests.stream().allMatch(r -> "pit".equals(r.source().pointInTimeBuilder().getId())));
+            assertTrue(searchRequests.stream().allMatch(r -> "r".equals(r.routing())));
+        }
+        assertEquals(Set.of(0, 1, 2), sliceIds);
+        // One point in time is shared by all slices
+        verify(client, times(1)).createPit(any(CreatePitRequest.class), any());
+        verify(client, times(1)).deletePit(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void testConsumerFailure() {
+        SDKRestClient client = SearchResponsesForTest.mockPagingClient(25, Collections.synchronizedList(new ArrayList<>()));
+        SlicedSearchScanner scanner = new SlicedSearchScanner(client, executor, 2);
+        IOException e = expectThrows(IOException.class, () -> scanner.scan(searchRequest, hit -> {
+            throw new IllegalStateException("consumer failed");
+        }));
+        assertEquals("consumer failed", e.getCause().getMessage());
+        verify(client, times(1)).deletePit(any(DeletePitRequest.class), any());
+        expectThrows(IllegalArgumentException.class, () -> new SlicedSearchScanner(client, executor, 0));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.Request;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestStreamingSearchParser extends OpenSearchTestCase {
+
+    private static byte[] body(int hits) throws IOException {
+        SearchResponse response = SearchResponsesForTest.createSearchResponse(0, hits, null);
+        return BytesReference.toBytes(BytesReference.bytes(response.toXContent(JsonXContent.contentBuilder(), ToXContent.EMPTY_PARAMS)));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static SearchResponse parse(byte[] envelope) throws IOException {
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE,
+                envelope
+            )
+        ) {
+            return SearchResponse.fromXContent(parser);
+        }
+    }
+
+    @Test
+    public void testParsesHitsIncrementally() throws IOException {
+        byte[] body = body(25);
+        List<SearchHit> hits = new ArrayList<>();
+        StreamingSearchParser parser = new StreamingSearchParser(hits::add);
+        assertFalse(parser.isStarted());
+
+        // Chunks split tokens at arbitrary positions
+        int offset = 0;
+        while (offset < body.length) {
+            int length = Math.min(body.length - offset, randomIntBetween(1, 64));
+            parser.feed(body, offset, length);
+            offset += length;
+            if (offset < body.length / 2) {
+                assertTrue(hits.size() < 25);
+            }
+        }
+        assertTrue(parser.isStarted());
+        assertEquals(25, hits.size());
+        assertEquals(25, parser.getHits());
+        for (int i = 0; i < hits.size(); i++) {
+            assertEquals(Integer.toString(i), hits.get(i).getId());
+            assertEquals(i, hits.get(i).getSourceAsMap().get("n"));
+        }
+
+        SearchResponse response = parse(parser.finish());
+        assertEquals(0, response.getHits().getHits().length);
+        assertEquals(25, response.getHits().getTotalHits().value);
+        assertEquals(1, response.getSuccessfulShards());
+    }
+
+    @Test
+    public void testIncompleteBody() throws IOException {
+        byte[] body = body(3);
+        StreamingSearchParser parser = new StreamingSearchParser(hit -> {});
+        parser.feed(body, 0, body.length / 2);
+        expectThrows(IOException.class, parser::finish);
+        expectThrows(IOException.class, () -> new StreamingSearchParser(hit -> {}).finish());
+    }
+
+    @Test
+    public void testResponseConsumer() throws Exception {
+        // A compressed body is decompressed into the parser as it arrives, in chunks splitting the gzip header and trailer
+        byte[] compressed = gzip(body(10));
+        List<SearchHit> hits = new ArrayList<>();
+        StreamingSearchParser parser = new StreamingSearchParser(hits::add);
+        StreamingSearchResponseConsumer consumer = new StreamingSearchResponseConsumer(parser);
+        BasicHttpResponse response = new BasicHttpResponse(200, "OK");
+        response.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        consumer.start(response, ContentType.APPLICATION_JSON);
+        int offset = 0;
+        while (offset < compressed.length) {
+            int length = Math.min(compressed.length - offset, randomIntBetween(1, 16));
+            consumer.data(ByteBuffer.wrap(compressed, offset, length), false);
+            offset += length;
+        }
+        assertEquals(10, hits.size());
+        consumer.data(ByteBuffer.allocate(0), true);
+        ClassicHttpResponse result = consumer.buildResult();
+        assertEquals(200, result.getCode());
+        assertNull(result.getEntity());
+        assertNull(result.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(10, hits.size());
+        assertEquals(10, parse(parser.finish()).getHits().getTotalHits().value);
+
+        // A truncated or corrupt body fails
+        StreamingSearchResponseConsumer truncated = new StreamingSearchResponseConsumer(new StreamingSearchParser(hit -> {}));
+        truncated.start(response, ContentType.APPLICATION_JSON);
+        expectThrows(IOException.class, () -> truncated.data(ByteBuffer.wrap(compressed, 0, compressed.length - 1), true));
+        compressed[compressed.length - 8] ^= 1;
+        StreamingSearchResponseConsumer corrupt = new StreamingSearchResponseConsumer(new StreamingSearchParser(hit -> {}));
+        corrupt.start(response, ContentType.APPLICATION_JSON);
+        expectThrows(IOException.class, () -> corrupt.data(ByteBuffer.wrap(compressed), true));
+
+        // A consumed body cannot be consumed again by a retry
+        expectThrows(IOException.class, () -> new StreamingSearchResponseConsumer(parser).start(response, ContentType.APPLICATION_JSON));
+
+        // An error is buffered for the low level client
+        StreamingSearchResponseConsumer errorConsumer = new StreamingSearchResponseConsumer(new StreamingSearchParser(hits::add));
+        errorConsumer.start(new BasicHttpResponse(400, "Bad Request"), ContentType.APPLICATION_JSON);
+        errorConsumer.data(ByteBuffer.wrap("{\"error\":\"bad\"}".getBytes(StandardCharsets.UTF_8)), true);
+        assertEquals("{\"error\":\"bad\"}", EntityUtils.toString(errorConsumer.buildResult().getEntity()));
+    }
+
+    @Test
+    public void testToLowLevelRequest() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("a", "b").routing("r")
+            .source(new SearchSourceBuilder().query(QueryBuilders.matchAllQuery()));
+        Request request = SDKRestHighLevelClient.toLowLevelRequest(searchRequest);
+        assertEquals("/a,b/_search", request.getEndpoint());
+        assertEquals("true", request.getParameters().get("typed_keys"));
+        assertEquals("r", request.getParameters().get("routing"));
+        assertEquals("query_then_fetch", request.getParameters().get("search_type"));
+        assertEquals("open", request.getParameters().get("expand_wildcards"));
+        assertTrue(EntityUtils.toString(request.getEntity()).contains("match_all"));
+        assertEquals("true", request.getParameters().get("ccs_minimize_roundtrips"));
+        assertFalse(request.getParameters().containsKey("batched_reduce_size"));
+        assertFalse(request.getParameters().containsKey("max_concurrent_shard_requests"));
+
+        // Index names are encoded and the parameters the high level client sends are copied
+        searchRequest = new SearchRequest("a b", "c/d");
+        searchRequest.setBatchedReduceSize(16);
+        searchRequest.setMaxConcurrentShardRequests(2);
+        searchRequest.setPreFilterShardSize(64);
+        searchRequest.setCcsMinimizeRoundtrips(false);
+        searchRequest.setCancelAfterTimeInterval(TimeValue.timeValueSeconds(30));
+        request = SDKRestHighLevelClient.toLowLevelRequest(searchRequest);
+        assertEquals("/a%20b,c%2Fd/_search", request.getEndpoint());
+        assertEquals("16", request.getParameters().get("batched_reduce_size"));
+        assertEquals("2", request.getParameters().get("max_concurrent_shard_requests"));
+        assertEquals("64", request.getParameters().get("pre_filter_shard_size"));
+        assertEquals("false", request.getParameters().get("ccs_minimize_roundtrips"));
+        assertEquals("30s", request.getParameters().get("cancel_after_time_interval"));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestContentLineIterator extends OpenSearchTestCase {
+
+    @Test
+    public void testLines() {
+        ContentLineIterator lines = new ContentLineIterator(new BytesArray("{\"a\":1}\n\n{\"b\":2}\r\n{\"c\":3}"));
+        List<String> result = new ArrayList<>();
+        lines.forEachRemaining(line -> result.add(line.utf8ToString()));
+        assertEquals(List.of("{\"a\":1}", "{\"b\":2}", "{\"c\":3}"), result);
+        expectThrows(NoSuchElementException.class, lines::next);
+
+        assertFalse(new ContentLineIterator(new BytesArray("\n\n")).hasNext());
+        assertFalse(new ContentLineIterator(new BytesArray("")).hasNext());
+    }
+
+    @Test
+    public void testForEachParser() throws Exception {
+        RestRequest request = TestSDKRestRequest.createTestRestRequest(
+            Method.POST,
+            "/import",
+            "/import",
+            Collections.emptyMap(),
+            Map.of("Content-Type", List.of("application/x-ndjson")),
+            XContentType.JSON,
+            new BytesArray("{\"name\":\"foo\"}\n{\"name\":\"bar\"}\n"),
+            "",
+            null
+        );
+        List<String> names = new ArrayList<>();
+        ContentLineIterator.forEachParser(request, parser -> names.add(parser.mapStrings().get("name")));
+        assertEquals(List.of("foo", "bar"), names);
+    }
+}
@@ -140,6 +140,15 @@ public class TestExtensionRestPathRegistry extends OpenSearchTestCase {
         assertNull(extensionRestPathRegistry.getHandler(Method.POST, "/bar/europa"));
     }
 
+    @Test
+    public void testGetRouteName() {
+        assertEquals("foo", extensionRestPathRegistry.getRouteName(Method.GET, "/foo"));
+        assertEquals("bar_planet", extensionRestPathRegistry.getRouteName(Method.PUT, "/bar/mars"));
+        assertEquals("bar_baz", extensionRestPathRegistry.getRouteName(Method.PUT, "/bar/baz"));
+        assertNull(extensionRestPathRegistry.getRouteName(Method.POST, "/deprecated/foo"));
+        assertNull(extensionRestPathRegistry.getRouteName(Method.PUT, "/foo"));
+    }
+
     @Test
     public void testGetRegisteredPaths() {
         List<String> registeredPaths = extensionRestPathRegistry.getRegisteredPaths();
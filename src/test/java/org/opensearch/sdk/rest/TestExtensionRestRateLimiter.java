@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestExtensionRestRateLimiter extends OpenSearchTestCase {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testParseLimits() {
+        Map<String, ExtensionRestRateLimiter.Limit> limits = ExtensionRestRateLimiter.parseLimits("hw:greet=10:5, other=0.5");
+        assertEquals(2, limits.size());
+        assertTrue(limits.containsKey("hw:greet"));
+        assertTrue(limits.containsKey("other"));
+        assertTrue(ExtensionRestRateLimiter.parseLimits("").isEmpty());
+        assertTrue(ExtensionRestRateLimiter.parseLimits(null).isEmpty());
+        expectThrows(IllegalArgumentException.class, () -> ExtensionRestRateLimiter.parseLimits("greet"));
+        expectThrows(IllegalArgumentException.class, () -> ExtensionRestRateLimiter.parseLimits("greet=fast"));
+        expectThrows(IllegalArgumentException.class, () -> ExtensionRestRateLimiter.parseLimits("greet=0"));
+    }
+
+    @Test
+    public void testTokenBucket() {
+        ExtensionRestRateLimiter limiter = new ExtensionRestRateLimiter(null, clock::get);
+        limiter.setLimits("greet=10:2");
+
+        // Burst of 2, then throttled
+        assertTrue(limiter.tryAcquire("greet", Collections.emptyMap()));
+        assertTrue(limiter.tryAcquire("greet", Collections.emptyMap()));
+        assertFalse(limiter.tryAcquire("greet", Collections.emptyMap()));
+
+        // Unlimited and unnamed routes are never throttled
+        assertTrue(limiter.tryAcquire("other", Collections.emptyMap()));
+        assertTrue(limiter.tryAcquire(null, Collections.emptyMap()));
+
+        // One permit refills every 100ms
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(limiter.tryAcquire("greet", Collections.emptyMap()));
+        assertFalse(limiter.tryAcquire("greet", Collections.emptyMap()));
+        assertEquals(1, limiter.retryAfterSeconds("greet"));
+
+        // Removing the limit stops throttling
+        limiter.setLimits(null);
+        assertTrue(limiter.tryAcquire("greet", Collections.emptyMap()));
+    }
+
+    @Test
+    public void testClientBuckets() {
+        ExtensionRestRateLimiter limiter = new ExtensionRestRateLimiter("X-Client-Id", clock::get);
+        limiter.setLimits("greet=1:1");
+
+        assertTrue(limiter.tryAcquire("greet", Map.of("x-client-id", List.of("a"))));
+        assertFalse(limiter.tryAcquire("greet", Map.of("x-client-id", List.of("a"))));
+        assertTrue(limiter.tryAcquire("greet", Map.of("X-Client-Id", List.of("b"))));
+        // Requests without the header share a bucket
+        assertTrue(limiter.tryAcquire("greet", Collections.emptyMap()));
+        assertFalse(limiter.tryAcquire("greet", Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.opensearch.sdk.rest.BaseExtensionRestHandler.JSON_CONTENT_TYPE;
+
+public class TestExtensionRestResponseCache extends OpenSearchTestCase {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final Function<RestRequest, RestResponse> handler = request -> {
+        invocations.incrementAndGet();
+        return new ExtensionRestResponse(request, RestStatus.OK, JSON_CONTENT_TYPE, "{\"name\":\"" + request.param("name") + "\"}");
+    };
+
+    private static RestRequest createRequest(String path, Map<String, String> params, Map<String, List<String>> headers) {
+        return TestSDKRestRequest.createTestRestRequest(Method.GET, path, path, params, headers, null, new BytesArray(""), "", null);
+    }
+
+    @Test
+    public void testCacheHitAndMiss() {
+        ExtensionRestResponseCache cache = new ExtensionRestResponseCache(TimeValue.timeValueMinutes(1), 10);
+
+        ExtensionRestResponse first = cache.getOrCompute("hello", createRequest("/hello", Map.of("name", "foo"), Map.of()), handler);
+        ExtensionRestResponse second = cache.getOrCompute("hello", createRequest("/hello", Map.of("name", "foo"), Map.of()), handler);
+        assertEquals(1, invocations.get());
+        assertEquals(RestStatus.OK, second.status());
+        assertEquals(first.content(), second.content());
+        assertEquals(first.getHeaders().get("ETag"), second.getHeaders().get("ETag"));
+        assertEquals(List.of("name"), second.getConsumedParams());
+
+        // Different params are a different entry
+        cache.getOrCompute("hello", createRequest("/hello", Map.of("name", "bar"), Map.of()), handler);
+        assertEquals(2, invocations.get());
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    public void testIfNoneMatch() {
+        ExtensionRestResponseCache cache = new ExtensionRestResponseCache(TimeValue.timeValueMinutes(1), 10);
+        ExtensionRestResponse response = cache.getOrCompute("hello", createRequest("/hello", Map.of("name", "foo"), Map.of()), handler);
+        String etag = response.getHeaders().get("ETag").get(0);
+
+        ExtensionRestResponse notModified = cache.getOrCompute(
+            "hello",
+            createRequest("/hello", Map.of("name", "foo"), Map.of("If-None-Match", List.of(etag))),
+            handler
+        );
+        assertEquals(1, invocations.get());
+        assertEquals(RestStatus.NOT_MODIFIED, notModified.status());
+        assertEquals(0, notModified.content().length());
+        assertEquals(List.of(etag), notModified.getHeaders().get("ETag"));
+
+        ExtensionRestResponse modified = cache.getOrCompute(
+            "hello",
+            createRequest("/hello", Map.of("name", "foo"), Map.of("If-None-Match", List.of("\"stale\""))),
+            handler
+        );
+        assertEquals(RestStatus.OK, modified.status());
+    }
+
+    @Test
+    public void testKeyHeaders() {
+        ExtensionRestResponseCache cache = new ExtensionRestResponseCache(TimeValue.timeValueMinutes(1), 10, List.of("Accept"));
+        for (String accept : List.of("application/json", "text/plain", "text/plain")) {
+            cache.getOrCompute("hello", createRequest("/hello", Collections.emptyMap(), Map.of("Accept", List.of(accept))), handler);
+        }
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testConcurrentMissesRunHandlerOnce() throws Exception {
+        ExtensionRestResponseCache cache = new ExtensionRestResponseCache(TimeValue.timeValueMinutes(1), 10);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<RestRequest, RestResponse> slowHandler = request -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return handler.apply(request);
+        };
+        List<ExtensionRestResponse> responses = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Thread thread = new Thread(
+                () -> responses.add(cache.getOrCompute("hello", createRequest("/hello", Map.of("name", "foo"), Map.of()), slowHandler))
+            );
+            threads.add(thread);
+            thread.start();
+        }
+        // Both requests wait, one in the handler and the other for its response
+        assertBusy(() -> {
+            for (Thread thread : threads) {
+                assertEquals(Thread.State.WAITING, thread.getState());
+            }
+        });
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, invocations.get());
+        assertEquals(2, responses.size());
+        assertEquals(responses.get(0).content(), responses.get(1).content());
+        assertEquals(List.of("name"), responses.get(1).getConsumedParams());
+    }
+
+    @Test
+    public void testInvalidationAndEviction() {
+        ExtensionRestResponseCache cache = new ExtensionRestResponseCache(TimeValue.timeValueMinutes(1), 2);
+        cache.getOrCompute("hello", createRequest("/hello", Map.of("name", "a"), Map.of()), handler);
+        cache.getOrCompute("goodbye", createRequest("/goodbye", Map.of("name", "b"), Map.of()), handler);
+        assertEquals(2, cache.count());
+
+        cache.invalidateRoute("hello");
+        assertEquals(1, cache.count());
+        cache.invalidatePath("/goodbye");
+        assertEquals(0, cache.count());
+
+        for (String name : List.of("a", "b", "c")) {
+            cache.getOrCompute("hello", createRequest("/hello", Map.of("name", name), Map.of()), handler);
+        }
+        assertEquals(2, cache.count());
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+
+        // Non-OK responses are not cached
+        Function<RestRequest, RestResponse> notFound = r -> new ExtensionRestResponse(r, RestStatus.NOT_FOUND, "");
+        RestRequest request = createRequest("/hello", Map.of(), Map.of());
+        assertEquals(RestStatus.NOT_FOUND, cache.getOrCompute("hello", request, notFound).status());
+        assertEquals(0, cache.count());
+
+        // Failures of the handler are thrown to the caller
+        expectThrows(IllegalStateException.class, () -> cache.getOrCompute("hello", createRequest("/hello", Map.of(), Map.of()), r -> {
+            throw new IllegalStateException("failed");
+        }));
+        assertEquals(0, cache.count());
+
+        expectThrows(IllegalArgumentException.class, () -> new ExtensionRestResponseCache(TimeValue.timeValueMinutes(1), 0));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestExtensionRestResponseCompressor extends OpenSearchTestCase {
+
+    private final byte[] content = "{\"hello\":\"world\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testSelectEncoding() {
+        assertNull(ExtensionRestResponseCompressor.selectEncoding(null));
+        assertNull(ExtensionRestResponseCompressor.selectEncoding(List.of("identity")));
+        assertEquals("gzip", ExtensionRestResponseCompressor.selectEncoding(List.of("deflate, gzip;q=0.5")));
+        assertEquals("deflate", ExtensionRestResponseCompressor.selectEncoding(List.of("gzip;q=0, deflate")));
+        assertEquals("gzip", ExtensionRestResponseCompressor.selectEncoding(List.of("*")));
+        assertNull(ExtensionRestResponseCompressor.selectEncoding(List.of("gzip;q=0", "br")));
+        // An explicit q=0 takes precedence over the wildcard, wherever it appears
+        assertEquals("deflate", ExtensionRestResponseCompressor.selectEncoding(List.of("*, gzip;q=0")));
+        assertEquals("deflate", ExtensionRestResponseCompressor.selectEncoding(List.of("gzip;q=0", "*")));
+        assertNull(ExtensionRestResponseCompressor.selectEncoding(List.of("gzip;q=0, deflate;q=0, *")));
+        assertNull(ExtensionRestResponseCompressor.selectEncoding(List.of("*;q=0")));
+        assertEquals("gzip", ExtensionRestResponseCompressor.selectEncoding(List.of("*;q=0, gzip")));
+    }
+
+    @Test
+    public void testGzipCompression() throws Exception {
+        ExtensionRestResponseCompressor compressor = new ExtensionRestResponseCompressor(1024);
+        Map<String, List<String>> responseHeaders = new HashMap<>();
+        byte[] compressed = compressor.maybeCompress(
+            Map.of("accept-encoding", List.of("gzip, deflate")),
+            RestStatus.OK,
+            responseHeaders,
+            content
+        );
+        assertTrue(compressed.length < content.length);
+        assertEquals(List.of("gzip"), responseHeaders.get("Content-Encoding"));
+        assertEquals(List.of("Accept-Encoding"), responseHeaders.get("Vary"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testDeflateCompression() throws Exception {
+        ExtensionRestResponseCompressor compressor = new ExtensionRestResponseCompressor(0);
+        Map<String, List<String>> responseHeaders = new HashMap<>();
+        Map<String, List<String>> requestHeaders = Map.of("Accept-Encoding", List.of("deflate"));
+        byte[] compressed = compressor.maybeCompress(requestHeaders, RestStatus.OK, responseHeaders, content);
+        assertEquals(List.of("deflate"), responseHeaders.get("Content-Encoding"));
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testNoCompression() {
+        ExtensionRestResponseCompressor compressor = new ExtensionRestResponseCompressor(content.length + 1);
+        Map<String, List<String>> responseHeaders = new HashMap<>();
+        Map<String, List<String>> requestHeaders = Map.of("Accept-Encoding", List.of("gzip"));
+
+        // Below threshold
+        assertSame(content, compressor.maybeCompress(requestHeaders, RestStatus.OK, responseHeaders, content));
+        assertTrue(responseHeaders.isEmpty());
+
+        // No accepted encoding
+        compressor = new ExtensionRestResponseCompressor(0);
+        assertSame(content, compressor.maybeCompress(Map.of(), RestStatus.OK, responseHeaders, content));
+        assertTrue(responseHeaders.isEmpty());
+
+        // Already encoded
+        responseHeaders.put("Content-Encoding", List.of("br"));
+        assertSame(content, compressor.maybeCompress(requestHeaders, RestStatus.OK, responseHeaders, content));
+        assertEquals(List.of("br"), responseHeaders.get("Content-Encoding"));
+
+        expectThrows(IllegalArgumentException.class, () -> new ExtensionRestResponseCompressor(-1));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.sdk.client.SearchResponsesForTest;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TestNdJsonSearchExporter extends OpenSearchTestCase {
+
+    @Test
+    public void testExport() throws Exception {
+        List<SearchRequest> searchRequests = new ArrayList<>();
+        SDKRestClient client = SearchResponsesForTest.mockPagingClient(25, searchRequests);
+        NdJsonSearchExporter exporter = new NdJsonSearchExporter(client, 10, TimeValue.timeValueMinutes(1), TimeValue.timeValueSeconds(10));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SearchRequest searchRequest = new SearchRequest("test").source(new SearchSourceBuilder().sort("n", SortOrder.ASC));
+        assertEquals(25, exporter.export(searchRequest, out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(25, lines.length);
+        assertEquals("{\"_id\":\"0\",\"_source\":{\"n\":0}}", lines[0]);
+        assertEquals("{\"_id\":\"24\",\"_source\":{\"n\":24}}", lines[24]);
+
+        assertEquals(3, searchRequests.size());
+        assertNull(searchRequests.get(0).source().searchAfter());
+        assertEquals("pit", searchRequests.get(1).source().pointInTimeBuilder().getId());
+        assertArrayEquals(new Object[] { 19 }, searchRequests.get(2).source().searchAfter());
+        verify(client, times(1)).createPit(any(CreatePitRequest.class), any());
+        verify(client, times(1)).deletePit(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void testExportRequiresSort() {
+        NdJsonSearchExporter exporter = new NdJsonSearchExporter(mock(SDKRestClient.class));
+        expectThrows(IllegalArgumentException.class, () -> exporter.export(new SearchRequest("test"), new ByteArrayOutputStream()));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new NdJsonSearchExporter(mock(SDKRestClient.class), 0, TimeValue.timeValueMinutes(1), TimeValue.timeValueMinutes(1))
+        );
+    }
+}
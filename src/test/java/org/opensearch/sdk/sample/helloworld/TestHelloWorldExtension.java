@@ -9,12 +9,16 @@
 
 package org.opensearch.sdk.sample.helloworld;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.hc.core5.http.HttpHost;
 import org.junit.jupiter.api.AfterEach;
@@ -24,21 +28,28 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionResponse;
 import org.opensearch.action.ActionType;
+import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.TransportAction;
 import org.opensearch.client.Node;
 import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.extensions.action.RemoteExtensionActionResponse;
 import org.opensearch.sdk.api.ActionExtension.ActionHandler;
 import org.opensearch.sdk.rest.ExtensionRestHandler;
 import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
 import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
 import org.opensearch.sdk.sample.helloworld.transport.SampleResponse;
+import org.opensearch.tasks.Task;
 import org.opensearch.tasks.TaskManager;
 import org.opensearch.sdk.ExtensionSettings;
 import org.opensearch.sdk.ExtensionsRunner;
 import org.opensearch.sdk.SDKClient;
 import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.sdk.action.RemoteExtensionAction;
+import org.opensearch.sdk.action.RemoteExtensionActionRequest;
 import org.opensearch.sdk.action.SDKActionModule;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -57,6 +68,7 @@ public class TestHelloWorldExtension extends OpenSearchTestCase {
     private SDKClient sdkClient;
     private SDKRestClient sdkRestClient;
     private OpenSearchAsyncClient javaAsyncClient;
+    private TaskManager taskManager;
     private final ExtensionSettings extensionSettings = new ExtensionSettings("", "", "", "localhost", "9200");
 
     static class UnregisteredAction extends ActionType<SampleResponse> {
@@ -77,7 +89,7 @@ public class TestHelloWorldExtension extends OpenSearchTestCase {
         // Do portions of Guice injection needed for this test
         Settings settings = Settings.builder().put(ExtensionsRunner.NODE_NAME_SETTING, "test").build();
         ThreadPool threadPool = new ThreadPool(settings);
-        TaskManager taskManager = new TaskManager(settings, threadPool, Collections.emptySet());
+        this.taskManager = new TaskManager(settings, threadPool, Collections.emptySet());
         this.sdkClient = new SDKClient(extensionSettings);
         this.injector = Guice.createInjector(new SDKActionModule(extension), b -> {
             b.bind(ThreadPool.class).toInstance(threadPool);
@@ -267,6 +279,8 @@ public class TestHelloWorldExtension extends OpenSearchTestCase {
         SampleRequest request = new SampleRequest(expectedName);
         CompletableFuture<SampleResponse> responseFuture = new CompletableFuture<>();
 
+        // Without a remote action to fall back to, an unregistered action can not be executed
+        sdkClient.initialize(Map.of());
         IllegalStateException ex = assertThrows(
             IllegalStateException.class,
             () -> sdkClient.execute(UnregisteredAction.INSTANCE, request, new ActionListener<SampleResponse>() {
@@ -285,6 +299,91 @@ public class TestHelloWorldExtension extends OpenSearchTestCase {
         assertEquals("failed to find action [" + UnregisteredAction.INSTANCE + "] to execute", ex.getMessage());
     }
 
+    @Test
+    public void testUnregisteredActionExecutesRemotely() throws Exception {
+        SampleRequest request = new SampleRequest("world");
+        AtomicReference<RemoteExtensionActionRequest> sentRequest = new AtomicReference<>();
+        sdkClient.initialize(Map.of(RemoteExtensionAction.INSTANCE, remoteAction(sentRequest, true, new SampleResponse("Hello, world"))));
+
+        CompletableFuture<SampleResponse> responseFuture = new CompletableFuture<>();
+        sdkClient.execute(
+            UnregisteredAction.INSTANCE,
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+
+        assertEquals("Hello, world", responseFuture.get(1, TimeUnit.SECONDS).getGreeting());
+        assertEquals(UnregisteredAction.class.getName(), sentRequest.get().getAction());
+        assertEquals(SampleRequest.class.getName(), sentRequest.get().getRequestClass());
+    }
+
+    @Test
+    public void testRegisteredActionExecutesLocally() throws Exception {
+        AtomicReference<RemoteExtensionActionRequest> sentRequest = new AtomicReference<>();
+        @SuppressWarnings("rawtypes")
+        Map<ActionType, TransportAction> actions = new HashMap<>(
+            this.injector.getInstance(new Key<Map<ActionType, TransportAction>>() {
+            })
+        );
+        actions.put(RemoteExtensionAction.INSTANCE, remoteAction(sentRequest, true, new SampleResponse("Hello, remote")));
+        sdkClient.initialize(actions);
+
+        CompletableFuture<SampleResponse> responseFuture = new CompletableFuture<>();
+        sdkClient.execute(
+            SampleAction.INSTANCE,
+            new SampleRequest("local"),
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+
+        assertEquals("Hello, local", responseFuture.get(1, TimeUnit.SECONDS).getGreeting());
+        assertNull(sentRequest.get());
+    }
+
+    @Test
+    public void testRemoteActionFailure() throws Exception {
+        AtomicReference<RemoteExtensionActionRequest> sentRequest = new AtomicReference<>();
+        sdkClient.initialize(Map.of(RemoteExtensionAction.INSTANCE, remoteAction(sentRequest, false, null)));
+
+        CompletableFuture<SampleResponse> responseFuture = new CompletableFuture<>();
+        sdkClient.executeRemote(
+            SampleAction.INSTANCE,
+            new SampleRequest("world"),
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> responseFuture.get(1, TimeUnit.SECONDS));
+        assertTrue(ex.getCause() instanceof IllegalStateException);
+        assertEquals("Remote extension action [" + SampleAction.NAME + "] failed: remote failure", ex.getCause().getMessage());
+        assertEquals(SampleAction.class.getName(), sentRequest.get().getAction());
+    }
+
+    private TransportAction<RemoteExtensionActionRequest, RemoteExtensionActionResponse> remoteAction(
+        AtomicReference<RemoteExtensionActionRequest> sentRequest,
+        boolean success,
+        SampleResponse response
+    ) {
+        return new TransportAction<>(RemoteExtensionAction.NAME, new ActionFilters(Collections.emptySet()), taskManager) {
+            @Override
+            protected void doExecute(
+                Task task,
+                RemoteExtensionActionRequest request,
+                ActionListener<RemoteExtensionActionResponse> listener
+            ) {
+                sentRequest.set(request);
+                try (BytesStreamOutput out = new BytesStreamOutput()) {
+                    if (success) {
+                        response.writeTo(out);
+                    } else {
+                        out.writeBytes("remote failure".getBytes(StandardCharsets.UTF_8));
+                    }
+                    listener.onResponse(new RemoteExtensionActionResponse(success, BytesReference.toBytes(out.bytes())));
+                } catch (IOException e) {
+                    listener.onFailure(e);
+                }
+            }
+        };
+    }
+
     @Test
     public void testValidatedSettings() {
         final String expected = "foo";